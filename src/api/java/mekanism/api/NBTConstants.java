@@ -63,6 +63,7 @@ public final class NBTConstants {
     public static final String COMPONENT_SECURITY = "componentSecurity";
     public static final String COMPONENT_UPGRADE = "componentUpgrade";
     public static final String CONFIG = "config";
+    public static final String CONFIG_HASH = "configHash";
     public static final String CONNECTION = "connection";
     public static final String CONTAINER = "Container";
     public static final String CONTROL_TYPE = "controlType";
@@ -125,6 +126,7 @@ public final class NBTConstants {
     public static final String MODULES = "modules";
     public static final String NAME = "name";
     public static final String NUM_POWERING = "numPowering";
+    public static final String ORE_INDEX = "oreIndex";
     public static final String ORIGINAL_LOCATION = "originalLocation";
     public static final String OUTPUT_MODE = "outputMode";
     public static final String OVERRIDE = "override";
@@ -156,6 +158,7 @@ public final class NBTConstants {
     public static final String REQUIRE_STACK = "requireStack";
     public static final String ROUND_ROBIN = "roundRobin";
     public static final String RUNNING = "running";
+    public static final String SECTIONS = "sections";
     public static final String SECURITY_MODE = "securityMode";
     public static final String SELECTED = "selected";
     public static final String SIDE = "side";
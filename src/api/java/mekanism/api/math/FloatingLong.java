@@ -1,7 +1,5 @@
 package mekanism.api.math;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
@@ -37,6 +35,10 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * The value which represents 1.0, this is one more than the value of {@link #MAX_DECIMAL}
      */
     private static final short SINGLE_UNIT = MAX_DECIMAL + 1;
+    /**
+     * The value which represents 1.0 when multiplying two values represented in terms of {@link #SINGLE_UNIT}
+     */
+    private static final long SINGLE_UNIT_SQUARED = (long) SINGLE_UNIT * SINGLE_UNIT;
     /**
      * A constant holding the value {@code 0}
      */
@@ -192,8 +194,10 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * @param decimal The decimal value to set
      *
      * @return If this {@link FloatingLong} is constant, it returns a new object otherwise it returns this {@link FloatingLong} after updating the internal values.
+     *
+     * @implNote Package private so that {@link FloatingLongAccumulator} can set its value in place.
      */
-    private FloatingLong setAndClampValues(long value, short decimal) {
+    FloatingLong setAndClampValues(long value, short decimal) {
         if (decimal < 0) {
             decimal = 0;
         } else if (decimal > MAX_DECIMAL) {
@@ -300,15 +304,18 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * {@code value = value.timesEqual(toMultiply)}
      */
     public FloatingLong timesEqual(FloatingLong toMultiply) {
-        //(a+b)*(c+d) where numbers represent decimal, numbers represent value
         if (multiplyLongsWillOverFlow(value, toMultiply.value)) {
             return MAX_VALUE;
         }
-        FloatingLong temp = create(multiplyLongs(value, toMultiply.value));//a * c
-        temp = temp.plusEqual(multiplyLongAndDecimal(value, toMultiply.decimal));//a * d
-        temp = temp.plusEqual(multiplyLongAndDecimal(toMultiply.value, decimal));//b * c
-        temp = temp.plusEqual(multiplyDecimals(decimal, toMultiply.decimal));//b * d
-        return setAndClampValues(temp.value, temp.decimal);
+        //Multiply the values as unsigned 128 bit numbers of units (1 / SINGLE_UNIT), giving the product in units squared
+        long unitsLo = value * SINGLE_UNIT + decimal;
+        long unitsHi = unitsHigh(value, unitsLo, decimal);
+        long otherUnitsLo = toMultiply.value * SINGLE_UNIT + toMultiply.decimal;
+        long otherUnitsHi = unitsHigh(toMultiply.value, otherUnitsLo, toMultiply.decimal);
+        //Note: As the whole number portions don't overflow when multiplied at most one of the high parts is non zero, and the product fits in 128 bits
+        long productLo = unitsLo * otherUnitsLo;
+        long productHi = multiplyHighUnsigned(unitsLo, otherUnitsLo) + unitsHi * otherUnitsLo + unitsLo * otherUnitsHi;
+        return setAndClampFromUnits(productHi, productLo, SINGLE_UNIT_SQUARED);
     }
 
     /**
@@ -328,10 +335,45 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
         if (toDivide.isZero()) {
             throw new ArithmeticException("Division by zero");
         }
-        BigDecimal divide = new BigDecimal(toString()).divide(new BigDecimal(toDivide.toString()), DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
-        long value = divide.longValue();
-        short decimal = parseDecimal(divide.toPlainString());
-        return setAndClampValues(value, decimal);
+        //Divide as unsigned 128 bit numbers, with the numerator in units squared (1 / SINGLE_UNIT^2) and the denominator in units (1 / SINGLE_UNIT) so that
+        // the quotient is in units
+        long unitsLo = value * SINGLE_UNIT + decimal;
+        long unitsHi = unitsHigh(value, unitsLo, decimal);
+        long numeratorLo = unitsLo * SINGLE_UNIT;
+        long numeratorHi = unitsHi * SINGLE_UNIT + multiplyHighUnsigned(unitsLo, SINGLE_UNIT);
+        long denominatorLo = toDivide.value * SINGLE_UNIT + toDivide.decimal;
+        long denominatorHi = unitsHigh(toDivide.value, denominatorLo, toDivide.decimal);
+        long quotientHi = 0, quotientLo = 0, remainderHi = 0, remainderLo = 0;
+        if (numeratorHi == 0 && denominatorHi == 0) {
+            quotientLo = Long.divideUnsigned(numeratorLo, denominatorLo);
+            remainderLo = Long.remainderUnsigned(numeratorLo, denominatorLo);
+        } else {
+            //Binary long division, starting at the highest set bit of the numerator
+            int bits = numeratorHi == 0 ? 64 - Long.numberOfLeadingZeros(numeratorLo) : 128 - Long.numberOfLeadingZeros(numeratorHi);
+            for (int bit = bits - 1; bit >= 0; bit--) {
+                remainderHi = (remainderHi << 1) | (remainderLo >>> 63);
+                remainderLo = (remainderLo << 1) | ((bit >= 64 ? numeratorHi >>> (bit - 64) : numeratorLo >>> bit) & 1);
+                if (compareUnsigned(remainderHi, remainderLo, denominatorHi, denominatorLo) >= 0) {
+                    remainderHi -= denominatorHi + (Long.compareUnsigned(remainderLo, denominatorLo) < 0 ? 1 : 0);
+                    remainderLo -= denominatorLo;
+                    if (bit >= 64) {
+                        quotientHi |= 1L << (bit - 64);
+                    } else {
+                        quotientLo |= 1L << bit;
+                    }
+                }
+            }
+        }
+        //Round half even based on how the remainder compares to half the denominator
+        // Note: The remainder is less than the denominator which is at most 78 bits, so doubling it cannot overflow
+        int comparison = compareUnsigned((remainderHi << 1) | (remainderLo >>> 63), remainderLo << 1, denominatorHi, denominatorLo);
+        if (comparison > 0 || comparison == 0 && (quotientLo & 1) == 1) {
+            quotientLo++;
+            if (quotientLo == 0) {
+                quotientHi++;
+            }
+        }
+        return setAndClampFromUnits(quotientHi, quotientLo, SINGLE_UNIT);
     }
 
     /**
@@ -645,6 +687,21 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
         return valueCompare;
     }
 
+    /**
+     * Compares this {@link FloatingLong} to an unsigned long primitive without having to create a {@link FloatingLong} to represent it.
+     *
+     * @param toCompare The value to compare to represented as an unsigned long.
+     *
+     * @return zero if equal to toCompare, less than zero if smaller than toCompare, and greater than zero if bigger than toCompare
+     */
+    public int compareTo(long toCompare) {
+        int valueCompare = Long.compareUnsigned(value, toCompare);
+        if (valueCompare == 0) {
+            return decimal > 0 ? 2 : 0;
+        }
+        return valueCompare;
+    }
+
     /**
      * Specialization of {@link #equals(Object)} for comparing two {@link FloatingLong}s
      *
@@ -862,34 +919,54 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
     }
 
     /**
-     * Internal helper to multiply two longs and clamp if they overflow.
+     * Internal helper to get the high 64 bits of the unsigned 128 bit product of two unsigned longs.
      */
-    private static long multiplyLongs(long a, long b) {
-        if (a == 0 || b == 0) {
-            return 0;
-        } else if (multiplyLongsWillOverFlow(a, b)) {
-            return -1;
-        }
-        return a * b;
+    static long multiplyHighUnsigned(long a, long b) {
+        long aLow = a & 0xFFFFFFFFL;
+        long aHigh = a >>> 32;
+        long bLow = b & 0xFFFFFFFFL;
+        long bHigh = b >>> 32;
+        long lowProduct = aLow * bLow;
+        long middle = aHigh * bLow + (lowProduct >>> 32);
+        long middle2 = (middle & 0xFFFFFFFFL) + aLow * bHigh;
+        return aHigh * bHigh + (middle >>> 32) + (middle2 >>> 32);
     }
 
     /**
-     * Internal helper to multiply a long by a decimal.
+     * Internal helper to get the high 64 bits of a value converted to units ({@code value * SINGLE_UNIT + decimal}) as an unsigned 128 bit number.
+     *
+     * @param unitsLo The low 64 bits of the value in units.
      */
-    private static FloatingLong multiplyLongAndDecimal(long value, short decimal) {
-        //This can't overflow!
-        if (Long.compareUnsigned(value, Long.divideUnsigned(-1, SINGLE_UNIT)) > 0) {
-            return create(Long.divideUnsigned(value, SINGLE_UNIT) * decimal, (short) (value % SINGLE_UNIT * decimal));
-        }
-        return create(Long.divideUnsigned(value * decimal, SINGLE_UNIT), (short) (value * decimal % SINGLE_UNIT));
+    private static long unitsHigh(long value, long unitsLo, short decimal) {
+        long high = multiplyHighUnsigned(value, SINGLE_UNIT);
+        //Carry from adding the decimal to the low bits
+        return Long.compareUnsigned(unitsLo, decimal) < 0 ? high + 1 : high;
+    }
+
+    /**
+     * Internal helper to compare two unsigned 128 bit numbers.
+     */
+    private static int compareUnsigned(long aHi, long aLo, long bHi, long bLo) {
+        int comparison = Long.compareUnsigned(aHi, bHi);
+        return comparison == 0 ? Long.compareUnsigned(aLo, bLo) : comparison;
     }
 
     /**
-     * Internal helper to multiply two decimals.
+     * Sets this {@link FloatingLong} to an unsigned 128 bit number divided by the number of units that represent one, truncating anything past our decimal precision
+     * and clamping at {@link #MAX_VALUE} if the value is too large.
+     *
+     * @param unitsPerOne The number of units that represent one, must be at most {@code SINGLE_UNIT * SINGLE_UNIT}.
      */
-    private static FloatingLong multiplyDecimals(short a, short b) {
-        //Note: If we instead wanted to round here, just get modulus and add if >= 0.5*SINGLE_UNIT
-        long temp = (long) a * (long) b / SINGLE_UNIT;
-        return create(0, (short) temp);
+    private FloatingLong setAndClampFromUnits(long unitsHi, long unitsLo, long unitsPerOne) {
+        if (Long.compareUnsigned(unitsHi, unitsPerOne) >= 0) {
+            //The whole number portion would not fit in a long
+            return setAndClampValues(-1, MAX_DECIMAL);
+        }
+        //Divide 32 bits at a time, as the high bits are less than unitsPerOne each step fits in a long
+        long upper = (unitsHi << 32) | (unitsLo >>> 32);
+        long lower = ((upper % unitsPerOne) << 32) | (unitsLo & 0xFFFFFFFFL);
+        long newValue = ((upper / unitsPerOne) << 32) | (lower / unitsPerOne);
+        short newDecimal = (short) (lower % unitsPerOne * SINGLE_UNIT / unitsPerOne);
+        return setAndClampValues(newValue, newDecimal);
     }
 }
\ No newline at end of file
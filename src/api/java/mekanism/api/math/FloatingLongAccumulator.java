@@ -0,0 +1,162 @@
+package mekanism.api.math;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import mcp.MethodsReturnNonnullByDefault;
+
+/**
+ * A mutable {@link FloatingLong} that is always modified in place. This is meant for code that repeatedly adds, subtracts, or clamps energy values, such as energy
+ * containers and networks, so that they can keep running totals without creating a new {@link FloatingLong} for each operation.
+ */
+@ParametersAreNonnullByDefault
+@MethodsReturnNonnullByDefault
+public class FloatingLongAccumulator {
+
+    //Note: This is never a constant so all the modifying operations on it happen in place
+    private final FloatingLong value;
+    //Constant copy of the value that was last handed out by snapshot, may be out of date
+    private FloatingLong snapshot = FloatingLong.ZERO;
+
+    /**
+     * Creates an accumulator with a value of zero.
+     */
+    public FloatingLongAccumulator() {
+        value = FloatingLong.create(0);
+    }
+
+    /**
+     * Creates an accumulator with the given starting value.
+     *
+     * @param initial The starting value, this is copied.
+     */
+    public FloatingLongAccumulator(FloatingLong initial) {
+        value = initial.copy();
+    }
+
+    /**
+     * Gets the current value of this accumulator.
+     *
+     * <p>
+     * <strong>IMPORTANT:</strong> This is not a copy, so it will change when this accumulator gets modified, and it <em>MUST NOT</em> be modified directly. Use {@link
+     * #copy()} if the value needs to be kept or returned to something that expects to be able to modify it.
+     * </p>
+     */
+    public FloatingLong get() {
+        return value;
+    }
+
+    /**
+     * @return A new mutable {@link FloatingLong} with the current value of this accumulator.
+     */
+    public FloatingLong copy() {
+        return value.copy();
+    }
+
+    /**
+     * Gets a constant {@link FloatingLong} with the current value of this accumulator. Unlike {@link #get()} the returned value does not change when this accumulator
+     * gets modified, and unlike {@link #copy()} a new object is only created if the value changed since the last time a snapshot was taken.
+     */
+    public FloatingLong snapshot() {
+        if (!snapshot.equals(value)) {
+            snapshot = value.copyAsConst();
+        }
+        return snapshot;
+    }
+
+    public FloatingLongAccumulator set(FloatingLong toSet) {
+        value.setAndClampValues(toSet.getValue(), toSet.getDecimal());
+        return this;
+    }
+
+    public FloatingLongAccumulator set(FloatingLongAccumulator toSet) {
+        return set(toSet.value);
+    }
+
+    /**
+     * @param toSet The value to set represented as an unsigned long.
+     */
+    public FloatingLongAccumulator set(long toSet) {
+        value.setAndClampValues(toSet, (short) 0);
+        return this;
+    }
+
+    /**
+     * @param value   The whole number value to set represented as an unsigned long.
+     * @param decimal The decimal value to set
+     */
+    public FloatingLongAccumulator set(long value, short decimal) {
+        this.value.setAndClampValues(value, decimal);
+        return this;
+    }
+
+    public FloatingLongAccumulator setZero() {
+        return set(0);
+    }
+
+    /**
+     * Adds the given value to this accumulator. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     */
+    public FloatingLongAccumulator add(FloatingLong toAdd) {
+        value.plusEqual(toAdd);
+        return this;
+    }
+
+    public FloatingLongAccumulator add(FloatingLongAccumulator toAdd) {
+        return add(toAdd.value);
+    }
+
+    /**
+     * Subtracts the given value from this accumulator. This gets clamped at the lower bound of {@link FloatingLong#ZERO} rather than becoming negative.
+     */
+    public FloatingLongAccumulator subtract(FloatingLong toSubtract) {
+        value.minusEqual(toSubtract);
+        return this;
+    }
+
+    public FloatingLongAccumulator subtract(FloatingLongAccumulator toSubtract) {
+        return subtract(toSubtract.value);
+    }
+
+    /**
+     * Sets this accumulator to the smaller of its current value and the given value.
+     */
+    public FloatingLongAccumulator min(FloatingLong other) {
+        if (value.greaterThan(other)) {
+            set(other);
+        }
+        return this;
+    }
+
+    /**
+     * Sets this accumulator to the larger of its current value and the given value.
+     */
+    public FloatingLongAccumulator max(FloatingLong other) {
+        if (value.smallerThan(other)) {
+            set(other);
+        }
+        return this;
+    }
+
+    public boolean isZero() {
+        return value.isZero();
+    }
+
+    public int compareTo(FloatingLong toCompare) {
+        return value.compareTo(toCompare);
+    }
+
+    /**
+     * @param toCompare The value to compare to represented as an unsigned long.
+     */
+    public int compareTo(long toCompare) {
+        return value.compareTo(toCompare);
+    }
+
+    public int compareTo(FloatingLongAccumulator toCompare) {
+        return value.compareTo(toCompare.value);
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
@@ -145,6 +145,14 @@ public abstract class ItemStackIngredient implements InputIngredient<@NonNull It
             return testType(stack) && stack.getCount() >= amount;
         }
 
+        /**
+         * @return The raw vanilla ingredient this ingredient wraps.
+         */
+        @Nonnull
+        public Ingredient getInputRaw() {
+            return ingredient;
+        }
+
         @Override
         public boolean testType(@Nonnull ItemStack stack) {
             return ingredient.test(stack);
@@ -597,6 +597,7 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_CHUNK_LOADED, "Loaded");
         add(MekanismLang.COMMAND_CHUNK_UNLOADED, "Unloaded");
         add(MekanismLang.COMMAND_DEBUG, "Toggled debug mode: %s.");
+        add(MekanismLang.COMMAND_DEBUG_PATH_CACHE, "Transporter path cache: %d paths, %d hits, %d misses, %d evictions, %d invalidations.");
         add(MekanismLang.COMMAND_TEST_RULES, "Enabled keepInventory, and disabled doMobSpawning, doDaylightCycle, doWeatherCycle and mobGriefing!");
         add(MekanismLang.COMMAND_TP, "Teleported to %d, %d, %d - saved last position on stack");
         add(MekanismLang.COMMAND_TPOP, "Returned to %d, %d, %d; %d positions on stack");
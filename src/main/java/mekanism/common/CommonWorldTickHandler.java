@@ -8,6 +8,7 @@ import java.util.Random;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.lib.chunkloading.ChunkManager;
 import mekanism.common.lib.frequency.FrequencyManager;
+import mekanism.common.network.tile.TileUpdateQueue;
 import mekanism.common.world.GenHandler;
 import net.minecraft.util.RegistryKey;
 import net.minecraft.util.ResourceLocation;
@@ -81,6 +82,7 @@ public class CommonWorldTickHandler {
         if (!world.isRemote) {
             Mekanism.radiationManager.tickServerWorld(world);
             ChunkManager.tick(world);
+            TileUpdateQueue.flush(world);
             flushTagAndRecipeCaches = false;
 
             if (chunkRegenMap == null || !MekanismConfig.world.enableRegeneration.get()) {
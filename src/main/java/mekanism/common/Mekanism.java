@@ -36,6 +36,7 @@ import mekanism.common.content.evaporation.EvaporationValidator;
 import mekanism.common.content.gear.Modules;
 import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.content.matrix.MatrixValidator;
+import mekanism.common.content.miner.MinerSearchService;
 import mekanism.common.content.network.BoxedChemicalNetwork.ChemicalTransferEvent;
 import mekanism.common.content.network.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.content.network.FluidNetwork.FluidTransferEvent;
@@ -59,6 +60,7 @@ import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.network.PacketHandler;
 import mekanism.common.network.PacketTransmitterUpdate;
+import mekanism.common.network.tile.TileUpdateQueue;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.bin.BinInsertRecipe;
 import mekanism.common.registries.MekanismBlocks;
@@ -194,6 +196,7 @@ public class Mekanism {
         MinecraftForge.EVENT_BUS.addListener(this::addReloadListeners);
         MinecraftForge.EVENT_BUS.addListener(EventPriority.LOWEST, this::addReloadListenersLowest);
         MinecraftForge.EVENT_BUS.addListener(BinInsertRecipe::onCrafting);
+        MinecraftForge.EVENT_BUS.addListener(MinerSearchService::onBlockChanged);
         MinecraftForge.EVENT_BUS.addListener(this::onTagsReload);
         IEventBus modEventBus = FMLJavaModLoadingContext.get().getModEventBus();
         modEventBus.addListener(this::commonSetup);
@@ -333,7 +336,9 @@ public class Mekanism {
         FrequencyManager.reset();
         TransporterManager.reset();
         PathfinderCache.reset();
+        MinerSearchService.reset();
         TransmitterNetworkRegistry.reset();
+        TileUpdateQueue.reset();
     }
 
     private void imcQueue(InterModEnqueueEvent event) {
@@ -437,5 +442,7 @@ public class Mekanism {
         if (event.getWorld() instanceof ServerWorld) {
             MekFakePlayer.releaseInstance(event.getWorld());
         }
+        TileUpdateQueue.worldUnload(event.getWorld());
+        TransporterManager.worldUnload(event.getWorld());
     }
 }
\ No newline at end of file
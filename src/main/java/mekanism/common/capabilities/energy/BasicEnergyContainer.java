@@ -13,6 +13,7 @@ import mekanism.api.annotations.NonNull;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.inventory.AutomationType;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.nbt.CompoundNBT;
 
@@ -51,6 +52,8 @@ public class BasicEnergyContainer implements IEnergyContainer {
     }
 
     private FloatingLong stored = FloatingLong.ZERO;
+    //Used to calculate how much we can accept without having to allocate new floating longs every time energy is inserted
+    private final FloatingLongAccumulator acceptable = new FloatingLongAccumulator();
     protected final Predicate<@NonNull AutomationType> canExtract;
     protected final Predicate<@NonNull AutomationType> canInsert;
     private final FloatingLong maxEnergy;
@@ -105,19 +108,21 @@ public class BasicEnergyContainer implements IEnergyContainer {
         if (amount.isZero() || !canInsert.test(automationType)) {
             return amount;
         }
-        FloatingLong needed = getRate(automationType).min(getNeeded());
-        if (needed.isZero()) {
+        //Note: This is the same as getRate(automationType).min(getNeeded()) except it is calculated in place
+        acceptable.set(getMaxEnergy()).subtract(stored).min(getRate(automationType));
+        if (acceptable.isZero()) {
             //Fail if we are a full container or our rate is zero
             return amount;
         }
-        FloatingLong toAdd = amount.min(needed);
-        if (!toAdd.isZero() && action.execute()) {
+        boolean acceptsAll = acceptable.compareTo(amount) >= 0;
+        if (action.execute()) {
             //If we want to actually insert the energy, then update the current energy
             // Note: this also will mark that the contents changed
-            stored = stored.plusEqual(toAdd);
+            stored = stored.plusEqual(acceptsAll ? amount : acceptable.get());
             onContentsChanged();
         }
-        return amount.subtract(toAdd);
+        //If we accepted all of it we don't need to create a new object to represent there being no remainder
+        return acceptsAll ? FloatingLong.ZERO : amount.subtract(acceptable.get());
     }
 
     @Override
@@ -14,6 +14,7 @@ import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
 import net.minecraft.client.entity.player.ClientPlayerEntity;
 import net.minecraft.command.CommandSource;
@@ -53,7 +54,13 @@ public class CommandMek {
                       MekanismAPI.debug = !MekanismAPI.debug;
                       ctx.getSource().sendFeedback(MekanismLang.COMMAND_DEBUG.translate(OnOff.of(MekanismAPI.debug)), true);
                       return 0;
-                  });
+                  })
+                  .then(Commands.literal("path_cache")
+                        .executes(ctx -> {
+                            ctx.getSource().sendFeedback(MekanismLang.COMMAND_DEBUG_PATH_CACHE.translate(PathfinderCache.getSize(), PathfinderCache.getHits(),
+                                  PathfinderCache.getMisses(), PathfinderCache.getEvictions(), PathfinderCache.getInvalidations()), true);
+                            return 0;
+                        }));
         }
     }
 
@@ -42,6 +42,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue blockDeactivationDelay;
     public final CachedConfigValue<List<String>> cardboardModBlacklist;
     public final CachedBooleanValue transmitterAlloyUpgrade;
+    public final CachedBooleanValue parallelNetworkTicking;
+    public final CachedIntValue tileUpdateBudget;
     public final CachedIntValue maxUpgradeMultiplier;
     public final CachedDoubleValue boilerWaterConductivity;
     public final CachedDoubleValue heatPerFuelTick;
@@ -123,6 +125,10 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("cardboardModBlacklist", new ArrayList<>()));
         transmitterAlloyUpgrade = CachedBooleanValue.wrap(this, builder.comment("Allow right clicking on Cables/Pipes/Tubes with alloys to upgrade the tier.")
               .define("transmitterAlloyUpgrade", true));
+        parallelNetworkTicking = CachedBooleanValue.wrap(this, builder.comment("Experimental: Plan the updates of transmitter networks, such as how to split their contents between their acceptors, on multiple threads. Transfers into acceptors still happen on the main thread in the same order as when this is disabled.")
+              .define("parallelNetworkTicking", false));
+        tileUpdateBudget = CachedIntValue.wrap(this, builder.comment("Maximum number of tile updates sent to each player per tick. When more tiles change in a tick, updates of the tiles closest to the player are sent first and the rest are sent in later ticks.")
+              .defineInRange("tileUpdateBudget", 512, 1, Integer.MAX_VALUE));
         //If this is less than 1, upgrades make machines worse. If less than 0, I don't even know.
         maxUpgradeMultiplier = CachedIntValue.wrap(this, builder.comment("Base factor for working out machine performance with upgrades - UpgradeModifier * (UpgradesInstalled/UpgradesPossible).")
               .defineInRange("maxUpgradeMultiplier", 10, 1, Integer.MAX_VALUE));
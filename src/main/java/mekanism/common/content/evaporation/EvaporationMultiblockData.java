@@ -77,7 +77,7 @@ public class EvaporationMultiblockData extends MultiblockData implements ITileCa
 
     public EvaporationMultiblockData(TileEntityThermalEvaporationBlock tile) {
         super(tile);
-        fluidTanks.add(inputTank = MultiblockFluidTank.input(this, tile, this::getMaxFluid, fluid -> containsRecipe(recipe -> recipe.getInput().testType(fluid))));
+        fluidTanks.add(inputTank = MultiblockFluidTank.input(this, tile, this::getMaxFluid, fluid -> containsRecipe(fluid, recipe -> recipe.getInput().testType(fluid))));
         fluidTanks.add(outputTank = MultiblockFluidTank.output(this, tile, () -> MAX_OUTPUT, BasicFluidTank.alwaysTrue));
         inputHandler = InputHelper.getInputHandler(inputTank);
         outputHandler = OutputHelper.getOutputHandler(outputTank);
@@ -184,7 +184,7 @@ public class EvaporationMultiblockData extends MultiblockData implements ITileCa
         if (fluid.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(fluid));
+        return findFirstRecipe(fluid, recipe -> recipe.test(fluid));
     }
 
     @Nullable
@@ -11,6 +11,7 @@ import mekanism.api.annotations.FieldsAreNonnullByDefault;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.inventory.AutomationType;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.common.capabilities.energy.MachineEnergyContainer;
 import mekanism.common.tier.InductionProviderTier;
 import mekanism.common.tile.multiblock.TileEntityInductionCell;
@@ -29,14 +30,19 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     //TODO: Eventually we could look into extending FloatingLong to have a "BigInt" styled implementation that is used by the class
     // at the very least for keeping track of the cached values and rates
-    private FloatingLong queuedOutput = FloatingLong.ZERO;
-    private FloatingLong queuedInput = FloatingLong.ZERO;
-    private FloatingLong lastOutput = FloatingLong.ZERO;
-    private FloatingLong lastInput = FloatingLong.ZERO;
+    private final FloatingLongAccumulator queuedOutput = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator queuedInput = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator lastOutput = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator lastInput = new FloatingLongAccumulator();
 
-    private FloatingLong cachedTotal = FloatingLong.ZERO;
-    private FloatingLong transferCap = FloatingLong.ZERO;
-    private FloatingLong storageCap = FloatingLong.ZERO;
+    private final FloatingLongAccumulator cachedTotal = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator transferCap = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator storageCap = new FloatingLongAccumulator();
+
+    //Scratch values so that transferring energy doesn't have to allocate new floating longs
+    private final FloatingLongAccumulator energy = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator needed = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator toTransfer = new FloatingLongAccumulator();
 
     private final MatrixMultiblockData multiblock;
 
@@ -48,13 +54,13 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         //As we already have the two different variables just pass them instead of accessing world to get tile again
         MachineEnergyContainer<TileEntityInductionCell> energyContainer = cell.getEnergyContainer();
         cells.put(pos, energyContainer);
-        storageCap = storageCap.plusEqual(energyContainer.getMaxEnergy());
-        cachedTotal = cachedTotal.plusEqual(energyContainer.getEnergy());
+        storageCap.add(energyContainer.getMaxEnergy());
+        cachedTotal.add(energyContainer.getEnergy());
     }
 
     public void addProvider(BlockPos pos, TileEntityInductionProvider provider) {
         providers.put(pos, provider.tier);
-        transferCap = transferCap.plusEqual(provider.tier.getOutput());
+        transferCap.add(provider.tier.getOutput());
     }
 
     //TODO: I believe this is needed or at least will be after we eventually rewrite some of the multiblock system
@@ -65,14 +71,14 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         if (!invalidPositions.contains(pos)) {
             if (providers.containsKey(pos)) {
                 //It is a provider
-                transferCap = transferCap.minusEqual(providers.get(pos).getOutput());
+                transferCap.subtract(providers.get(pos).getOutput());
             } else if (cells.containsKey(pos)) {
                 //It is a cell
                 //TODO: Handle this better, as I believe we *technically* could have this cause the cached total to become negative
                 // It may work better if we just flush the buffer writing immediately, and then recalculate the cached totals/caps
                 IEnergyContainer cellContainer = cells.get(pos);
-                storageCap = storageCap.plusEqual(cellContainer.getMaxEnergy());
-                cachedTotal = cachedTotal.minusEqual(cellContainer.getEnergy());
+                storageCap.add(cellContainer.getMaxEnergy());
+                cachedTotal.subtract(cellContainer.getEnergy());
             }
             invalidPositions.add(pos);
         }
@@ -84,13 +90,13 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         //And reset everything
         cells.clear();
         providers.clear();
-        queuedOutput = FloatingLong.ZERO;
-        queuedInput = FloatingLong.ZERO;
-        lastOutput = FloatingLong.ZERO;
-        lastInput = FloatingLong.ZERO;
-        cachedTotal = FloatingLong.ZERO;
-        transferCap = FloatingLong.ZERO;
-        storageCap = FloatingLong.ZERO;
+        queuedOutput.setZero();
+        queuedInput.setZero();
+        lastOutput.setZero();
+        lastInput.setZero();
+        cachedTotal.setZero();
+        transferCap.setZero();
+        storageCap.setZero();
     }
 
     public void tick() {
@@ -104,41 +110,41 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         int compare = queuedInput.compareTo(queuedOutput);
         if (compare < 0) {
             //queuedInput is smaller - we are removing energy
-            removeEnergy(queuedOutput.subtract(queuedInput));
+            removeEnergy(toTransfer.set(queuedOutput).subtract(queuedInput));
         } else if (compare > 0) {
             //queuedInput is larger - we are adding energy
-            addEnergy(queuedInput.subtract(queuedOutput));
+            addEnergy(toTransfer.set(queuedInput).subtract(queuedOutput));
         }
-        lastInput = queuedInput;
-        lastOutput = queuedOutput;
-        queuedInput = FloatingLong.ZERO;
-        queuedOutput = FloatingLong.ZERO;
+        lastInput.set(queuedInput);
+        lastOutput.set(queuedOutput);
+        queuedInput.setZero();
+        queuedOutput.setZero();
     }
 
-    private void addEnergy(FloatingLong energy) {
-        cachedTotal = cachedTotal.plusEqual(energy);
+    private void addEnergy(FloatingLongAccumulator energy) {
+        cachedTotal.add(energy);
         for (IEnergyContainer container : cells.values()) {
             //Note: inserting into the cell's energy container handles marking the cell for saving if it changes
-            FloatingLong remainder = container.insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
-            if (remainder.smallerThan(energy)) {
+            FloatingLong remainder = container.insert(energy.get(), Action.EXECUTE, AutomationType.INTERNAL);
+            if (energy.compareTo(remainder) > 0) {
                 //Our cell accepted at least some energy
                 if (remainder.isZero()) {
                     //Check less than equal rather than just equal in case something went wrong
                     // and break if we don't have any energy left to add
                     break;
                 }
-                energy = remainder;
+                energy.set(remainder);
             }
         }
     }
 
-    private void removeEnergy(FloatingLong energy) {
-        cachedTotal = cachedTotal.minusEqual(energy);
+    private void removeEnergy(FloatingLongAccumulator energy) {
+        cachedTotal.subtract(energy);
         for (IEnergyContainer container : cells.values()) {
             //Note: extracting from the cell's energy container handles marking the cell for saving if it changes
-            FloatingLong extracted = container.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
+            FloatingLong extracted = container.extract(energy.get(), Action.EXECUTE, AutomationType.INTERNAL);
             if (!extracted.isZero()) {
-                energy = energy.minusEqual(extracted);
+                energy.subtract(extracted);
                 if (energy.isZero()) {
                     //Check less than equal rather than just equal in case something went wrong
                     // and break if we don't need to remove any more energy
@@ -152,10 +158,12 @@ public class MatrixEnergyContainer implements IEnergyContainer {
      * {@inheritDoc}
      *
      * @return The energy post queue when this container next actually updates/saves to disk
+     *
+     * @implNote The returned value is a constant that is only recreated when the energy changes, rather than being a new object each call.
      */
     @Override
     public FloatingLong getEnergy() {
-        return cachedTotal.add(queuedInput).subtract(queuedOutput);
+        return energy.set(cachedTotal).add(queuedInput).subtract(queuedOutput).snapshot();
     }
 
     @Override
@@ -170,17 +178,21 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         if (amount.isZero() || !multiblock.isFormed()) {
             return amount;
         }
-        FloatingLong toAdd = amount.min(getRemainingInput()).min(getNeeded());
-        if (toAdd.isZero()) {
+        //Calculate how much we can accept based on our remaining rate limit and how much room we have left
+        needed.set(storageCap).subtract(getEnergy());
+        toTransfer.set(transferCap).subtract(queuedInput).min(needed.get());
+        if (toTransfer.isZero()) {
             //Exit if we don't actually have anything to add, either due to how much we need
             // or due to the our remaining rate limit
             return amount;
         }
+        boolean acceptsAll = toTransfer.compareTo(amount) >= 0;
         if (action.execute()) {
             //Increase how much we are inputting
-            queuedInput = queuedInput.plusEqual(toAdd);
+            queuedInput.add(acceptsAll ? amount : toTransfer.get());
         }
-        return amount.subtract(toAdd);
+        //If we accepted all of it we don't need to create a new object to represent there being no remainder
+        return acceptsAll ? FloatingLong.ZERO : amount.subtract(toTransfer.get());
     }
 
     @Override
@@ -192,17 +204,21 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         // as we want to be as accurate as possible with the values we return
         // It is possible that the energy we have stored is a lot less than the amount we
         // can output at once such as if the matrix is almost empty.
-        amount = amount.min(getRemainingOutput()).min(getEnergy());
-        if (!amount.isZero() && action.execute()) {
+        toTransfer.set(transferCap).subtract(queuedOutput).min(getEnergy());
+        if (toTransfer.isZero()) {
+            return FloatingLong.ZERO;
+        }
+        FloatingLong extracted = toTransfer.min(amount).copy();
+        if (action.execute()) {
             //Increase how much we are outputting by the amount we accepted
-            queuedOutput = queuedOutput.plusEqual(amount);
+            queuedOutput.add(extracted);
         }
-        return amount;
+        return extracted;
     }
 
     @Override
     public FloatingLong getMaxEnergy() {
-        return storageCap;
+        return storageCap.snapshot();
     }
 
     @Override
@@ -221,24 +237,16 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     }
 
-    private FloatingLong getRemainingInput() {
-        return transferCap.subtract(queuedInput);
-    }
-
-    private FloatingLong getRemainingOutput() {
-        return transferCap.subtract(queuedOutput);
-    }
-
     public FloatingLong getMaxTransfer() {
-        return transferCap;
+        return transferCap.snapshot();
     }
 
     public FloatingLong getLastInput() {
-        return lastInput;
+        return lastInput.snapshot();
     }
 
     public FloatingLong getLastOutput() {
-        return lastOutput;
+        return lastOutput.snapshot();
     }
 
     public int getCells() {
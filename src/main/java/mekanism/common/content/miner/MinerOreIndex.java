@@ -0,0 +1,218 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import javax.annotation.Nullable;
+import mekanism.api.NBTConstants;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraftforge.common.util.Constants.NBT;
+
+/**
+ * Blocks a Digital Miner has found to mine, stored per chunk section as a bitset of the positions in the section and the index of the filter each block matched.
+ */
+public class MinerOreIndex {
+
+    public static final int NO_FILTER = -1;
+    private static final int SECTION_SIZE = 16 * 16 * 16;
+    //Filter ids are stored offset by one in an unsigned byte, so that zero can represent no filter
+    private static final int MAX_FILTER_INDEX = 254;
+
+    private final Long2ObjectMap<OreSection> sections = new Long2ObjectOpenHashMap<>();
+    private int configHash;
+
+    /**
+     * @return The key of the chunk section containing the given position.
+     */
+    public static long getSectionKey(int x, int y, int z) {
+        return SectionPos.asLong(x >> 4, y >> 4, z >> 4);
+    }
+
+    /**
+     * @return The index of the given position within its chunk section.
+     */
+    public static int getIndexInSection(int x, int y, int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | x & 15;
+    }
+
+    /**
+     * Adds the given position to the index.
+     *
+     * @param filterIndex Index of the filter the block at the position matches, or {@link #NO_FILTER}.
+     */
+    public void add(int x, int y, int z, int filterIndex) {
+        long key = getSectionKey(x, y, z);
+        OreSection section = sections.get(key);
+        if (section == null) {
+            section = new OreSection(key);
+            sections.put(key, section);
+        }
+        section.set(getIndexInSection(x, y, z), filterIndex);
+    }
+
+    @Nullable
+    public OreSection getSection(long key) {
+        return sections.get(key);
+    }
+
+    public void clearSection(long key) {
+        sections.remove(key);
+    }
+
+    /**
+     * @return Iterator over the sections that have blocks to mine, sections that become empty should be removed through the iterator.
+     */
+    public ObjectIterator<OreSection> iterator() {
+        return sections.values().iterator();
+    }
+
+    public int size() {
+        int size = 0;
+        for (OreSection section : sections.values()) {
+            size += section.size();
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return sections.isEmpty();
+    }
+
+    public void clear() {
+        sections.clear();
+        configHash = 0;
+    }
+
+    /**
+     * @return Hash of the miner configuration this index was built with.
+     */
+    public int getConfigHash() {
+        return configHash;
+    }
+
+    public void setConfigHash(int configHash) {
+        this.configHash = configHash;
+    }
+
+    public CompoundNBT write() {
+        CompoundNBT nbt = new CompoundNBT();
+        nbt.putInt(NBTConstants.CONFIG_HASH, configHash);
+        ListNBT sectionTags = new ListNBT();
+        for (OreSection section : sections.values()) {
+            CompoundNBT sectionTag = new CompoundNBT();
+            sectionTag.putLong(NBTConstants.POSITION, section.key);
+            sectionTag.putLongArray(NBTConstants.DATA, section.bits);
+            //Only store the filter ids of the blocks that are actually in the section
+            byte[] filterIds = new byte[section.size()];
+            for (int index = section.nextSetBit(0), i = 0; index != -1; index = section.nextSetBit(index + 1), i++) {
+                filterIds[i] = section.filterIds[index];
+            }
+            sectionTag.putByteArray(NBTConstants.FILTERS, filterIds);
+            sectionTags.add(sectionTag);
+        }
+        nbt.put(NBTConstants.SECTIONS, sectionTags);
+        return nbt;
+    }
+
+    public void read(CompoundNBT nbt) {
+        clear();
+        configHash = nbt.getInt(NBTConstants.CONFIG_HASH);
+        ListNBT sectionTags = nbt.getList(NBTConstants.SECTIONS, NBT.TAG_COMPOUND);
+        for (int i = 0; i < sectionTags.size(); i++) {
+            CompoundNBT sectionTag = sectionTags.getCompound(i);
+            long[] bits = sectionTag.getLongArray(NBTConstants.DATA);
+            if (bits.length != SECTION_SIZE / Long.SIZE) {
+                continue;
+            }
+            OreSection section = new OreSection(sectionTag.getLong(NBTConstants.POSITION));
+            byte[] filterIds = sectionTag.getByteArray(NBTConstants.FILTERS);
+            System.arraycopy(bits, 0, section.bits, 0, bits.length);
+            for (long word : bits) {
+                section.count += Long.bitCount(word);
+            }
+            for (int index = section.nextSetBit(0), j = 0; index != -1 && j < filterIds.length; index = section.nextSetBit(index + 1), j++) {
+                section.filterIds[index] = filterIds[j];
+            }
+            if (!section.isEmpty()) {
+                sections.put(section.key, section);
+            }
+        }
+    }
+
+    public static class OreSection {
+
+        private final long key;
+        private final long[] bits = new long[SECTION_SIZE / Long.SIZE];
+        private final byte[] filterIds = new byte[SECTION_SIZE];
+        private int count;
+
+        private OreSection(long key) {
+            this.key = key;
+        }
+
+        public long getKey() {
+            return key;
+        }
+
+        private void set(int index, int filterIndex) {
+            long mask = 1L << index;
+            int word = index >> 6;
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                count++;
+            }
+            //Filters past what we can fit in a byte get stored as no filter, and get looked up again when mining
+            filterIds[index] = (byte) (filterIndex < 0 || filterIndex > MAX_FILTER_INDEX ? 0 : filterIndex + 1);
+        }
+
+        public void clear(int index) {
+            long mask = 1L << index;
+            int word = index >> 6;
+            if ((bits[word] & mask) != 0) {
+                bits[word] &= ~mask;
+                filterIds[index] = 0;
+                count--;
+            }
+        }
+
+        /**
+         * @return The next index that is set starting at the given index, or {@code -1} if there are no more.
+         */
+        public int nextSetBit(int fromIndex) {
+            if (fromIndex >= SECTION_SIZE) {
+                return -1;
+            }
+            int word = fromIndex >> 6;
+            long bitsInWord = bits[word] & (-1L << fromIndex);
+            while (bitsInWord == 0) {
+                if (++word == bits.length) {
+                    return -1;
+                }
+                bitsInWord = bits[word];
+            }
+            return (word << 6) + Long.numberOfTrailingZeros(bitsInWord);
+        }
+
+        /**
+         * @return Index of the filter the block at the given index matched when it was found, or {@link #NO_FILTER}.
+         */
+        public int getFilterIndex(int index) {
+            return (filterIds[index] & 0xFF) - 1;
+        }
+
+        public BlockPos getPos(int index) {
+            return new BlockPos(SectionPos.extractX(key) << 4 | index & 15, SectionPos.extractY(key) << 4 | index >> 8, SectionPos.extractZ(key) << 4 | (index >> 4) & 15);
+        }
+
+        public int size() {
+            return count;
+        }
+
+        public boolean isEmpty() {
+            return count == 0;
+        }
+    }
+}
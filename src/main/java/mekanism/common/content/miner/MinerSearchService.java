@@ -0,0 +1,97 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import mekanism.common.Mekanism;
+import mekanism.common.tile.machine.TileEntityDigitalMiner;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorld;
+import net.minecraftforge.event.world.BlockEvent;
+
+/**
+ * Shared executor for running Digital Miner searches, so that many miners starting at once (for example after a server restart) queue up on a small number of worker
+ * threads instead of each one competing with the server thread on its own thread. Also keeps track of which miners have searched their area so that they can be told
+ * about blocks changing in it.
+ */
+public class MinerSearchService {
+
+    private static final int MAX_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+    //Note: Only accessed from the server thread
+    private static final Set<TileEntityDigitalMiner> trackedMiners = new ObjectOpenHashSet<>();
+
+    @Nullable
+    private static ThreadPoolExecutor executor;
+
+    private MinerSearchService() {
+    }
+
+    /**
+     * Queues the given search to be run on one of the search worker threads.
+     *
+     * @return Future that can be used to cancel the search if it has not started yet.
+     */
+    public static synchronized Future<?> submit(ThreadMinerSearch search) {
+        if (executor == null) {
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "Mekanism Digital Miner Search #" + THREAD_ID.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setUncaughtExceptionHandler((t, e) -> Mekanism.logger.error("Uncaught exception in {}", t.getName(), e));
+                return thread;
+            };
+            executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+            //Let the threads die off when there are no searches being done
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor.submit(search);
+    }
+
+    /**
+     * @return The number of searches that are either queued or currently running.
+     */
+    public static synchronized int getPendingSearches() {
+        return executor == null ? 0 : executor.getQueue().size() + executor.getActiveCount();
+    }
+
+    /**
+     * Starts notifying the given miner of blocks changing in its world. Must be called from the server thread.
+     */
+    public static void track(TileEntityDigitalMiner miner) {
+        trackedMiners.add(miner);
+    }
+
+    public static void untrack(TileEntityDigitalMiner miner) {
+        trackedMiners.remove(miner);
+    }
+
+    public static void onBlockChanged(BlockEvent.NeighborNotifyEvent event) {
+        IWorld world = event.getWorld();
+        if (!world.isRemote() && !trackedMiners.isEmpty()) {
+            BlockPos pos = event.getPos();
+            for (TileEntityDigitalMiner miner : trackedMiners) {
+                if (miner.getWorld() == world) {
+                    miner.onBlockChanged(pos);
+                }
+            }
+        }
+    }
+
+    public static synchronized void reset() {
+        trackedMiners.clear();
+        if (executor != null) {
+            ExecutorService toShutdown = executor;
+            executor = null;
+            //Note: Searches check if they have been cancelled or their miner has been removed, so they will stop on their own
+            toShutdown.shutdownNow();
+        }
+    }
+}
@@ -1,122 +1,244 @@
 package mekanism.common.content.miner;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.BitSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.Future;
+import javax.annotation.Nullable;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
-import mekanism.common.tile.TileEntityBoundingBlock;
+import mekanism.common.block.BlockBounding;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
-import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.FlowingFluidBlock;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.SectionPos;
 import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.IBlockReader;
 import net.minecraft.world.Region;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
 import net.minecraftforge.fluids.IFluidBlock;
 
-public class ThreadMinerSearch extends Thread {
+/**
+ * Searches the area of a Digital Miner for blocks to mine. Searches get run by the {@link MinerSearchService} and go through the area a chunk section at a time, so
+ * that sections that are entirely air can be skipped, and only check each unique block state against the filters once.
+ */
+public class ThreadMinerSearch implements Runnable {
+
+    //Values used for caching which filter a block state matches
+    private static final int UNKNOWN = -3;
+    private static final int IGNORED = -2;
+    private static final int NO_FILTER = -1;
 
     private final TileEntityDigitalMiner tile;
 
-    public State state = State.IDLE;
+    public volatile State state = State.IDLE;
+    private volatile boolean cancelled;
+    @Nullable
+    private Future<?> task;
 
-    private final Map<ChunkPos, BitSet> oresToMine = new Object2ObjectOpenHashMap<>();
-    private final Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
-    private final Map<Block, MinerFilter<?>> acceptedItems = new Object2ObjectOpenHashMap<>();
+    private final MinerOreIndex oreIndex = new MinerOreIndex();
+    //Block state -> index of the first filter that matches it, or one of our special values
+    private final Object2IntMap<BlockState> stateFilters = new Object2IntOpenHashMap<>();
     private Region chunkCache;
+    private Chunk[] chunks;
+    private int minChunkX, minChunkZ, chunksZ;
 
-    public int found = 0;
+    public volatile int found = 0;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
         this.tile = tile;
+        stateFilters.defaultReturnValue(UNKNOWN);
     }
 
-    public void setChunkCache(Region cache) {
-        this.chunkCache = cache;
+    /**
+     * Grabs the chunks the miner's area covers and queues the search. Must be called from the server thread.
+     */
+    public void start() {
+        World world = tile.getWorld();
+        if (world == null || state != State.IDLE) {
+            return;
+        }
+        BlockPos startingPos = tile.getStartingPos();
+        int diameter = tile.getDiameter();
+        chunkCache = new Region(world, startingPos, startingPos.add(diameter, tile.getMaxY() - tile.getMinY() + 1, diameter));
+        minChunkX = startingPos.getX() >> 4;
+        minChunkZ = startingPos.getZ() >> 4;
+        int maxChunkX = (startingPos.getX() + diameter - 1) >> 4;
+        int maxChunkZ = (startingPos.getZ() + diameter - 1) >> 4;
+        chunksZ = maxChunkZ - minChunkZ + 1;
+        chunks = new Chunk[(maxChunkX - minChunkX + 1) * chunksZ];
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                chunks[(chunkX - minChunkX) * chunksZ + chunkZ - minChunkZ] = world.getChunk(chunkX, chunkZ);
+            }
+        }
+        oreIndex.setConfigHash(tile.getConfigHash());
+        state = State.SEARCHING;
+        task = MinerSearchService.submit(this);
+    }
+
+    /**
+     * Stops the search, if it is currently running it will stop at the next chunk section it goes to check.
+     */
+    public void cancel() {
+        cancelled = true;
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+
+    private boolean shouldStop() {
+        //Make sure the miner is still valid and something hasn't gone wrong
+        return cancelled || tile.isRemoved();
     }
 
     @Override
     public void run() {
-        state = State.SEARCHING;
+        if (shouldStop()) {
+            return;
+        }
         List<MinerFilter<?>> filters = tile.getFilters();
         if (!tile.inverse && filters.isEmpty()) {
-            state = State.FINISHED;
+            finish();
             return;
         }
-        BlockPos pos = tile.getStartingPos();
-        int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
-            }
-            BlockPos testPos = pos.add(i % diameter, i / diameter / diameter, (i / diameter) % diameter);
-            if (minerPos.equals(testPos) || MekanismUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
-            }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir(chunkCache, testPos) || state.getBlockHardness(chunkCache, testPos) < 0) {
-                //Skip air and unbreakable blocks
-                continue;
-            }
-            info = state.getBlock();
-            if (info instanceof FlowingFluidBlock || info instanceof IFluidBlock) {
-                //Skip liquids
-                continue;
-            }
-            MinerFilter<?> filterFound = null;
-            if (acceptedItems.containsKey(info)) {
-                filterFound = acceptedItems.get(info);
-            } else {
-                ItemStack stack = new ItemStack(info);
-                if (tile.isReplaceStack(stack)) {
-                    continue;
+        BlockPos start = tile.getStartingPos();
+        int startY = start.getY();
+        int endY = tile.getMaxY();
+        for (int chunkIndex = 0; chunkIndex < chunks.length; chunkIndex++) {
+            int chunkX = minChunkX + chunkIndex / chunksZ;
+            int chunkZ = minChunkZ + chunkIndex % chunksZ;
+            ChunkSection[] sections = chunks[chunkIndex].getSections();
+            for (int sectionY = Math.max(0, startY >> 4), maxSectionY = Math.min(sections.length - 1, endY >> 4); sectionY <= maxSectionY; sectionY++) {
+                if (shouldStop()) {
+                    return;
                 }
-                for (MinerFilter<?> filter : filters) {
-                    if (filter.canFilter(state)) {
-                        filterFound = filter;
-                        break;
-                    }
+                ChunkSection section = sections[sectionY];
+                //Skip sections that are entirely air
+                if (!ChunkSection.isEmpty(section)) {
+                    found += scanSection(oreIndex, section, chunkCache, chunkX, sectionY, chunkZ, filters);
                 }
-                acceptedItems.put(info, filterFound);
-            }
-            if (tile.inverse == (filterFound == null)) {
-                set(i, testPos);
-                replaceMap.put(i, filterFound);
-                found++;
             }
         }
+        if (shouldStop()) {
+            return;
+        }
+        finish();
+    }
 
+    private void finish() {
+        this.chunkCache = null;
+        chunks = null;
+        tile.oreIndex = oreIndex;
+        tile.cachedToMine = found;
         state = State.FINISHED;
-        tile.oresToMine = oresToMine;
-        tile.replaceMap = replaceMap;
-        chunkCache = null;
         tile.markDirty(false);
-        tile.cachedToMine = found;
     }
 
-    public void set(int i, BlockPos pos) {
-        ChunkPos chunk = new ChunkPos(pos);
-        oresToMine.computeIfAbsent(chunk, k -> new BitSet());
-        oresToMine.get(chunk).set(i);
+    /**
+     * Searches the part of the given chunk section that is in the miner's area, and adds any blocks that should be mined to the given index.
+     *
+     * @return The number of blocks that were found.
+     */
+    private int scanSection(MinerOreIndex index, ChunkSection section, IBlockReader reader, int sectionX, int sectionY, int sectionZ, List<MinerFilter<?>> filters) {
+        BlockPos start = tile.getStartingPos();
+        int diameter = tile.getDiameter();
+        int minX = Math.max(start.getX(), sectionX << 4);
+        int maxX = Math.min(start.getX() + diameter - 1, (sectionX << 4) + 15);
+        int minY = Math.max(start.getY(), sectionY << 4);
+        int maxY = Math.min(tile.getMaxY(), (sectionY << 4) + 15);
+        int minZ = Math.max(start.getZ(), sectionZ << 4);
+        int maxZ = Math.min(start.getZ() + diameter - 1, (sectionZ << 4) + 15);
+        BlockPos minerPos = tile.getPos();
+        BlockPos.Mutable testPos = new BlockPos.Mutable();
+        int count = 0;
+        for (int y = minY; y <= maxY; y++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                    int filterIndex = getFilterIndex(state, filters);
+                    if (filterIndex == IGNORED || tile.inverse == (filterIndex != NO_FILTER)) {
+                        continue;
+                    }
+                    testPos.setPos(x, y, z);
+                    if (minerPos.equals(testPos) || state.isAir(reader, testPos) || state.getBlockHardness(reader, testPos) < 0) {
+                        //Skip the miner itself, air and unbreakable blocks
+                        continue;
+                    }
+                    index.add(x, y, z, filterIndex);
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Searches the given chunk section again, replacing what the given index has for it. Used to pick up changes to the area after the search has finished. Must be
+     * called from the server thread.
+     *
+     * @return {@code false} if the section could not be searched as it is not currently loaded.
+     */
+    public boolean rescanSection(World world, MinerOreIndex index, long sectionKey) {
+        if (state != State.FINISHED) {
+            return false;
+        }
+        int sectionX = SectionPos.extractX(sectionKey);
+        int sectionY = SectionPos.extractY(sectionKey);
+        int sectionZ = SectionPos.extractZ(sectionKey);
+        Chunk chunk = world.getChunkProvider().getChunkNow(sectionX, sectionZ);
+        if (chunk == null) {
+            return false;
+        }
+        index.clearSection(sectionKey);
+        ChunkSection[] sections = chunk.getSections();
+        List<MinerFilter<?>> filters = tile.getFilters();
+        if (sectionY >= 0 && sectionY < sections.length && !ChunkSection.isEmpty(sections[sectionY]) && (tile.inverse || !filters.isEmpty())) {
+            //The filters may have been changed since we last searched, so clear what we know about which states match them
+            stateFilters.clear();
+            scanSection(index, sections[sectionY], world, sectionX, sectionY, sectionZ, filters);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the index of the first filter that matches the given state, or {@link #NO_FILTER} if none do, or {@link #IGNORED} if the state should never be mined.
+     */
+    private int getFilterIndex(BlockState state, List<MinerFilter<?>> filters) {
+        int filterIndex = stateFilters.getInt(state);
+        if (filterIndex == UNKNOWN) {
+            filterIndex = NO_FILTER;
+            Block block = state.getBlock();
+            if (state.isAir() || block instanceof BlockBounding || block instanceof FlowingFluidBlock || block instanceof IFluidBlock ||
+                tile.isReplaceStack(new ItemStack(block))) {
+                //Skip air, bounding blocks, liquids, and the blocks we replace with
+                filterIndex = IGNORED;
+            } else {
+                for (int i = 0; i < filters.size(); i++) {
+                    if (filters.get(i).canFilter(state)) {
+                        filterIndex = i;
+                        break;
+                    }
+                }
+            }
+            stateFilters.put(state, filterIndex);
+        }
+        return filterIndex;
     }
 
     public void reset() {
+        cancel();
         state = State.IDLE;
         chunkCache = null;
+        chunks = null;
     }
 
     public enum State implements IHasTextComponent {
@@ -142,4 +264,4 @@ public class ThreadMinerSearch extends Thread {
             return MathUtils.getByIndexMod(MODES, index);
         }
     }
-}
\ No newline at end of file
+}
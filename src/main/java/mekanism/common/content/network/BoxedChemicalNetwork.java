@@ -4,8 +4,6 @@ import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nonnull;
@@ -39,15 +37,14 @@ import mekanism.common.capabilities.chemical.variable.VariableCapacityChemicalTa
 import mekanism.common.content.network.distribution.BoxedChemicalTransmitterSaveTarget;
 import mekanism.common.content.network.distribution.ChemicalHandlerTarget;
 import mekanism.common.content.network.transmitter.BoxedPressurizedTube;
+import mekanism.common.lib.distribution.LongSplitInfo;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.util.Direction;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.common.util.LazyOptional;
 
 /**
  * A DynamicNetwork extension created specifically for the transfer of Chemicals.
@@ -63,6 +60,11 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
     @Nonnull
     public BoxedChemical lastChemical = BoxedChemical.EMPTY;
     private long prevTransferAmount;
+    //Reused each tick so that the split can be set up when planning the update
+    private final LongSplitInfo splitInfo = new LongSplitInfo(0, 0);
+    //Number of handlers and amount the split info was set up for when planning the update, or -1 if it still needs to be set up when emitting
+    private int plannedHandlers = -1;
+    private long plannedAmount;
 
     public BoxedChemicalNetwork() {
         this(UUID.randomUUID());
@@ -278,21 +280,39 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         ChemicalType chemicalType = ChemicalType.getTypeFor(stack);
         Set<ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>>> availableAcceptors = new ObjectOpenHashSet<>();
         int totalHandlers = 0;
-        for (Entry<BlockPos, Map<Direction, LazyOptional<BoxedChemicalHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
+        for (int acceptor = 0, acceptors = acceptorCache.getResolvedAcceptorCount(); acceptor < acceptors; acceptor++) {
             ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack);
-            entry.getValue().forEach((side, lazyAcceptor) -> lazyAcceptor.ifPresent(acceptor -> {
-                IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
-                if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
-                    target.addHandler(side, handler);
+            for (int handler = acceptorCache.getHandlerStart(acceptor), end = acceptorCache.getHandlerEnd(acceptor); handler < end; handler++) {
+                IChemicalHandler<CHEMICAL, STACK> chemicalHandler = acceptorCache.getHandler(handler).getHandlerFor(chemicalType);
+                if (chemicalHandler != null && ChemicalUtil.canInsert(chemicalHandler, stack)) {
+                    target.addHandler(acceptorCache.getHandlerSide(handler), chemicalHandler);
                 }
-            }));
+            }
             int curHandlers = target.getHandlers().size();
             if (curHandlers > 0) {
                 availableAcceptors.add(target);
                 totalHandlers += curHandlers;
             }
         }
-        return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, stack.getAmount(), stack);
+        if (plannedHandlers != totalHandlers || plannedAmount != stack.getAmount()) {
+            //Some of the handlers are unable to accept the chemical, or something changed since we planned, so split what we are sending between the handlers that can
+            splitInfo.reset(stack.getAmount(), totalHandlers);
+        }
+        plannedHandlers = -1;
+        return EmitUtils.sendToPlannedAcceptors(availableAcceptors, totalHandlers, splitInfo, stack);
+    }
+
+    @Override
+    public void planUpdate() {
+        super.planUpdate();
+        plannedHandlers = -1;
+        Current current = chemicalTank.getCurrent();
+        if (current != Current.EMPTY && !isDormant() && acceptorCache.isResolved()) {
+            //Split our buffer between all the handlers we already know about, so that if they are all able to accept the chemical we don't have to split it when emitting
+            plannedAmount = chemicalTank.getTankFromCurrent(current).getStored();
+            plannedHandlers = acceptorCache.getResolvedHandlerCount();
+            splitInfo.reset(plannedAmount, plannedHandlers);
+        }
     }
 
     @Override
@@ -303,12 +323,13 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
             needsUpdate = false;
         }
         Current current = chemicalTank.getCurrent();
-        if (current == Current.EMPTY) {
+        if (current == Current.EMPTY || isDormant()) {
             prevTransferAmount = 0;
         } else {
             IChemicalTank<?, ?> tank = chemicalTank.getTankFromCurrent(current);
             prevTransferAmount = tickEmit(tank.getStack());
             MekanismUtils.logMismatchedStackSize(tank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
+            updateDormancy(prevTransferAmount > 0);
         }
     }
 
@@ -386,6 +407,7 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
     @Override
     public void onContentsChanged() {
         markDirty();
+        wake();
         Current current = chemicalTank.getCurrent();
         BoxedChemical type = current == Current.EMPTY ? BoxedChemical.EMPTY : BoxedChemical.box(chemicalTank.getTankFromCurrent(current).getType());
         if (!lastChemical.equals(type)) {
@@ -1,11 +1,10 @@
 package mekanism.common.content.network;
 
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nonnull;
@@ -16,26 +15,34 @@ import mekanism.api.energy.IMekanismStrictEnergyHandler;
 import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.inventory.AutomationType;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.BasicEnergyContainer;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
 import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
 import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
+import mekanism.common.lib.distribution.FloatingLongSplitInfo;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.util.Direction;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.common.util.LazyOptional;
 
 public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler, EnergyNetwork, FloatingLong, UniversalCable> implements IMekanismStrictEnergyHandler {
 
     private final List<IEnergyContainer> energyContainers;
+    //Targets that get reused each tick when emitting to acceptors so that we don't have to create new ones every tick
+    private final List<EnergyAcceptorTarget> targetPool = new ObjectArrayList<>();
+    private final List<EnergyAcceptorTarget> targets = new ObjectArrayList<>();
+    //Reused each tick along with the targets so that emitting doesn't have to allocate new floating longs
+    private final FloatingLongSplitInfo splitInfo = new FloatingLongSplitInfo(FloatingLong.ZERO, 0);
+    private final FloatingLongAccumulator toSend = new FloatingLongAccumulator();
+    //Number of handlers the split info was set up for when planning the update, or -1 if it still needs to be set up when emitting
+    private int plannedHandlers = -1;
     public final VariableCapacityEnergyContainer energyContainer;
-    private FloatingLong prevTransferAmount = FloatingLong.ZERO;
+    private final FloatingLongAccumulator prevTransferAmount = new FloatingLongAccumulator();
     private FloatingLong floatingLongCapacity = FloatingLong.ZERO;
 
     public EnergyNetwork() {
@@ -151,23 +158,50 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         }
     }
 
-    private FloatingLong tickEmit(FloatingLong energyToSend) {
-        Set<EnergyAcceptorTarget> targets = new ObjectOpenHashSet<>();
+    private FloatingLong tickEmit(FloatingLong energy) {
+        //Only use the planned split if our buffer didn't change since we planned it
+        boolean planned = plannedHandlers != -1 && toSend.compareTo(energy) == 0;
+        //Note: We snapshot the energy to send so that it doesn't change while we are sending it, and so that acceptors can't modify it
+        FloatingLong energyToSend = toSend.set(energy).snapshot();
+        targets.clear();
         int totalHandlers = 0;
-        for (Entry<BlockPos, Map<Direction, LazyOptional<IStrictEnergyHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
-            EnergyAcceptorTarget target = new EnergyAcceptorTarget();
-            entry.getValue().forEach((side, lazyAcceptor) -> lazyAcceptor.ifPresent(acceptor -> {
-                if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
-                    target.addHandler(side, acceptor);
+        for (int acceptor = 0, acceptors = acceptorCache.getResolvedAcceptorCount(); acceptor < acceptors; acceptor++) {
+            EnergyAcceptorTarget target = getPooledTarget(targets.size());
+            for (int handler = acceptorCache.getHandlerStart(acceptor), end = acceptorCache.getHandlerEnd(acceptor); handler < end; handler++) {
+                IStrictEnergyHandler energyHandler = acceptorCache.getHandler(handler);
+                if (energyHandler.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
+                    target.addHandler(acceptorCache.getHandlerSide(handler), energyHandler);
                 }
-            }));
+            }
             int curHandlers = target.getHandlers().size();
             if (curHandlers > 0) {
                 targets.add(target);
                 totalHandlers += curHandlers;
             }
         }
-        return EmitUtils.sendToAcceptors(targets, totalHandlers, energyToSend.copy());
+        if (!planned || totalHandlers != plannedHandlers) {
+            //Some of the handlers are unable to accept any energy, or something changed since we planned, so split what we are sending between the handlers that can
+            splitInfo.reset(energyToSend, totalHandlers);
+        }
+        plannedHandlers = -1;
+        FloatingLong sent = EmitUtils.sendToPlannedAcceptors(targets, totalHandlers, splitInfo, energyToSend);
+        //Release the handlers so that we don't keep references to them until the next time we emit
+        for (EnergyAcceptorTarget target : targets) {
+            target.clear();
+        }
+        return sent;
+    }
+
+    private EnergyAcceptorTarget getPooledTarget(int index) {
+        EnergyAcceptorTarget target;
+        if (index < targetPool.size()) {
+            target = targetPool.get(index);
+            target.clear();
+        } else {
+            target = new EnergyAcceptorTarget();
+            targetPool.add(target);
+        }
+        return target;
     }
 
     @Override
@@ -175,6 +209,18 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         return "[EnergyNetwork] " + transmitters.size() + " transmitters, " + getAcceptorCount() + " acceptors.";
     }
 
+    @Override
+    public void planUpdate() {
+        super.planUpdate();
+        plannedHandlers = -1;
+        if (!energyContainer.isEmpty() && !isDormant() && acceptorCache.isResolved()) {
+            //Split our buffer between all the handlers we already know about, so that if they are all able to accept energy we don't have to split it when emitting
+            toSend.set(energyContainer.getEnergy());
+            plannedHandlers = acceptorCache.getResolvedHandlerCount();
+            splitInfo.reset(toSend.get(), plannedHandlers);
+        }
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
@@ -182,11 +228,12 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
             MinecraftForge.EVENT_BUS.post(new EnergyTransferEvent(this));
             needsUpdate = false;
         }
-        if (energyContainer.isEmpty()) {
-            prevTransferAmount = FloatingLong.ZERO;
+        if (energyContainer.isEmpty() || isDormant()) {
+            prevTransferAmount.setZero();
         } else {
-            prevTransferAmount = tickEmit(energyContainer.getEnergy());
-            energyContainer.extract(prevTransferAmount, Action.EXECUTE, AutomationType.INTERNAL);
+            prevTransferAmount.set(tickEmit(energyContainer.getEnergy()));
+            energyContainer.extract(prevTransferAmount.get(), Action.EXECUTE, AutomationType.INTERNAL);
+            updateDormancy(!prevTransferAmount.isZero());
         }
     }
 
@@ -214,7 +261,7 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
 
     @Override
     public ITextComponent getFlowInfo() {
-        return MekanismLang.GENERIC_PER_TICK.translate(EnergyDisplay.of(prevTransferAmount));
+        return MekanismLang.GENERIC_PER_TICK.translate(EnergyDisplay.of(prevTransferAmount.copy()));
     }
 
     @Override
@@ -236,6 +283,7 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     @Override
     public void onContentsChanged() {
         markDirty();
+        wake();
     }
 
     public static class EnergyTransferEvent extends TransferEvent<EnergyNetwork> {
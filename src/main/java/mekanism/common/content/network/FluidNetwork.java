@@ -4,8 +4,6 @@ import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nonnull;
@@ -20,15 +18,14 @@ import mekanism.common.capabilities.fluid.VariableCapacityFluidTank;
 import mekanism.common.content.network.distribution.FluidHandlerTarget;
 import mekanism.common.content.network.distribution.FluidTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
+import mekanism.common.lib.distribution.IntegerSplitInfo;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.FluidUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.util.Direction;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 
@@ -39,6 +36,11 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     @Nonnull
     public FluidStack lastFluid = FluidStack.EMPTY;
     private int prevTransferAmount;
+    //Reused each tick so that the split can be set up when planning the update
+    private final IntegerSplitInfo splitInfo = new IntegerSplitInfo(0, 0);
+    //Number of handlers and amount the split info was set up for when planning the update, or -1 if it still needs to be set up when emitting
+    private int plannedHandlers = -1;
+    private int plannedAmount;
 
     //TODO: Make fluid storage support storing as longs?
     private int intCapacity;
@@ -173,20 +175,38 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     private int tickEmit(@Nonnull FluidStack fluidToSend) {
         Set<FluidHandlerTarget> availableAcceptors = new ObjectOpenHashSet<>();
         int totalHandlers = 0;
-        for (Entry<BlockPos, Map<Direction, LazyOptional<IFluidHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
+        for (int acceptor = 0, acceptors = acceptorCache.getResolvedAcceptorCount(); acceptor < acceptors; acceptor++) {
             FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend);
-            entry.getValue().forEach((side, lazyAcceptor) -> lazyAcceptor.ifPresent(acceptor -> {
-                if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                    target.addHandler(side, acceptor);
+            for (int handler = acceptorCache.getHandlerStart(acceptor), end = acceptorCache.getHandlerEnd(acceptor); handler < end; handler++) {
+                IFluidHandler fluidHandler = acceptorCache.getHandler(handler);
+                if (FluidUtils.canFill(fluidHandler, fluidToSend)) {
+                    target.addHandler(acceptorCache.getHandlerSide(handler), fluidHandler);
                 }
-            }));
+            }
             int curHandlers = target.getHandlers().size();
             if (curHandlers > 0) {
                 availableAcceptors.add(target);
                 totalHandlers += curHandlers;
             }
         }
-        return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, fluidToSend.getAmount(), fluidToSend);
+        if (plannedHandlers != totalHandlers || plannedAmount != fluidToSend.getAmount()) {
+            //Some of the handlers are unable to accept the fluid, or something changed since we planned, so split what we are sending between the handlers that can
+            splitInfo.reset(fluidToSend.getAmount(), totalHandlers);
+        }
+        plannedHandlers = -1;
+        return EmitUtils.sendToPlannedAcceptors(availableAcceptors, totalHandlers, splitInfo, fluidToSend);
+    }
+
+    @Override
+    public void planUpdate() {
+        super.planUpdate();
+        plannedHandlers = -1;
+        if (!fluidTank.isEmpty() && !isDormant() && acceptorCache.isResolved()) {
+            //Split our buffer between all the handlers we already know about, so that if they are all able to accept the fluid we don't have to split it when emitting
+            plannedAmount = fluidTank.getFluidAmount();
+            plannedHandlers = acceptorCache.getResolvedHandlerCount();
+            splitInfo.reset(plannedAmount, plannedHandlers);
+        }
     }
 
     @Override
@@ -196,11 +216,12 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
             MinecraftForge.EVENT_BUS.post(new FluidTransferEvent(this, lastFluid));
             needsUpdate = false;
         }
-        if (fluidTank.isEmpty()) {
+        if (fluidTank.isEmpty() || isDormant()) {
             prevTransferAmount = 0;
         } else {
             prevTransferAmount = tickEmit(fluidTank.getFluid());
             MekanismUtils.logMismatchedStackSize(fluidTank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
+            updateDormancy(prevTransferAmount > 0);
         }
     }
 
@@ -267,6 +288,7 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     @Override
     public void onContentsChanged() {
         markDirty();
+        wake();
         FluidStack type = fluidTank.getFluid();
         if (!lastFluid.isFluidEqual(type)) {
             //If the fluid type does not match update it, and mark that we need an update
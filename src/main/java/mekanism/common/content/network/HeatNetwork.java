@@ -2,21 +2,19 @@ package mekanism.common.content.network;
 
 import java.util.Collection;
 import java.util.UUID;
-import mekanism.api.heat.HeatAPI;
-import mekanism.api.heat.HeatAPI.HeatTransfer;
+import javax.annotation.Nullable;
 import mekanism.api.heat.IHeatHandler;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.network.transmitter.ThermodynamicConductor;
 import mekanism.common.lib.transmitter.DynamicNetwork;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
+import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
 
 public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, ThermodynamicConductor> {
 
-    private double meanTemp = HeatAPI.AMBIENT_TEMP;
-    private double heatLost;
-    private double heatTransferred;
+    private final HeatNetworkSolver solver = new HeatNetworkSolver();
 
     public HeatNetwork() {
     }
@@ -37,11 +35,13 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
 
     @Override
     public ITextComponent getStoredInfo() {
-        return MekanismLang.HEAT_NETWORK_STORED.translate(MekanismUtils.getTemperatureDisplay(meanTemp, TemperatureUnit.KELVIN, true));
+        return MekanismLang.HEAT_NETWORK_STORED.translate(MekanismUtils.getTemperatureDisplay(solver.getMeanTemp(), TemperatureUnit.KELVIN, true));
     }
 
     @Override
     public ITextComponent getFlowInfo() {
+        double heatTransferred = solver.getHeatTransferred();
+        double heatLost = solver.getHeatLost();
         ITextComponent transferred = MekanismUtils.getTemperatureDisplay(heatTransferred, TemperatureUnit.KELVIN, false);
         ITextComponent lost = MekanismUtils.getTemperatureDisplay(heatLost, TemperatureUnit.KELVIN, false);
         return heatTransferred + heatLost == 0 ? MekanismLang.HEAT_NETWORK_FLOW.translate(transferred, lost)
@@ -52,18 +52,56 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
     @Override
     public void onUpdate() {
         super.onUpdate();
-        double newSumTemp = 0, newHeatLost = 0, newHeatTransferred = 0;
-        for (ThermodynamicConductor transmitter : transmitters) {
-            // change this when we re-integrate with multipart
-            HeatTransfer transfer = transmitter.simulate();
-            transmitter.updateHeatCapacitors(null);
-            newHeatTransferred += transfer.getAdjacentTransfer();
-            newHeatLost += transfer.getEnvironmentTransfer();
-            newSumTemp += transmitter.getTotalTemperature();
-        }
-        heatLost = newHeatLost;
-        heatTransferred = newHeatTransferred;
-        meanTemp = newSumTemp / transmitters.size();
+        solver.step(transmitters);
+    }
+
+    /**
+     * Marks the connections of this network as changed, so that the heat simulation rebuilds them before the next tick.
+     */
+    public void markTopologyDirty() {
+        solver.markDirty();
+    }
+
+    @Override
+    protected void validTransmittersAdded() {
+        super.validTransmittersAdded();
+        markTopologyDirty();
+    }
+
+    @Override
+    protected void removeInvalid(@Nullable ThermodynamicConductor triggerTransmitter) {
+        super.removeInvalid(triggerTransmitter);
+        markTopologyDirty();
+    }
+
+    @Override
+    protected void transmittersRemoved(ThermodynamicConductor triggerTransmitter) {
+        super.transmittersRemoved(triggerTransmitter);
+        markTopologyDirty();
+    }
+
+    @Override
+    public void acceptorChanged(ThermodynamicConductor transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        markTopologyDirty();
+    }
+
+    @Override
+    public void adoptTransmittersAndAcceptorsFrom(HeatNetwork net) {
+        super.adoptTransmittersAndAcceptorsFrom(net);
+        markTopologyDirty();
+    }
+
+    @Override
+    public void addTransmitter(ThermodynamicConductor transmitter) {
+        super.addTransmitter(transmitter);
+        markTopologyDirty();
+    }
+
+    @Override
+    public void removeTransmitter(ThermodynamicConductor transmitter) {
+        super.removeTransmitter(transmitter);
+        markTopologyDirty();
     }
 
     @Override
@@ -0,0 +1,182 @@
+package mekanism.common.content.network;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import mekanism.api.heat.HeatAPI;
+import mekanism.api.heat.IHeatHandler;
+import mekanism.common.capabilities.heat.BasicHeatCapacitor;
+import mekanism.common.content.network.transmitter.ThermodynamicConductor;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.util.Direction;
+
+/**
+ * Steps the heat simulation of all the conductors in a {@link HeatNetwork} at once. The conductors, their constant properties and the connections between them (and to
+ * any acceptors) are flattened into arrays that only get rebuilt when the network's topology changes.
+ *
+ * @implNote Each conductor's transfers only depend on its own temperature at the start of the tick, so the transfers are calculated for all conductors before any of
+ * them get applied. This matches what simulating each conductor on its own did, except that heat a conductor receives from another conductor is applied the same tick
+ * instead of possibly being delayed until the next one.
+ */
+class HeatNetworkSolver {
+
+    private static final int[] EMPTY_INTS = new int[0];
+    private static final double[] EMPTY_DOUBLES = new double[0];
+    private static final IHeatHandler[] EMPTY_HANDLERS = new IHeatHandler[0];
+
+    private boolean dirty = true;
+
+    private ThermodynamicConductor[] conductors = new ThermodynamicConductor[0];
+    private BasicHeatCapacitor[] buffers = new BasicHeatCapacitor[0];
+    private double[] heatCapacity = EMPTY_DOUBLES;
+    private double[] inverseConduction = EMPTY_DOUBLES;
+    //Fraction of a conductor's temperature above ambient that it loses to the environment each tick, summed over all six sides
+    private double[] environmentCoefficient = EMPTY_DOUBLES;
+    //Per tick working arrays
+    private double[] temperature = EMPTY_DOUBLES;
+    private double[] heatDelta = EMPTY_DOUBLES;
+
+    //Directed connections between two conductors of this network
+    private int conductorEdgeCount;
+    private int[] conductorEdgeFrom = EMPTY_INTS;
+    private int[] conductorEdgeTo = EMPTY_INTS;
+    private double[] conductorEdgeCoefficient = EMPTY_DOUBLES;
+
+    //Connections from a conductor to an acceptor, or to a conductor that isn't part of this network
+    private int acceptorEdgeCount;
+    private int[] acceptorEdgeFrom = EMPTY_INTS;
+    private IHeatHandler[] acceptorEdgeTo = EMPTY_HANDLERS;
+
+    private double heatTransferred;
+    private double heatLost;
+    private double meanTemp = HeatAPI.AMBIENT_TEMP;
+
+    /**
+     * Marks the topology as changed so that it gets rebuilt before the next step.
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Runs one tick of heat transfer for the given conductors.
+     */
+    public void step(Collection<ThermodynamicConductor> transmitters) {
+        if (dirty || conductors.length != transmitters.size()) {
+            rebuild(transmitters);
+        }
+        int count = conductors.length;
+        if (count == 0) {
+            heatTransferred = 0;
+            heatLost = 0;
+            meanTemp = HeatAPI.AMBIENT_TEMP;
+            return;
+        }
+        double[] temperature = this.temperature;
+        double[] heatDelta = this.heatDelta;
+        double[] heatCapacity = this.heatCapacity;
+        double newHeatLost = 0;
+        for (int i = 0; i < count; i++) {
+            //Temperature above ambient, this is what drives all transfers
+            double excess = buffers[i].getHeat() / heatCapacity[i] - HeatAPI.AMBIENT_TEMP;
+            temperature[i] = excess;
+            double lost = excess * environmentCoefficient[i];
+            heatDelta[i] = -lost * heatCapacity[i];
+            newHeatLost += lost;
+        }
+        for (int e = 0; e < conductorEdgeCount; e++) {
+            int from = conductorEdgeFrom[e];
+            double heat = temperature[from] * conductorEdgeCoefficient[e] * heatCapacity[from];
+            heatDelta[from] -= heat;
+            heatDelta[conductorEdgeTo[e]] += heat;
+        }
+        double newHeatTransferred = 0;
+        for (int e = 0; e < acceptorEdgeCount; e++) {
+            int from = acceptorEdgeFrom[e];
+            IHeatHandler sink = acceptorEdgeTo[e];
+            //Note: The acceptor's conduction is looked up each tick as unlike our conductors it may change (for example multiblocks)
+            double transfer = temperature[from] / (sink.getTotalInverseConduction() + inverseConduction[from]);
+            double heat = transfer * heatCapacity[from];
+            heatDelta[from] -= heat;
+            sink.handleHeat(heat);
+            newHeatTransferred += transfer;
+        }
+        double sumTemp = 0;
+        for (int i = 0; i < count; i++) {
+            BasicHeatCapacitor buffer = buffers[i];
+            buffer.handleHeat(heatDelta[i]);
+            //Apply our changes along with any heat that was given to the conductor since last tick and notify the conductor of changes
+            conductors[i].updateHeatCapacitors(null);
+            sumTemp += buffer.getTemperature();
+        }
+        heatTransferred = newHeatTransferred;
+        heatLost = newHeatLost;
+        meanTemp = sumTemp / count;
+    }
+
+    private void rebuild(Collection<ThermodynamicConductor> transmitters) {
+        dirty = false;
+        int count = transmitters.size();
+        conductors = transmitters.toArray(new ThermodynamicConductor[0]);
+        buffers = new BasicHeatCapacitor[count];
+        heatCapacity = new double[count];
+        inverseConduction = new double[count];
+        environmentCoefficient = new double[count];
+        temperature = new double[count];
+        heatDelta = new double[count];
+        Reference2IntMap<IHeatHandler> indices = new Reference2IntOpenHashMap<>(count);
+        indices.defaultReturnValue(-1);
+        for (int i = 0; i < count; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            BasicHeatCapacitor buffer = conductor.buffer;
+            buffers[i] = buffer;
+            heatCapacity[i] = buffer.getHeatCapacity();
+            inverseConduction[i] = buffer.getInverseConduction();
+            environmentCoefficient[i] = EnumUtils.DIRECTIONS.length / (HeatAPI.AIR_INVERSE_COEFFICIENT + buffer.getInverseInsulation() + buffer.getInverseConduction());
+            indices.put(conductor, i);
+        }
+        //Each conductor has at most one connection per side
+        int maxEdges = count * EnumUtils.DIRECTIONS.length;
+        conductorEdgeCount = 0;
+        conductorEdgeFrom = new int[maxEdges];
+        conductorEdgeTo = new int[maxEdges];
+        conductorEdgeCoefficient = new double[maxEdges];
+        acceptorEdgeCount = 0;
+        int[] acceptorFrom = new int[maxEdges];
+        IHeatHandler[] acceptorTo = new IHeatHandler[maxEdges];
+        for (int i = 0; i < count; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                IHeatHandler sink = conductor.getAdjacent(side);
+                if (sink != null) {
+                    int sinkIndex = indices.getInt(sink);
+                    if (sinkIndex == -1) {
+                        acceptorFrom[acceptorEdgeCount] = i;
+                        acceptorTo[acceptorEdgeCount] = sink;
+                        acceptorEdgeCount++;
+                    } else {
+                        conductorEdgeFrom[conductorEdgeCount] = i;
+                        conductorEdgeTo[conductorEdgeCount] = sinkIndex;
+                        conductorEdgeCoefficient[conductorEdgeCount] = 1 / (inverseConduction[sinkIndex] + inverseConduction[i]);
+                        conductorEdgeCount++;
+                    }
+                }
+            }
+        }
+        acceptorEdgeFrom = Arrays.copyOf(acceptorFrom, acceptorEdgeCount);
+        acceptorEdgeTo = Arrays.copyOf(acceptorTo, acceptorEdgeCount);
+    }
+
+    public double getHeatTransferred() {
+        return heatTransferred;
+    }
+
+    public double getHeatLost() {
+        return heatLost;
+    }
+
+    public double getMeanTemp() {
+        return meanTemp;
+    }
+}
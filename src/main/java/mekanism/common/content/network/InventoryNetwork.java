@@ -6,15 +6,16 @@ import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import mekanism.api.Coord4D;
+import javax.annotation.Nullable;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.transporter.TransporterGraph;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterScheduler;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
@@ -25,11 +26,14 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.chunk.IChunk;
-import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.items.IItemHandler;
 
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
+    private final TransporterScheduler scheduler = new TransporterScheduler();
+    @Nullable
+    private TransporterGraph graph;
+
     public InventoryNetwork() {
     }
 
@@ -49,29 +53,27 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
 
     public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
         List<AcceptorData> toReturn = new ArrayList<>();
-        for (Entry<BlockPos, Map<Direction, LazyOptional<IItemHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
-            BlockPos pos = entry.getKey();
-            if (!pos.equals(stack.homeLocation)) {
-                TileEntity acceptor = MekanismUtils.getTileEntity(getWorld(), chunkMap, pos);
-                if (acceptor == null) {
+        long homePos = stack.homeLocation == null ? 0 : stack.homeLocation.toLong();
+        for (int acceptor = 0, acceptors = acceptorCache.getResolvedAcceptorCount(); acceptor < acceptors; acceptor++) {
+            long packedPos = acceptorCache.getResolvedPosition(acceptor);
+            if (stack.homeLocation == null || packedPos != homePos) {
+                BlockPos pos = BlockPos.fromLong(packedPos);
+                TileEntity tile = MekanismUtils.getTileEntity(getWorld(), chunkMap, pos);
+                if (tile == null) {
                     continue;
                 }
                 AcceptorData data = null;
-                Coord4D position = Coord4D.get(acceptor);
-                for (Entry<Direction, LazyOptional<IItemHandler>> acceptorEntry : entry.getValue().entrySet()) {
-                    Optional<IItemHandler> handler = MekanismUtils.toOptional(acceptorEntry.getValue());
-                    if (handler.isPresent()) {
-                        Direction side = acceptorEntry.getKey();
-                        //TODO: Figure out how we want to best handle the color check, as without doing it here we don't
-                        // actually need to even query the TE
-                        TransitResponse response = TransporterManager.getPredictedInsert(acceptor, position, handler.get(), stack.color, request, side);
-                        if (!response.isEmpty()) {
-                            Direction opposite = side.getOpposite();
-                            if (data == null) {
-                                toReturn.add(data = new AcceptorData(pos, response, opposite));
-                            } else {
-                                data.sides.add(opposite);
-                            }
+                for (int handler = acceptorCache.getHandlerStart(acceptor), end = acceptorCache.getHandlerEnd(acceptor); handler < end; handler++) {
+                    Direction side = acceptorCache.getHandlerSide(handler);
+                    //TODO: Figure out how we want to best handle the color check, as without doing it here we don't
+                    // actually need to even query the TE
+                    TransitResponse response = TransporterManager.getPredictedInsert(tile, acceptorCache.getHandler(handler), stack.color, request, side);
+                    if (!response.isEmpty()) {
+                        Direction opposite = side.getOpposite();
+                        if (data == null) {
+                            toReturn.add(data = new AcceptorData(pos, tile, response, opposite));
+                        } else {
+                            data.sides.add(opposite);
                         }
                     }
                 }
@@ -80,16 +82,78 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return toReturn;
     }
 
+    /**
+     * Gets the adjacency graph of the transporters in this network, building it if the network has changed since it was last built.
+     */
+    public TransporterGraph getGraph() {
+        if (graph == null) {
+            graph = new TransporterGraph(transmitters);
+        }
+        return graph;
+    }
+
+    public TransporterScheduler getScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public void onUpdate() {
+        super.onUpdate();
+        if (world != null) {
+            scheduler.tick(this, world);
+        }
+    }
+
+    @Override
+    protected void addTransmitterFromCommit(LogisticalTransporterBase transporter) {
+        super.addTransmitterFromCommit(transporter);
+        if (!isRemote()) {
+            //The stacks of transporters that were in another network (or none) need to be scheduled with this network
+            transporter.scheduleStacks();
+        }
+    }
+
     @Override
     public void commit() {
+        // update the cache around transmitters that are being added, and for the acceptors that changed
+        for (LogisticalTransporterBase transporter : transmittersToAdd) {
+            PathfinderCache.onTransporterChanged(this, transporter.getTilePos());
+        }
+        for (Map.Entry<Transmitter<IItemHandler, ?, ?>, Set<Direction>> entry : acceptorCache.getChangedAcceptors().entrySet()) {
+            BlockPos pos = entry.getKey().getTilePos();
+            for (Direction side : entry.getValue()) {
+                PathfinderCache.onAcceptorChanged(this, pos.offset(side));
+            }
+        }
         super.commit();
-        // update the cache when the network has been changed (called when transmitters are added)
-        PathfinderCache.onChanged(this);
+        graph = null;
+    }
+
+    @Override
+    public void adoptTransmittersAndAcceptorsFrom(InventoryNetwork net) {
+        super.adoptTransmittersAndAcceptorsFrom(net);
+        scheduler.adopt(net.scheduler);
+        graph = null;
+    }
+
+    @Override
+    protected void transmittersRemoved(LogisticalTransporterBase triggerTransporter) {
+        super.transmittersRemoved(triggerTransporter);
+        graph = null;
+        if (triggerTransporter.isValid()) {
+            // the transporter's connections changed, update the cache around it
+            PathfinderCache.onTransporterChanged(this, triggerTransporter.getTilePos());
+        } else {
+            // update the cache around the removed transporter, any path to transporters that got split off has to go through it
+            PathfinderCache.onTransporterRemoved(this, triggerTransporter.getTilePos());
+        }
     }
 
     @Override
     public void deregister() {
         super.deregister();
+        scheduler.clear();
+        graph = null;
         // update the cache when the network has been removed (when transmitters are removed)
         PathfinderCache.onChanged(this);
     }
@@ -107,11 +171,13 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
     public static class AcceptorData {
 
         private final BlockPos location;
+        private final TileEntity tile;
         private final TransitResponse response;
         private final Set<Direction> sides;
 
-        protected AcceptorData(BlockPos pos, TransitResponse ret, Direction side) {
+        protected AcceptorData(BlockPos pos, TileEntity tile, TransitResponse ret, Direction side) {
             location = pos;
+            this.tile = tile;
             response = ret;
             sides = EnumSet.of(side);
         }
@@ -124,6 +190,10 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
             return location;
         }
 
+        public TileEntity getTile() {
+            return tile;
+        }
+
         public Set<Direction> getSides() {
             return sides;
         }
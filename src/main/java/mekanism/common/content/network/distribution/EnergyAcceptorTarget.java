@@ -10,11 +10,16 @@ public class EnergyAcceptorTarget extends Target<IStrictEnergyHandler, FloatingL
 
     @Override
     protected void acceptAmount(IStrictEnergyHandler handler, SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
-        splitInfo.send(amount.subtract(handler.insertEnergy(amount, Action.EXECUTE)));
+        splitInfo.send(getAccepted(amount, handler.insertEnergy(amount, Action.EXECUTE)));
     }
 
     @Override
     protected FloatingLong simulate(IStrictEnergyHandler handler, FloatingLong energyToSend) {
-        return energyToSend.subtract(handler.insertEnergy(energyToSend, Action.SIMULATE));
+        return getAccepted(energyToSend, handler.insertEnergy(energyToSend, Action.SIMULATE));
+    }
+
+    private static FloatingLong getAccepted(FloatingLong amount, FloatingLong remainder) {
+        //If all of it was accepted we don't need to create a new object to represent how much was accepted
+        return remainder.isZero() ? amount : amount.subtract(remainder);
     }
 }
\ No newline at end of file
@@ -62,6 +62,25 @@ public abstract class BufferedTransmitter<ACCEPTOR, NETWORK extends DynamicBuffe
         return super.isValidTransmitter(transmitter);
     }
 
+    @Override
+    public void onNeighborTileChange(Direction side) {
+        super.onNeighborTileChange(side);
+        wakeNetwork();
+    }
+
+    @Override
+    public void onNeighborBlockChange(Direction side) {
+        super.onNeighborBlockChange(side);
+        wakeNetwork();
+    }
+
+    private void wakeNetwork() {
+        //A neighbor changed so it may be able to accept from us again, make sure our network doesn't stay dormant
+        if (hasTransmitterNetwork()) {
+            getTransmitterNetwork().wake();
+        }
+    }
+
     @Override
     public void requestsUpdate() {
         if (canHaveIncompatibleNetworks()) {
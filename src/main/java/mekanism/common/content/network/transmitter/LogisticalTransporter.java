@@ -41,7 +41,7 @@ public class LogisticalTransporter extends LogisticalTransporterBase {
     @Override
     public ActionResultType onConfigure(PlayerEntity player, Direction side) {
         TransporterUtils.incrementColor(this);
-        PathfinderCache.onChanged(getTransmitterNetwork());
+        PathfinderCache.onTransporterChanged(getTransmitterNetwork(), getTilePos());
         getTransmitterTile().sendUpdatePacket();
         EnumColor color = getColor();
         player.sendMessage(MekanismLang.LOG_FORMAT.translateColored(EnumColor.DARK_BLUE, MekanismLang.MEKANISM,
@@ -7,13 +7,14 @@ import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.UUID;
-import java.util.function.IntConsumer;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterScheduler;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.inventory.TransitRequest;
@@ -24,8 +25,8 @@ import mekanism.common.lib.transmitter.acceptor.AcceptorCache;
 import mekanism.common.network.PacketTransporterUpdate;
 import mekanism.common.tier.TransporterTier;
 import mekanism.common.tile.TileEntityLogisticalSorter;
-import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.TransporterUtils;
 import net.minecraft.item.ItemStack;
@@ -34,6 +35,7 @@ import net.minecraft.nbt.ListNBT;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
@@ -42,6 +44,10 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
 
     private final Int2ObjectMap<TransporterStack> transit = new Int2ObjectOpenHashMap<>();
     private final Int2ObjectMap<TransporterStack> needsSync = new Int2ObjectOpenHashMap<>();
+    //Stacks that left this transporter during the current tick, reused between ticks
+    private final IntSet deletes = new IntOpenHashSet();
+    //Transporters next to us in our network that stacks have moved to, so that we don't have to look them up in the world each time
+    private final LogisticalTransporterBase[] adjacentTransporters = new LogisticalTransporterBase[EnumUtils.DIRECTIONS.length];
     public final TransporterTier tier;
     private int nextId = 0;
     private int delay = 0;
@@ -130,109 +136,181 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                     }
                 }
             }
-            //Update stack positions
-            IntSet deletes = new IntOpenHashSet();
-            //Note: Our calls to getTileEntity are not done with a chunkMap as we don't tend to have that many tiles we
-            // are checking at once from here and given this gets called each tick, it would cause unnecessary garbage
-            // collection to occur actually causing the tick time to go up slightly.
-            for (Int2ObjectMap.Entry<TransporterStack> entry : transit.int2ObjectEntrySet()) {
-                int stackId = entry.getIntKey();
-                TransporterStack stack = entry.getValue();
-                if (!stack.initiatedPath) {
-                    if (stack.itemStack.isEmpty() || !recalculate(stackId, stack, null)) {
-                        deletes.add(stackId);
-                        continue;
-                    }
-                }
+        }
+    }
 
-                stack.progress += tier.getSpeed();
-                if (stack.progress >= 100) {
-                    BlockPos prevSet = null;
-                    if (stack.hasPath()) {
-                        int currentIndex = stack.getPath().indexOf(getTilePos());
-                        if (currentIndex == 0) { //Necessary for transition reasons, not sure why
-                            deletes.add(stackId);
-                            continue;
+    /**
+     * Updates a stack that reached the middle or the end of this transporter, and schedules its next update if it is still in this transporter afterwards.
+     *
+     * @apiNote Only call this from the server side
+     */
+    public void updateStack(int stackId, TransporterStack stack, long gameTime) {
+        //Note: Our calls to getTileEntity are not done with a chunkMap as we don't tend to have that many tiles we
+        // are checking at once from here and given this gets called for single stacks, it would cause unnecessary garbage
+        // collection to occur actually causing the tick time to go up slightly.
+        stack.updateProgress(gameTime);
+        if (!stack.initiatedPath) {
+            if (stack.itemStack.isEmpty() || !recalculate(stackId, stack, null)) {
+                removeStack(stackId);
+                return;
+            }
+        }
+        if (stack.progress >= 100) {
+            BlockPos prevSet = null;
+            if (stack.hasPath()) {
+                int currentIndex = stack.getRouteIndex(this);
+                if (currentIndex == 0) { //Necessary for transition reasons, not sure why
+                    removeStack(stackId);
+                    return;
+                }
+                if (currentIndex > 0) {
+                    BlockPos next = BlockPos.fromLong(stack.getRoutePos(currentIndex - 1));
+                    if (!stack.isFinal(this)) {
+                        Direction side = stack.getNextSide(this);
+                        LogisticalTransporterBase nextTransporter = side == null ? null : getAdjacentTransporter(side);
+                        if (nextTransporter != null && stack.canInsertToTransporterNN(nextTransporter, side, getTransmitterTile())) {
+                            nextTransporter.entityEntering(stack, stack.progress % 100, gameTime);
+                            removeStack(stackId);
+                            return;
                         }
-                        BlockPos next = stack.getPath().get(currentIndex - 1);
-                        if (next != null) {
-                            if (!stack.isFinal(this)) {
-                                TileEntityLogisticalTransporterBase tile = MekanismUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, getTileWorld(), next);
-                                if (stack.canInsertToTransporter(tile, stack.getSide(this), getTransmitterTile())) {
-                                    tile.getTransmitter().entityEntering(stack, stack.progress % 100);
-                                    deletes.add(stackId);
-                                    continue;
-                                }
-                                prevSet = next;
-                            } else if (stack.getPathType() != Path.NONE) {
-                                TileEntity tile = MekanismUtils.getTileEntity(getTileWorld(), next);
-                                if (tile != null) {
-                                    TransitResponse response = TransitRequest.simple(stack.itemStack).addToInventory(tile, stack.getSide(this),
-                                          stack.getPathType() == Path.HOME);
-                                    // Nothing was rejected; remove the stack from the prediction tracker and
-                                    // schedule this stack for deletion. Continue the loop thereafter
-                                    ItemStack rejected = response.getRejected();
-                                    if (rejected.isEmpty()) {
-                                        TransporterManager.remove(getTileWorld(), stack);
-                                        deletes.add(stackId);
-                                        continue;
-                                    }
-                                    // Some portion of the stack got rejected; save the remainder and
-                                    // let the recalculate below sort out what to do next
-                                    stack.itemStack = rejected;
-                                    prevSet = next;
-                                }
+                        prevSet = next;
+                    } else if (stack.getPathType() != Path.NONE) {
+                        TileEntity tile = MekanismUtils.getTileEntity(getTileWorld(), next);
+                        if (tile != null) {
+                            TransitResponse response = TransitRequest.simple(stack.itemStack).addToInventory(tile, stack.getSide(this),
+                                  stack.getPathType() == Path.HOME);
+                            // Nothing was rejected; remove the stack from the prediction tracker and
+                            // delete this stack
+                            ItemStack rejected = response.getRejected();
+                            if (rejected.isEmpty()) {
+                                TransporterManager.remove(stack);
+                                removeStack(stackId);
+                                return;
                             }
+                            // Some portion of the stack got rejected; save the remainder and
+                            // let the recalculate below sort out what to do next
+                            stack.itemStack = rejected;
+                            prevSet = next;
                         }
                     }
-                    if (!recalculate(stackId, stack, prevSet)) {
-                        deletes.add(stackId);
-                    } else if (prevSet == null) {
-                        stack.progress = 50;
-                    } else {
-                        stack.progress = 0;
-                    }
-                } else if (stack.progress == 50) {
-                    boolean tryRecalculate;
-                    if (stack.isFinal(this)) {
-                        Path pathType = stack.getPathType();
-                        if (pathType == Path.DEST || pathType == Path.HOME) {
-                            ConnectionType connectionType = getConnectionType(stack.getSide(this));
-                            tryRecalculate = connectionType != ConnectionType.NORMAL && connectionType != ConnectionType.PUSH ||
-                                             !TransporterUtils.canInsert(MekanismUtils.getTileEntity(getTileWorld(), stack.getDest()), stack.color, stack.itemStack,
-                                                   stack.getSide(this), pathType == Path.HOME);
-                        } else {
-                            tryRecalculate = pathType == Path.NONE;
-                        }
-                    } else {
-                        tryRecalculate = !stack.canInsertToTransporter(MekanismUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, getTileWorld(),
-                              stack.getNext(this)), stack.getSide(this), getTransmitterTile());
-                    }
-                    if (tryRecalculate && !recalculate(stackId, stack, null)) {
-                        deletes.add(stackId);
-                    }
                 }
             }
+            if (!recalculate(stackId, stack, prevSet)) {
+                removeStack(stackId);
+                return;
+            } else if (prevSet == null) {
+                stack.progress = 50;
+            } else {
+                stack.progress = 0;
+            }
+        } else if (stack.progress == 50) {
+            boolean tryRecalculate;
+            if (stack.isFinal(this)) {
+                Path pathType = stack.getPathType();
+                if (pathType == Path.DEST || pathType == Path.HOME) {
+                    ConnectionType connectionType = getConnectionType(stack.getSide(this));
+                    tryRecalculate = connectionType != ConnectionType.NORMAL && connectionType != ConnectionType.PUSH ||
+                                     !TransporterUtils.canInsert(MekanismUtils.getTileEntity(getTileWorld(), stack.getDest()), stack.color, stack.itemStack,
+                                           stack.getSide(this), pathType == Path.HOME);
+                } else {
+                    tryRecalculate = pathType == Path.NONE;
+                }
+            } else {
+                Direction side = stack.getNextSide(this);
+                LogisticalTransporterBase nextTransporter = side == null ? null : getAdjacentTransporter(side);
+                tryRecalculate = nextTransporter == null || !stack.canInsertToTransporterNN(nextTransporter, side, getTransmitterTile());
+            }
+            if (tryRecalculate && !recalculate(stackId, stack, null)) {
+                removeStack(stackId);
+                return;
+            }
+        }
+        getTransmitterNetwork().getScheduler().schedule(this, stackId, stack, gameTime);
+    }
+
+    /**
+     * Schedules all the stacks in this transporter with our network, for when this transporter joins a network.
+     *
+     * @apiNote Only call this from the server side
+     */
+    public void scheduleStacks() {
+        long gameTime = getTileWorld().getGameTime();
+        TransporterScheduler scheduler = getTransmitterNetwork().getScheduler();
+        for (Int2ObjectMap.Entry<TransporterStack> entry : transit.int2ObjectEntrySet()) {
+            TransporterStack stack = entry.getValue();
+            stack.updateProgress(gameTime);
+            scheduler.schedule(this, entry.getIntKey(), stack, gameTime);
+        }
+        if (!needsSync.isEmpty() || !deletes.isEmpty()) {
+            scheduler.markChanged(this);
+        }
+    }
+
+    public boolean isInTransit(int stackId, TransporterStack stack) {
+        return transit.get(stackId) == stack;
+    }
+
+    /**
+     * Gets the changes to our stacks that have to be sent to the client.
+     *
+     * @return The changes, or {@code null} if nothing changed.
+     */
+    @Nullable
+    public PacketTransporterUpdate getStackChanges() {
+        if (needsSync.isEmpty() && deletes.isEmpty()) {
+            return null;
+        }
+        return new PacketTransporterUpdate(this, needsSync, deletes);
+    }
+
+    public void clearStackChanges() {
+        needsSync.clear();
+        deletes.clear();
+    }
 
-            if (!deletes.isEmpty() || !needsSync.isEmpty()) {
-                //Notify clients, so that we send the information before we start clearing our lists
-                Mekanism.packetHandler.sendToAllTracking(new PacketTransporterUpdate(this, needsSync, deletes), getTransmitterTile());
-                // Now remove any entries from transit that have been deleted
-                deletes.forEach((IntConsumer) (this::deleteStack));
+    private void removeStack(int stackId) {
+        deleteStack(stackId);
+        deletes.add(stackId);
+        markStacksChanged();
+    }
 
-                // Clear the pending sync packets
-                needsSync.clear();
+    private void markStacksChanged() {
+        if (hasTransmitterNetwork()) {
+            getTransmitterNetwork().getScheduler().markChanged(this);
+        }
+    }
 
-                // Finally, mark chunk for save
-                MekanismUtils.saveChunk(getTransmitterTile());
+    /**
+     * Brings the progress of all our stacks up to date before they get synced or saved.
+     */
+    private void updateProgress() {
+        World world = getTileWorld();
+        if (world != null && !world.isRemote()) {
+            long gameTime = world.getGameTime();
+            for (TransporterStack stack : transit.values()) {
+                stack.updateProgress(gameTime);
             }
         }
     }
 
+    /**
+     * Gets the transporter next to us on the given side if it is in the same network as us.
+     */
+    @Nullable
+    private LogisticalTransporterBase getAdjacentTransporter(Direction side) {
+        LogisticalTransporterBase adjacent = adjacentTransporters[side.ordinal()];
+        if (adjacent == null || !adjacent.isValid() || adjacent.getTransmitterNetwork() != getTransmitterNetwork()) {
+            adjacent = getTransmitterNetwork().getGraph().getTransporterAt(getTilePos().offset(side));
+            adjacentTransporters[side.ordinal()] = adjacent;
+        }
+        return adjacent;
+    }
+
     @Override
     public void remove() {
         super.remove();
         if (!isRemote()) {
+            updateProgress();
             for (TransporterStack stack : getTransit()) {
                 TransporterUtils.drop(this, stack);
             }
@@ -258,6 +336,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
     @Override
     public CompoundNBT getReducedUpdateTag(CompoundNBT updateTag) {
         updateTag = super.getReducedUpdateTag(updateTag);
+        updateProgress();
         ListNBT stacks = new ListNBT();
         for (Int2ObjectMap.Entry<TransporterStack> entry : transit.int2ObjectEntrySet()) {
             CompoundNBT tagCompound = new CompoundNBT();
@@ -320,6 +399,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
     }
 
     public ListNBT writeStackToNBT() {
+        updateProgress();
         ListNBT stacks = new ListNBT();
         for (TransporterStack stack : getTransit()) {
             CompoundNBT tagCompound = new CompoundNBT();
@@ -400,16 +480,27 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         if (!response.isEmpty()) {
             stack.itemStack = response.getStack();
             if (doEmit) {
+                //The items the stack is sending were only known once its path was found, so update what it is counted as sending
+                TransporterManager.add(getTileWorld(), stack);
                 int stackId = nextId++;
                 addStack(stackId, stack);
-                Mekanism.packetHandler.sendToAllTracking(new PacketTransporterUpdate(this, stackId, stack), getTransmitterTile());
-                MekanismUtils.saveChunk(getTransmitterTile());
+                if (hasTransmitterNetwork()) {
+                    //Let the network send the new stack along with the other changes to the stacks in this chunk
+                    needsSync.put(stackId, stack);
+                    markStacksChanged();
+                    getTransmitterNetwork().getScheduler().schedule(this, stackId, stack, getTileWorld().getGameTime());
+                } else {
+                    Mekanism.packetHandler.sendToAllTracking(new PacketTransporterUpdate(this, stackId, stack), getTransmitterTile());
+                    MekanismUtils.saveChunk(getTransmitterTile());
+                }
+            } else {
+                TransporterManager.remove(stack);
             }
         }
         return response;
     }
 
-    private void entityEntering(TransporterStack stack, int progress) {
+    private void entityEntering(TransporterStack stack, int progress, long gameTime) {
         // Update the progress of the stack and add it as something that's both
         // in transit and needs sync down to the client.
         //
@@ -420,10 +511,10 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         stack.progress = progress;
         addStack(stackId, stack);
         needsSync.put(stackId, stack);
+        markStacksChanged();
+        getTransmitterNetwork().getScheduler().schedule(this, stackId, stack, gameTime);
 
-        // N.B. We are not marking the chunk as dirty here! I don't believe it's needed, since
-        // the next tick will generate the necessary save and if we crash before the next tick,
-        // it's unlikely the data will be save anyways (since chunks aren't saved until the end of
-        // a tick).
+        // N.B. We are not marking the chunk as dirty here, the network marks the chunks of
+        // all the transporters that had changes once it has sent them.
     }
 }
\ No newline at end of file
@@ -77,6 +77,27 @@ public class ThermodynamicConductor extends Transmitter<IHeatHandler, HeatNetwor
         return getAcceptorCache().isAcceptorAndListen(tile, side, Capabilities.HEAT_HANDLER_CAPABILITY);
     }
 
+    @Override
+    public void refreshConnections() {
+        byte connections = getAllCurrentConnections();
+        super.refreshConnections();
+        onConnectionsRefreshed(connections);
+    }
+
+    @Override
+    public void refreshConnections(Direction side) {
+        byte connections = getAllCurrentConnections();
+        super.refreshConnections(side);
+        onConnectionsRefreshed(connections);
+    }
+
+    private void onConnectionsRefreshed(byte previousConnections) {
+        if (previousConnections != getAllCurrentConnections() && hasTransmitterNetwork()) {
+            //The network's heat simulation caches what each conductor is connected to
+            getTransmitterNetwork().markTopologyDirty();
+        }
+    }
+
     @Nonnull
     @Override
     public CompoundNBT write(@Nonnull CompoundNBT tag) {
@@ -5,6 +5,7 @@ import com.google.common.collect.SetMultimap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.text.NumberFormat;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -20,6 +21,8 @@ import mekanism.common.Mekanism;
 import mekanism.common.base.TagCache;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
+import mekanism.common.inventory.container.QIOItemViewerContainer.ListSortType;
+import mekanism.common.inventory.container.QIOItemViewerContainer.SortDirection;
 import mekanism.common.lib.BiMultimap;
 import mekanism.common.lib.WildcardMatcher;
 import mekanism.common.lib.frequency.Frequency;
@@ -47,7 +50,7 @@ public class QIOFrequency extends Frequency {
     private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
 
     private final Set<HashedItem> updatedItems = new HashSet<>();
-    private final Set<ServerPlayerEntity> playersViewingItems = new HashSet<>();
+    private final Map<ServerPlayerEntity, QIOItemViewerSession> playersViewingItems = new HashMap<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
@@ -154,11 +157,10 @@ public class QIOFrequency extends Frequency {
         }
     }
 
-    public void openItemViewer(ServerPlayerEntity player) {
-        playersViewingItems.add(player);
-        Object2LongMap<HashedItem> map = new Object2LongOpenHashMap<>();
-        itemDataMap.values().forEach(d -> map.put(d.itemType, d.count));
-        Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.batch(map, totalCountCapacity, totalTypeCapacity), player);
+    public void openItemViewer(ServerPlayerEntity player, ListSortType sortType, SortDirection sortDirection) {
+        QIOItemViewerSession session = new QIOItemViewerSession(player);
+        playersViewingItems.put(player, session);
+        session.start(itemDataMap.keySet(), this::getStored, sortType, sortDirection, totalCountCapacity, totalTypeCapacity);
     }
 
     public void closeItemViewer(ServerPlayerEntity player) {
@@ -202,15 +204,12 @@ public class QIOFrequency extends Frequency {
     @Override
     public void tick() {
         super.tick();
-        if (!updatedItems.isEmpty() || needsUpdate) {
-            Object2LongMap<HashedItem> map = new Object2LongOpenHashMap<>();
-            updatedItems.forEach(type -> {
-                QIOItemTypeData data = itemDataMap.get(type);
-                map.put(type, data == null ? 0 : data.count);
-            });
+        if (!updatedItems.isEmpty() || needsUpdate || playersViewingItems.values().stream().anyMatch(QIOItemViewerSession::isStreaming)) {
             // flush players that somehow didn't send a container close packet
-            playersViewingItems.removeIf(player -> !(player.openContainer instanceof QIOItemViewerContainer));
-            playersViewingItems.forEach(player -> Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.update(map, totalCountCapacity, totalTypeCapacity), player));
+            playersViewingItems.keySet().removeIf(player -> !(player.openContainer instanceof QIOItemViewerContainer));
+            for (QIOItemViewerSession session : playersViewingItems.values()) {
+                session.tick(updatedItems, this::getStored, needsUpdate, totalCountCapacity, totalTypeCapacity);
+            }
             updatedItems.clear();
             needsUpdate = false;
         }
@@ -262,7 +261,7 @@ public class QIOFrequency extends Frequency {
         Set<QIODriveKey> keys = new HashSet<>(driveMap.keySet());
         keys.forEach(key -> removeDrive(key, false));
         driveMap.clear();
-        playersViewingItems.forEach(player -> Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.kill(), player));
+        playersViewingItems.keySet().forEach(player -> Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.kill(), player));
     }
 
     @Override
@@ -0,0 +1,109 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import mekanism.common.Mekanism;
+import mekanism.common.inventory.ISlotClickHandler.IScrollableSlot;
+import mekanism.common.inventory.container.QIOItemViewerContainer.ItemSlotData;
+import mekanism.common.inventory.container.QIOItemViewerContainer.ListSortType;
+import mekanism.common.inventory.container.QIOItemViewerContainer.SortDirection;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.network.PacketQIOItemViewerGuiSync;
+import net.minecraft.entity.player.ServerPlayerEntity;
+
+/**
+ * Keeps track of what item types a player viewing the items of a {@link QIOFrequency} knows about. Instead of sending all the item types at once when the player opens
+ * the viewer, they are streamed over multiple ticks in the order the player's viewer sorts them in.
+ *
+ * @implNote Each item type is assigned an id the first time it is sent to the player, after which changes to its count only send the id and the new count.
+ */
+class QIOItemViewerSession {
+
+    private static final int TYPES_PER_TICK = 512;
+    private static final int NO_ID = -1;
+
+    private final ServerPlayerEntity player;
+    private final Object2IntMap<HashedItem> ids = new Object2IntOpenHashMap<>();
+    //Item types that haven't been sent to the player yet, in the order they should be sent in
+    private final ObjectLinkedOpenHashSet<HashedItem> pending = new ObjectLinkedOpenHashSet<>();
+    private int nextId;
+
+    QIOItemViewerSession(ServerPlayerEntity player) {
+        this.player = player;
+        ids.defaultReturnValue(NO_ID);
+    }
+
+    /**
+     * Starts streaming the given item types to the player.
+     *
+     * @param counts Current count of each item type.
+     */
+    void start(Set<HashedItem> types, ToLongFunction<HashedItem> counts, ListSortType sortType, SortDirection sortDirection, long countCapacity, int typeCapacity) {
+        //Note: Display names on the server may not match the client's exactly, so when sorting by name this order is just close to what the client will show
+        List<IScrollableSlot> slots = new ArrayList<>(types.size());
+        for (HashedItem type : types) {
+            slots.add(new ItemSlotData(type, counts.applyAsLong(type)));
+        }
+        sortType.sort(slots, sortDirection);
+        for (IScrollableSlot slot : slots) {
+            pending.add(slot.getItem());
+        }
+        Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.start(countCapacity, typeCapacity), player);
+    }
+
+    /**
+     * Sends the changes to the given item types and the next part of the item types that haven't been sent yet.
+     *
+     * @param changed       Item types that changed since the last tick.
+     * @param counts        Current count of each item type.
+     * @param forceUpdate   {@code true} to send an update even if no item types changed, for example when the capacities changed.
+     */
+    void tick(Set<HashedItem> changed, ToLongFunction<HashedItem> counts, boolean forceUpdate, long countCapacity, int typeCapacity) {
+        Int2ObjectMap<HashedItem> newTypes = new Int2ObjectOpenHashMap<>();
+        Int2LongMap updatedCounts = new Int2LongOpenHashMap();
+        for (HashedItem type : changed) {
+            long count = counts.applyAsLong(type);
+            int id = ids.getInt(type);
+            if (id != NO_ID) {
+                updatedCounts.put(id, count);
+                if (count == 0) {
+                    //The client forgets about ids once the item type is gone
+                    ids.removeInt(type);
+                }
+            } else if (count > 0 && !pending.contains(type)) {
+                //Item types that are still pending will be sent with their current count when it is their turn
+                addType(type, count, newTypes, updatedCounts);
+            }
+        }
+        for (int i = 0; i < TYPES_PER_TICK && !pending.isEmpty(); i++) {
+            HashedItem type = pending.removeFirst();
+            long count = counts.applyAsLong(type);
+            if (count > 0 && !ids.containsKey(type)) {
+                addType(type, count, newTypes, updatedCounts);
+            }
+        }
+        if (forceUpdate || !updatedCounts.isEmpty()) {
+            Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.update(newTypes, updatedCounts, countCapacity, typeCapacity), player);
+        }
+    }
+
+    boolean isStreaming() {
+        return !pending.isEmpty();
+    }
+
+    private void addType(HashedItem type, long count, Int2ObjectMap<HashedItem> newTypes, Int2LongMap updatedCounts) {
+        int id = nextId++;
+        ids.put(type, id);
+        newTypes.put(id, type);
+        updatedCounts.put(id, count);
+    }
+}
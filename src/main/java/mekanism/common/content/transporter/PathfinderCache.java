@@ -1,56 +1,325 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import javax.annotation.Nullable;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 
 public class PathfinderCache {
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    /**
+     * Maximum number of paths we keep cached across all networks, once we go past this the least recently used paths get evicted.
+     */
+    private static final int MAX_CACHED_PATHS = 16_384;
 
+    private static final Map<UUID, NetworkPaths> cachedPaths = new Object2ObjectOpenHashMap<>();
+    //Sentinel for the list of cached paths, head.next is the most recently used path and head.prev is the least recently used path
+    private static final CachedPath head = new CachedPath(null, 0, 0, null, null, 0);
+    private static int size;
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+    private static long invalidations;
+
+    /**
+     * Removes all cached paths for the given networks.
+     */
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
+            if (network != null) {
+                NetworkPaths networkPaths = cachedPaths.remove(network.getUUID());
+                if (networkPaths != null) {
+                    for (Long2ObjectMap<CachedPath[]> endPaths : networkPaths.paths.values()) {
+                        for (CachedPath[] sidePaths : endPaths.values()) {
+                            for (CachedPath path : sidePaths) {
+                                if (path != null) {
+                                    unlink(path);
+                                    invalidations++;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes any cached paths in the network that go through the given transporter or end next to it. This should be called whenever a transporter is added, or has
+     * its color or connections changed.
+     */
+    public static void onTransporterChanged(@Nullable InventoryNetwork network, BlockPos pos) {
+        NetworkPaths networkPaths = getNetworkPaths(network);
+        if (networkPaths != null) {
+            networkPaths.invalidate(pos.toLong());
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                networkPaths.invalidateEnd(pos.offset(side).toLong());
+            }
+            removeIfEmpty(networkPaths);
+        }
+    }
+
+    /**
+     * Removes any cached paths in the network that end at the given acceptor. This should be called whenever an acceptor of the network is added, changed or removed,
+     * as that can't change the best path to any other destination.
+     */
+    public static void onAcceptorChanged(@Nullable InventoryNetwork network, BlockPos acceptorPos) {
+        NetworkPaths networkPaths = getNetworkPaths(network);
+        if (networkPaths != null) {
+            networkPaths.invalidateEnd(acceptorPos.toLong());
+            removeIfEmpty(networkPaths);
         }
     }
 
-    public static void addCachedPath(LogisticalTransporterBase start, PathData data, List<BlockPos> positions, double cost) {
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new Object2ObjectOpenHashMap<>()).put(data, new CachedPath(positions, cost));
+    /**
+     * Removes any cached paths in the network that go through the given position or any of the positions next to it. This should be called whenever a transporter
+     * is removed, as removing a transporter can't make any paths that don't go through it shorter.
+     */
+    public static void onTransporterRemoved(@Nullable InventoryNetwork network, BlockPos pos) {
+        NetworkPaths networkPaths = getNetworkPaths(network);
+        if (networkPaths != null) {
+            networkPaths.invalidate(pos.toLong());
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                networkPaths.invalidate(pos.offset(side).toLong());
+            }
+            removeIfEmpty(networkPaths);
+        }
+    }
+
+    @Nullable
+    private static NetworkPaths getNetworkPaths(@Nullable InventoryNetwork network) {
+        return network == null ? null : cachedPaths.get(network.getUUID());
+    }
+
+    private static void removeIfEmpty(NetworkPaths networkPaths) {
+        if (networkPaths.isEmpty()) {
+            cachedPaths.remove(networkPaths.network);
+        }
     }
 
+    public static void addCachedPath(LogisticalTransporterBase start, BlockPos end, Direction endSide, List<BlockPos> positions, double cost) {
+        InventoryNetwork network = start.getTransmitterNetwork();
+        if (network == null) {
+            return;
+        }
+        NetworkPaths networkPaths = cachedPaths.computeIfAbsent(network.getUUID(), NetworkPaths::new);
+        CachedPath[] sidePaths = networkPaths.paths.computeIfAbsent(start.getTilePos().toLong(), pos -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(end.toLong(), pos -> new CachedPath[EnumUtils.DIRECTIONS.length]);
+        CachedPath existing = sidePaths[endSide.ordinal()];
+        if (existing != null) {
+            networkPaths.remove(existing);
+        }
+        CachedPath path = new CachedPath(networkPaths, start.getTilePos().toLong(), end.toLong(), endSide, positions, cost);
+        sidePaths[endSide.ordinal()] = path;
+        networkPaths.index(path);
+        linkFirst(path);
+        while (size > MAX_CACHED_PATHS) {
+            CachedPath eldest = head.prev;
+            eldest.owner.remove(eldest);
+            removeIfEmpty(eldest.owner);
+            evictions++;
+        }
+    }
+
+    @Nullable
     public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
         CachedPath ret = null;
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        if (cachedPaths.containsKey(uuid)) {
-            Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-            for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(start.getTilePos(), end, side));
-                if (ret == null || (test != null && test.getCost() < ret.getCost())) {
-                    ret = test;
+        InventoryNetwork network = start.getTransmitterNetwork();
+        NetworkPaths networkPaths = getNetworkPaths(network);
+        if (networkPaths != null) {
+            Long2ObjectMap<CachedPath[]> endPaths = networkPaths.paths.get(start.getTilePos().toLong());
+            if (endPaths != null) {
+                CachedPath[] sidePaths = endPaths.get(end.toLong());
+                if (sidePaths != null) {
+                    for (Direction side : sides) {
+                        CachedPath test = sidePaths[side.ordinal()];
+                        if (test != null && (ret == null || test.getCost() < ret.getCost())) {
+                            ret = test;
+                        }
+                    }
                 }
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+            //Mark it as the most recently used path
+            unlink(ret);
+            linkFirst(ret);
+        }
         return ret;
     }
 
     public static void reset() {
         cachedPaths.clear();
+        head.next = head;
+        head.prev = head;
+        size = 0;
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        invalidations = 0;
+    }
+
+    public static int getSize() {
+        return size;
+    }
+
+    public static long getHits() {
+        return hits;
+    }
+
+    public static long getMisses() {
+        return misses;
+    }
+
+    public static long getEvictions() {
+        return evictions;
+    }
+
+    public static long getInvalidations() {
+        return invalidations;
+    }
+
+    private static void linkFirst(CachedPath path) {
+        path.prev = head;
+        path.next = head.next;
+        head.next.prev = path;
+        head.next = path;
+        size++;
+    }
+
+    private static void unlink(CachedPath path) {
+        path.prev.next = path.next;
+        path.next.prev = path.prev;
+        path.prev = null;
+        path.next = null;
+        size--;
+    }
+
+    private static class NetworkPaths {
+
+        private final UUID network;
+        //Start transporter -> destination -> paths to the destination indexed by the side of the destination
+        private final Long2ObjectMap<Long2ObjectMap<CachedPath[]>> paths = new Long2ObjectOpenHashMap<>();
+        //Transporter -> paths that go through it
+        private final Long2ObjectMap<Set<CachedPath>> pathsByTransporter = new Long2ObjectOpenHashMap<>();
+        //Destination -> paths that end at it
+        private final Long2ObjectMap<Set<CachedPath>> pathsByEnd = new Long2ObjectOpenHashMap<>();
+
+        private NetworkPaths(UUID network) {
+            this.network = network;
+        }
+
+        private boolean isEmpty() {
+            return paths.isEmpty();
+        }
+
+        private void index(CachedPath path) {
+            for (long transporter : path.transporters) {
+                pathsByTransporter.computeIfAbsent(transporter, pos -> new ObjectOpenHashSet<>()).add(path);
+            }
+            pathsByEnd.computeIfAbsent(path.end, pos -> new ObjectOpenHashSet<>()).add(path);
+        }
+
+        private void invalidate(long transporter) {
+            invalidate(pathsByTransporter.get(transporter));
+        }
+
+        private void invalidateEnd(long end) {
+            invalidate(pathsByEnd.get(end));
+        }
+
+        private void invalidate(@Nullable Set<CachedPath> affected) {
+            if (affected != null) {
+                //Copy the paths as removing them modifies the set we are iterating
+                for (CachedPath path : new ObjectArrayList<>(affected)) {
+                    remove(path);
+                    invalidations++;
+                }
+            }
+        }
+
+        private void remove(CachedPath path) {
+            unlink(path);
+            Long2ObjectMap<CachedPath[]> endPaths = paths.get(path.start);
+            if (endPaths != null) {
+                CachedPath[] sidePaths = endPaths.get(path.end);
+                if (sidePaths != null && sidePaths[path.endSide.ordinal()] == path) {
+                    sidePaths[path.endSide.ordinal()] = null;
+                    if (isEmpty(sidePaths)) {
+                        endPaths.remove(path.end);
+                        if (endPaths.isEmpty()) {
+                            paths.remove(path.start);
+                        }
+                    }
+                }
+            }
+            for (long transporter : path.transporters) {
+                Set<CachedPath> indexed = pathsByTransporter.get(transporter);
+                if (indexed != null && indexed.remove(path) && indexed.isEmpty()) {
+                    pathsByTransporter.remove(transporter);
+                }
+            }
+            Set<CachedPath> endIndexed = pathsByEnd.get(path.end);
+            if (endIndexed != null && endIndexed.remove(path) && endIndexed.isEmpty()) {
+                pathsByEnd.remove(path.end);
+            }
+        }
+
+        private static boolean isEmpty(CachedPath[] sidePaths) {
+            for (CachedPath sidePath : sidePaths) {
+                if (sidePath != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 
     public static class CachedPath {
 
+        private final NetworkPaths owner;
+        private final long start;
+        private final long end;
+        private final Direction endSide;
         private final List<BlockPos> path;
+        //Positions of all the transporters the path goes through
+        private final long[] transporters;
         private final double cost;
+        private CachedPath prev, next;
 
-        public CachedPath(List<BlockPos> path, double cost) {
+        private CachedPath(NetworkPaths owner, long start, long end, Direction endSide, List<BlockPos> path, double cost) {
+            this.owner = owner;
+            this.start = start;
+            this.end = end;
+            this.endSide = endSide;
             this.path = path;
             this.cost = cost;
+            if (path == null) {
+                //Sentinel
+                transporters = new long[0];
+                prev = this;
+                next = this;
+            } else {
+                //Note: The first element of the path is the destination, so we skip it
+                transporters = new long[path.size() - 1];
+                for (int i = 1; i < path.size(); i++) {
+                    transporters[i - 1] = path.get(i).toLong();
+                }
+            }
         }
 
         public List<BlockPos> getPath() {
@@ -61,37 +330,4 @@ public class PathfinderCache {
             return cost;
         }
     }
-
-    public static class PathData {
-
-        private final BlockPos startTransporter;
-        private final BlockPos end;
-        private final Direction endSide;
-        private final int hash;
-
-        public PathData(BlockPos s, BlockPos e, Direction es) {
-            startTransporter = s;
-            end = e;
-            endSide = es;
-            int code = 1;
-            code = 31 * code + startTransporter.hashCode();
-            code = 31 * code + end.hashCode();
-            code = 31 * code + endSide.hashCode();
-            hash = code;
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (obj instanceof PathData) {
-                PathData data = (PathData) obj;
-                return data.startTransporter.equals(startTransporter) && data.end.equals(end) && data.endSide.equals(endSide);
-            }
-            return false;
-        }
-
-        @Override
-        public int hashCode() {
-            return hash;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.Collection;
+import javax.annotation.Nullable;
+import mekanism.common.content.network.InventoryNetwork;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Flattened adjacency view of the transporters in an {@link InventoryNetwork}. Each transporter is assigned a dense node index, and its neighbors are stored in a
+ * primitive table so that pathfinding can walk the network without having to look up tiles in the world.
+ *
+ * @implNote The graph only contains which transporters are physically next to each other and in the same network, whether the stack can actually move between
+ * two nodes (color and connection type) is still checked when searching, as those can change without the network being rebuilt.
+ */
+public class TransporterGraph {
+
+    public static final int NO_NODE = -1;
+    private static final int SIDES = EnumUtils.DIRECTIONS.length;
+
+    private final Long2IntMap nodeLookup;
+    private final LogisticalTransporterBase[] nodes;
+    private final long[] positions;
+    private final int[] neighbors;
+
+    public TransporterGraph(Collection<LogisticalTransporterBase> transporters) {
+        int size = transporters.size();
+        nodes = new LogisticalTransporterBase[size];
+        positions = new long[size];
+        nodeLookup = new Long2IntOpenHashMap(size);
+        nodeLookup.defaultReturnValue(NO_NODE);
+        int index = 0;
+        for (LogisticalTransporterBase transporter : transporters) {
+            long pos = transporter.getTilePos().toLong();
+            nodes[index] = transporter;
+            positions[index] = pos;
+            nodeLookup.put(pos, index);
+            index++;
+        }
+        neighbors = new int[size * SIDES];
+        for (int node = 0; node < size; node++) {
+            BlockPos pos = nodes[node].getTilePos();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                neighbors[node * SIDES + side.ordinal()] = nodeLookup.get(pos.offset(side).toLong());
+            }
+        }
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * @return The node index of the transporter at the given position, or {@link #NO_NODE} if there is no transporter in this network at that position.
+     */
+    public int getNode(BlockPos pos) {
+        return nodeLookup.get(pos.toLong());
+    }
+
+    public int getNode(long pos) {
+        return nodeLookup.get(pos);
+    }
+
+    public LogisticalTransporterBase getTransporter(int node) {
+        return nodes[node];
+    }
+
+    @Nullable
+    public LogisticalTransporterBase getTransporterAt(BlockPos pos) {
+        int node = getNode(pos);
+        return node == NO_NODE ? null : nodes[node];
+    }
+
+    public long getPosition(int node) {
+        return positions[node];
+    }
+
+    /**
+     * @return The node index of the transporter on the given side of the node, or {@link #NO_NODE} if there is no transporter in this network on that side.
+     */
+    public int getNeighbor(int node, Direction side) {
+        return neighbors[node * SIDES + side.ordinal()];
+    }
+
+    /**
+     * Checks if the given stack is able to move from one node into the neighboring node in the given direction.
+     *
+     * @param stack     Stack to check.
+     * @param from      Node the stack is currently in.
+     * @param direction Direction from the current node to the neighbor.
+     * @param to        Neighboring node.
+     */
+    public boolean canTraverse(TransporterStack stack, int from, Direction direction, int to) {
+        LogisticalTransporterBase neighbor = nodes[to];
+        //Mirrors TransporterStack#canInsertToTransporterNN but uses the transmitters we already have instead of having to look up the tiles
+        // Note: We also make sure the neighbor is still valid, as the graph only gets rebuilt once the network processes the removal
+        return neighbor.isValid() && (neighbor.getColor() == null || neighbor.getColor() == stack.color) && neighbor.canConnect(direction.getOpposite()) &&
+               nodes[from].canConnect(direction);
+    }
+}
@@ -2,14 +2,16 @@ package mekanism.common.content.transporter;
 
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Map;
-import java.util.Set;
-import mekanism.api.Coord4D;
+import javax.annotation.Nullable;
 import mekanism.api.RelativeSide;
 import mekanism.api.text.EnumColor;
-import mekanism.common.content.transporter.TransporterStack.Path;
+import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.ItemData;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
@@ -20,27 +22,62 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.NonNullList;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.items.IItemHandler;
 
 public class TransporterManager {
 
-    private static final Map<Coord4D, Set<TransporterStack>> flowingStacks = new Object2ObjectOpenHashMap<>();
+    /**
+     * Number of items of each type that are on their way to a destination, by dimension and packed position of the destination. The counts get updated as stacks start
+     * and stop going to a destination, so that predicting what a destination can still accept doesn't depend on how many stacks are on their way to it.
+     */
+    private static final Map<RegistryKey<World>, Long2ObjectMap<Object2IntMap<HashedItem>>> flowingStacks = new Object2ObjectOpenHashMap<>();
 
     public static void reset() {
         flowingStacks.clear();
     }
 
+    public static void worldUnload(IWorld world) {
+        if (world instanceof ServerWorld) {
+            flowingStacks.remove(((ServerWorld) world).func_234923_W_());
+        }
+    }
+
     public static void add(World world, TransporterStack stack) {
-        flowingStacks.computeIfAbsent(new Coord4D(stack.getDest(), world), k -> new ObjectOpenHashSet<>()).add(stack);
+        //Release what the stack was going to previously, in case its items changed after it was added
+        remove(stack);
+        if (stack.itemStack.isEmpty()) {
+            return;
+        }
+        Long2ObjectMap<Object2IntMap<HashedItem>> destinations = flowingStacks.computeIfAbsent(world.func_234923_W_(), dimension -> new Long2ObjectOpenHashMap<>());
+        long dest = stack.getDest().toLong();
+        Object2IntMap<HashedItem> reserved = destinations.get(dest);
+        if (reserved == null) {
+            reserved = new Object2IntOpenHashMap<>();
+            destinations.put(dest, reserved);
+        }
+        HashedItem type = new HashedItem(stack.itemStack);
+        int count = stack.itemStack.getCount();
+        reserved.mergeInt(type, count, Integer::sum);
+        stack.reservation = new Reservation(destinations, dest, type, count);
     }
 
-    public static void remove(World world, TransporterStack stack) {
-        if (stack.hasPath() && stack.getPathType() != Path.NONE) {
-            flowingStacks.get(new Coord4D(stack.getDest(), world)).remove(stack);
+    public static void remove(TransporterStack stack) {
+        if (stack.reservation != null) {
+            stack.reservation.release();
+            stack.reservation = null;
         }
     }
 
+    @Nullable
+    private static Object2IntMap<HashedItem> getReserved(TileEntity tile) {
+        Long2ObjectMap<Object2IntMap<HashedItem>> destinations = flowingStacks.get(tile.getWorld().func_234923_W_());
+        return destinations == null ? null : destinations.get(tile.getPos().toLong());
+    }
+
     private static int simulateInsert(IItemHandler handler, InventoryInfo inventoryInfo, ItemStack stack, int count) {
         int maxStackSize = stack.getMaxStackSize();
         for (int slot = 0; slot < handler.getSlots(); slot++) {
@@ -149,7 +186,7 @@ public class TransporterManager {
     /**
      * @return TransitResponse of expected items to use
      */
-    public static TransitResponse getPredictedInsert(TileEntity tile, Coord4D position, IItemHandler handler, EnumColor color, TransitRequest request, Direction side) {
+    public static TransitResponse getPredictedInsert(TileEntity tile, IItemHandler handler, EnumColor color, TransitRequest request, Direction side) {
         // If the TE in question implements the mekanism interface, check that the color matches and bail
         // fast if it doesn't
         if (tile instanceof ISideConfiguration) {
@@ -163,10 +200,10 @@ public class TransporterManager {
             }
         }
 
-        // Before we see if this item can fit in the destination, we must first check the stacks that are
-        // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
+        // Before we see if this item can fit in the destination, we must first check the items that are
+        // en-route. Note that we also have to simulate the current inventory after each item type; we'll keep
         // track of the initial size of the inventory and then simulate each in-flight addition. If any
-        // in-flight stack can't be inserted, that we can fail fast.
+        // in-flight items can't be inserted, that we can fail fast.
 
         //Information about the inventory, keeps track of the size of a stack a slot will have, and
         // a cache of what getStackInSlot returns (as it has to call it anyways to get the stack size).
@@ -174,16 +211,15 @@ public class TransporterManager {
         // once instead of potentially many times.
         InventoryInfo inventoryInfo = new InventoryInfo(handler);
 
-        //For each of the in-flight stacks, simulate their insert into the tile entity. Note that stackSizes
-        // for inventoryInfo is updated each time
-        Set<TransporterStack> transporterStacks = flowingStacks.get(position);
-        if (transporterStacks != null) {
-            for (TransporterStack stack : transporterStacks) {
-                if (stack != null && stack.getPathType() != Path.NONE) {
-                    if (simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount()) > 0) {
-                        // Failed to successfully insert this in-flight item; there's no room for anyone else
-                        return request.getEmptyResponse();
-                    }
+        //For each type of in-flight items, simulate inserting all of them into the tile entity at once. Note that
+        // stackSizes for inventoryInfo is updated each time
+        Object2IntMap<HashedItem> reserved = getReserved(tile);
+        if (reserved != null) {
+            for (Object2IntMap.Entry<HashedItem> entry : reserved.object2IntEntrySet()) {
+                int count = entry.getIntValue();
+                if (simulateInsert(handler, inventoryInfo, entry.getKey().createStack(count), count) > 0) {
+                    // Failed to successfully insert these in-flight items; there's no room for anyone else
+                    return request.getEmptyResponse();
                 }
             }
         }
@@ -209,6 +245,39 @@ public class TransporterManager {
         return request.getEmptyResponse();
     }
 
+    /**
+     * Items of a single stack that are counted as on their way to a destination.
+     */
+    static class Reservation {
+
+        private final Long2ObjectMap<Object2IntMap<HashedItem>> destinations;
+        private final long dest;
+        private final HashedItem type;
+        private final int count;
+
+        private Reservation(Long2ObjectMap<Object2IntMap<HashedItem>> destinations, long dest, HashedItem type, int count) {
+            this.destinations = destinations;
+            this.dest = dest;
+            this.type = type;
+            this.count = count;
+        }
+
+        private void release() {
+            Object2IntMap<HashedItem> reserved = destinations.get(dest);
+            if (reserved != null) {
+                int remaining = reserved.getInt(type) - count;
+                if (remaining > 0) {
+                    reserved.put(type, remaining);
+                } else {
+                    reserved.removeInt(type);
+                    if (reserved.isEmpty()) {
+                        destinations.remove(dest);
+                    }
+                }
+            }
+        }
+    }
+
     private static class InventoryInfo {
 
         private final NonNullList<ItemStack> inventory;
@@ -2,15 +2,13 @@ package mekanism.common.content.transporter;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.text.EnumColor;
@@ -18,9 +16,9 @@ import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.InventoryNetwork.AcceptorData;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache.CachedPath;
-import mekanism.common.content.transporter.PathfinderCache.PathData;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.DestChecker;
 import mekanism.common.content.transporter.TransporterStack.Path;
+import mekanism.common.lib.IndexedMinHeap;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.tile.TileEntityLogisticalSorter;
@@ -44,53 +42,74 @@ public final class TransporterPathfinder {
         }
         Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap);
+        TransporterGraph graph = network.getGraph();
+        //Lazily calculated the first time we have an acceptor that we don't have a cached path for, and then shared between all acceptors
+        ShortestPaths shortestPaths = null;
         List<Destination> paths = new ArrayList<>();
         for (AcceptorData data : acceptors) {
-            Destination path = getPath(data, start, stack, min, chunkMap);
-            if (path != null) {
-                paths.add(path);
+            TransitResponse response = data.getResponse();
+            if (response.getSendingAmount() >= min) {
+                BlockPos dest = data.getLocation();
+                CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
+                if (test != null && checkPath(graph, test.getPath(), stack)) {
+                    paths.add(new Destination(test.getPath(), false, response, test.getCost()));
+                    continue;
+                }
+                if (shortestPaths == null) {
+                    shortestPaths = new ShortestPaths(graph, start.getTilePos(), stack);
+                }
+                Destination path = getPath(data, shortestPaths, start, stack);
+                if (path != null) {
+                    paths.add(path);
+                }
             }
         }
         Collections.sort(paths);
         return paths;
     }
 
-    private static boolean checkPath(World world, List<BlockPos> path, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
+    private static boolean checkPath(TransporterGraph graph, List<BlockPos> path, TransporterStack stack) {
         for (int i = path.size() - 1; i > 0; i--) {
-            TileEntity tile = MekanismUtils.getTileEntity(world, chunkMap, path.get(i));
-            if (tile instanceof TileEntityLogisticalTransporterBase) {
-                EnumColor color = ((TileEntityLogisticalTransporterBase) tile).getTransmitter().getColor();
-                if (color != null && color != stack.color) {
-                    return false;
-                }
-            } else {
+            LogisticalTransporterBase transporter = graph.getTransporterAt(path.get(i));
+            if (transporter == null) {
+                return false;
+            }
+            EnumColor color = transporter.getColor();
+            if (color != null && color != stack.color) {
                 return false;
             }
         }
         return true;
     }
 
-    private static Destination getPath(AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, int min, Long2ObjectMap<IChunk> chunkMap) {
+    @Nullable
+    private static Destination getPath(AcceptorData data, ShortestPaths shortestPaths, LogisticalTransporterBase start, TransporterStack stack) {
         TransitResponse response = data.getResponse();
-        if (response.getSendingAmount() >= min) {
-            BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(start.getTileWorld(), test.getPath(), stack, chunkMap)) {
-                return new Destination(test.getPath(), false, response, test.getCost());
-            }
-            Pathfinder p = new Pathfinder(new DestChecker() {
-                @Override
-                public boolean isValid(TransporterStack stack, Direction dir, TileEntity tile) {
-                    return TransporterUtils.canInsert(tile, stack.color, response.getStack(), dir, false);
+        BlockPos dest = data.getLocation();
+        int bestNode = TransporterGraph.NO_NODE;
+        Direction bestSide = null;
+        double bestScore = 0;
+        for (Direction side : data.getSides()) {
+            //Note: The sides are the directions from the transporter to the acceptor
+            int node = shortestPaths.graph.getNode(dest.offset(side.getOpposite()));
+            if (node != TransporterGraph.NO_NODE && shortestPaths.isReachable(node)) {
+                LogisticalTransporterBase transporter = shortestPaths.graph.getTransporter(node);
+                double score = shortestPaths.getCost(node) + MekanismUtils.distanceBetween(transporter.getTilePos(), dest);
+                //Only check if we can insert into the destination if the score is better, as checking insertion involves simulating the insert
+                if ((bestNode == TransporterGraph.NO_NODE || score < bestScore) && transporter.canEmitTo(side) &&
+                    TransporterUtils.canInsert(data.getTile(), stack.color, response.getStack(), side, false)) {
+                    bestNode = node;
+                    bestSide = side;
+                    bestScore = score;
                 }
-            }, start.getTileWorld(), dest, start.getTilePos(), stack, chunkMap);
-            List<BlockPos> path = p.getPath();
-            if (path.size() >= 2) {
-                PathfinderCache.addCachedPath(start, new PathData(start.getTilePos(), dest, p.getSide()), path, p.finalScore);
-                return new Destination(path, false, response, p.finalScore);
             }
         }
-        return null;
+        if (bestNode == TransporterGraph.NO_NODE) {
+            return null;
+        }
+        List<BlockPos> path = shortestPaths.getPath(dest, bestNode);
+        PathfinderCache.addCachedPath(start, dest, bestSide, path, bestScore);
+        return new Destination(path, false, response, bestScore);
     }
 
     @Nullable
@@ -136,15 +155,18 @@ public final class TransporterPathfinder {
     public static Pair<List<BlockPos>, Path> getIdlePath(LogisticalTransporterBase start, TransporterStack stack) {
         Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
         if (stack.homeLocation != null) {
-            Pathfinder p = new Pathfinder(new DestChecker() {
-                @Override
-                public boolean isValid(TransporterStack stack, Direction side, TileEntity tile) {
-                    return TransporterUtils.canInsert(tile, stack.color, stack.itemStack, side, true);
+            InventoryNetwork network = start.getTransmitterNetwork();
+            if (network != null) {
+                Pathfinder p = new Pathfinder(new DestChecker() {
+                    @Override
+                    public boolean isValid(TransporterStack stack, Direction side, TileEntity tile) {
+                        return TransporterUtils.canInsert(tile, stack.color, stack.itemStack, side, true);
+                    }
+                }, network.getGraph(), start.getTileWorld(), stack.homeLocation, start.getTilePos(), stack, chunkMap);
+                List<BlockPos> path = p.getPath();
+                if (path.size() >= 2) {
+                    return Pair.of(path, Path.HOME);
                 }
-            }, start.getTileWorld(), stack.homeLocation, start.getTilePos(), stack, chunkMap);
-            List<BlockPos> path = p.getPath();
-            if (path.size() >= 2) {
-                return Pair.of(path, Path.HOME);
             }
             stack.homeLocation = null;
         }
@@ -300,57 +322,127 @@ public final class TransporterPathfinder {
         }
     }
 
+    /**
+     * Single source shortest paths from a transporter to every transporter in the network it can reach. This lets us route to all the potential destinations of a
+     * stack with one search instead of having to run a separate search for each destination.
+     */
+    private static class ShortestPaths {
+
+        private final TransporterGraph graph;
+        private final double[] gScore;
+        private final int[] navMap;
+
+        private ShortestPaths(TransporterGraph graph, BlockPos start, TransporterStack stack) {
+            this.graph = graph;
+            int size = graph.size();
+            gScore = new double[size];
+            Arrays.fill(gScore, Double.POSITIVE_INFINITY);
+            navMap = new int[size];
+            Arrays.fill(navMap, TransporterGraph.NO_NODE);
+            int startNode = graph.getNode(start);
+            if (startNode != TransporterGraph.NO_NODE) {
+                gScore[startNode] = 0;
+                IndexedMinHeap openSet = new IndexedMinHeap(size);
+                openSet.insertOrUpdate(startNode, 0);
+                while (!openSet.isEmpty()) {
+                    int currentNode = openSet.poll();
+                    double currentScore = gScore[currentNode];
+                    for (Direction direction : EnumUtils.DIRECTIONS) {
+                        int neighbor = graph.getNeighbor(currentNode, direction);
+                        if (neighbor != TransporterGraph.NO_NODE && graph.canTraverse(stack, currentNode, direction, neighbor)) {
+                            double tentativeG = currentScore + graph.getTransporter(neighbor).getCost();
+                            if (tentativeG < gScore[neighbor]) {
+                                navMap[neighbor] = currentNode;
+                                gScore[neighbor] = tentativeG;
+                                openSet.insertOrUpdate(neighbor, tentativeG);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private boolean isReachable(int node) {
+            return gScore[node] != Double.POSITIVE_INFINITY;
+        }
+
+        private double getCost(int node) {
+            return gScore[node];
+        }
+
+        /**
+         * @return Path from the destination back to the start, by way of the given node that is next to the destination.
+         */
+        private List<BlockPos> getPath(BlockPos dest, int lastNode) {
+            List<BlockPos> path = new ArrayList<>();
+            path.add(dest);
+            for (int node = lastNode; node != TransporterGraph.NO_NODE; node = navMap[node]) {
+                path.add(graph.getTransporter(node).getTilePos());
+            }
+            return path;
+        }
+    }
+
     public static class Pathfinder {
 
-        private final Set<BlockPos> openSet, closedSet;
-        private final Map<BlockPos, BlockPos> navMap;
-        private final Object2DoubleOpenHashMap<BlockPos> gScore, fScore;
+        private final TransporterGraph graph;
         private final BlockPos start;
         private final BlockPos finalNode;
         private final TransporterStack transportStack;
         private final DestChecker destChecker;
         private final World world;
+        private final Long2ObjectMap<IChunk> chunkMap;
+        //Node that is next to the final node, indexed by the direction from the node to the final node
+        private final int[] destinationNodes = new int[EnumUtils.DIRECTIONS.length];
+        private double[] gScore;
+        private int[] navMap;
+        @Nullable
+        private TileEntity finalTile;
+        private boolean finalTileLoaded;
         private double finalScore;
         private Direction side;
         private List<BlockPos> results;
 
-        public Pathfinder(DestChecker checker, World world, BlockPos finishObj, BlockPos startObj, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
+        public Pathfinder(DestChecker checker, TransporterGraph graph, World world, BlockPos finishObj, BlockPos startObj, TransporterStack stack,
+              Long2ObjectMap<IChunk> chunkMap) {
             destChecker = checker;
+            this.graph = graph;
             this.world = world;
+            this.chunkMap = chunkMap;
 
             finalNode = finishObj;
             start = startObj;
 
             transportStack = stack;
 
-            openSet = new ObjectOpenHashSet<>();
-            closedSet = new ObjectOpenHashSet<>();
-
-            navMap = new Object2ObjectOpenHashMap<>();
-
-            gScore = new Object2DoubleOpenHashMap<>();
-            fScore = new Object2DoubleOpenHashMap<>();
-
             results = new ArrayList<>();
 
-            find(chunkMap, start);
+            find();
         }
 
-        public boolean find(Long2ObjectMap<IChunk> chunkMap, BlockPos start) {
-            openSet.add(start);
-            gScore.put(start, 0D);
-            //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
-            fScore.put(start, MekanismUtils.distanceBetween(start, finalNode));
+        private boolean find() {
+            int startNode = graph.getNode(start);
+            if (startNode == TransporterGraph.NO_NODE) {
+                //If the start is not part of the network, there is nowhere for the stack to go
+                return false;
+            }
+            for (Direction direction : EnumUtils.DIRECTIONS) {
+                destinationNodes[direction.ordinal()] = graph.getNode(finalNode.offset(direction.getOpposite()));
+            }
+            int size = graph.size();
+            gScore = new double[size];
+            Arrays.fill(gScore, Double.POSITIVE_INFINITY);
+            navMap = new int[size];
+            Arrays.fill(navMap, TransporterGraph.NO_NODE);
+            gScore[startNode] = 0;
             boolean hasValidDirection = false;
-            TileEntity startTile = MekanismUtils.getTileEntity(world, chunkMap, start);
             for (Direction direction : EnumUtils.DIRECTIONS) {
-                BlockPos neighbor = start.offset(direction);
-                TileEntity neighborTile = MekanismUtils.getTileEntity(world, chunkMap, neighbor);
-                if (transportStack.canInsertToTransporter(neighborTile, direction, startTile)) {
+                int neighbor = graph.getNeighbor(startNode, direction);
+                if (neighbor != TransporterGraph.NO_NODE && graph.canTraverse(transportStack, startNode, direction, neighbor)) {
                     //If we can insert into the transporter, mark that we have a valid path we can take
                     hasValidDirection = true;
                     break;
-                } else if (isValidDestination(start, startTile, direction, neighbor, neighborTile)) {
+                } else if (isValidDestination(startNode, direction)) {
                     //Otherwise if we are neighboring our destination, and we can emit to the location or it is going back
                     // to its home location and can connect to it just exit early and return that this is the best path
                     return true;
@@ -360,50 +452,34 @@ public final class TransporterPathfinder {
                 //If there is no valid direction that the stack can go just exit
                 return false;
             }
+            IndexedMinHeap openSet = new IndexedMinHeap(size);
+            //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
+            openSet.insertOrUpdate(startNode, MekanismUtils.distanceBetween(start, finalNode));
             double maxSearchDistance = 2 * MekanismUtils.distanceBetween(start, finalNode);
             while (!openSet.isEmpty()) {
-                BlockPos currentNode = null;
-                double lowestFScore = 0;
-                for (BlockPos node : openSet) {
-                    if (currentNode == null || fScore.getDouble(node) < lowestFScore) {
-                        currentNode = node;
-                        lowestFScore = fScore.getDouble(node);
-                    }
-                }
-                if (currentNode == null) {
-                    //If we have no current node, then exit
-                    break;
-                }
-                //Remove the current node from unchecked and add it to checked
-                openSet.remove(currentNode);
-                closedSet.add(currentNode);
-                if (MekanismUtils.distanceBetween(start, currentNode) > maxSearchDistance) {
+                //Remove the node with the lowest score from the unchecked nodes
+                int currentNode = openSet.poll();
+                if (MekanismUtils.distanceBetween(start, graph.getTransporter(currentNode).getTilePos()) > maxSearchDistance) {
                     //If it is too far away for us to keep considering then continue on and see if we have another path that may be valid
                     // Even if it currently has a bit higher of a score
                     continue;
                 }
-                //TODO: Look into getting all the "tile" information from the network's transmitter and acceptor caches
-                // This should also make it easier to eventually add some sort of "wrapped" support for inventory blocks
-                // that do not have TEs. https://github.com/mekanism/Mekanism/issues/6157
-                TileEntity currentNodeTile = MekanismUtils.getTileEntity(world, chunkMap, currentNode);
-                double currentScore = gScore.getDouble(currentNode);
+                double currentScore = gScore[currentNode];
                 for (Direction direction : EnumUtils.DIRECTIONS) {
-                    BlockPos neighbor = currentNode.offset(direction);
-                    TileEntity neighborEntity = MekanismUtils.getTileEntity(world, chunkMap, neighbor);
-                    if (transportStack.canInsertToTransporter(neighborEntity, direction, currentNodeTile)) {
+                    int neighbor = graph.getNeighbor(currentNode, direction);
+                    if (neighbor != TransporterGraph.NO_NODE && graph.canTraverse(transportStack, currentNode, direction, neighbor)) {
                         //If the neighbor is a transporter and the stack is valid for it
-                        double tentativeG = currentScore + ((TileEntityLogisticalTransporterBase) neighborEntity).getTransmitter().getCost();
-                        if (closedSet.contains(neighbor) && tentativeG >= gScore.getDouble(neighbor)) {
-                            continue;
-                        }
-                        if (!openSet.contains(neighbor) || tentativeG < gScore.getDouble(neighbor)) {
-                            navMap.put(neighbor, currentNode);
-                            gScore.put(neighbor, tentativeG);
+                        LogisticalTransporterBase neighborTransporter = graph.getTransporter(neighbor);
+                        double tentativeG = currentScore + neighborTransporter.getCost();
+                        //Note: Unvisited nodes have an infinite gScore, and if the neighbor has already been checked but we found a
+                        // cheaper way to get to it, we add it back to the unchecked nodes
+                        if (tentativeG < gScore[neighbor]) {
+                            navMap[neighbor] = currentNode;
+                            gScore[neighbor] = tentativeG;
                             //Put the gScore plus estimate in the final score
-                            fScore.put(neighbor, tentativeG + MekanismUtils.distanceBetween(neighbor, finalNode));
-                            openSet.add(neighbor);
+                            openSet.insertOrUpdate(neighbor, tentativeG + MekanismUtils.distanceBetween(neighborTransporter.getTilePos(), finalNode));
                         }
-                    } else if (isValidDestination(currentNode, currentNodeTile, direction, neighbor, neighborEntity)) {
+                    } else if (isValidDestination(currentNode, direction)) {
                         //Else if the neighbor is the destination and we can send to it
                         return true;
                     }
@@ -417,30 +493,41 @@ public final class TransporterPathfinder {
          *
          * @return True if we found a valid connection to the destination and can insert into it, false otherwise
          */
-        private boolean isValidDestination(BlockPos start, TileEntity startTile, Direction direction, BlockPos neighbor, TileEntity neighborTile) {
+        private boolean isValidDestination(int node, Direction direction) {
             //Check to make sure that it is the destination
-            if (neighbor.equals(finalNode) && destChecker.isValid(transportStack, direction, neighborTile) && startTile instanceof TileEntityLogisticalTransporterBase) {
-                TileEntityLogisticalTransporterBase transporter = (TileEntityLogisticalTransporterBase) startTile;
-                if (transporter.getTransmitter().canEmitTo(direction) || (finalNode.equals(transportStack.homeLocation) && transporter.getTransmitter().canConnect(direction))) {
+            if (destinationNodes[direction.ordinal()] == node && destChecker.isValid(transportStack, direction, getFinalTile())) {
+                LogisticalTransporterBase transporter = graph.getTransporter(node);
+                if (transporter.canEmitTo(direction) || (finalNode.equals(transportStack.homeLocation) && transporter.canConnect(direction))) {
                     //If it is and we can emit to it (normal or push mode),
                     // or it is the home location of the stack (it is returning back due to not having been able to get to its destination)
                     // and we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true)),
                     // then this is the proper path so we mark it as so and return true indicating that we found and marked the ideal path
                     side = direction;
-                    results = reconstructPath(navMap, start);
+                    results = reconstructPath(node);
                     return true;
                 }
             }
             return false;
         }
 
-        private List<BlockPos> reconstructPath(Map<BlockPos, BlockPos> navMap, BlockPos currentNode) {
+        /**
+         * Gets the tile at the destination, we only look this up once and only when we actually reach a node that is next to the destination.
+         */
+        @Nullable
+        private TileEntity getFinalTile() {
+            if (!finalTileLoaded) {
+                finalTile = MekanismUtils.getTileEntity(world, chunkMap, finalNode);
+                finalTileLoaded = true;
+            }
+            return finalTile;
+        }
+
+        private List<BlockPos> reconstructPath(int currentNode) {
             List<BlockPos> path = new ArrayList<>();
-            path.add(currentNode);
-            if (navMap.containsKey(currentNode)) {
-                path.addAll(reconstructPath(navMap, navMap.get(currentNode)));
+            finalScore = gScore[currentNode] + MekanismUtils.distanceBetween(graph.getTransporter(currentNode).getTilePos(), finalNode);
+            for (int node = currentNode; node != TransporterGraph.NO_NODE; node = navMap[node]) {
+                path.add(graph.getTransporter(node).getTilePos());
             }
-            finalScore = gScore.getDouble(currentNode) + MekanismUtils.distanceBetween(currentNode, finalNode);
             return path;
         }
 
@@ -457,7 +544,7 @@ public final class TransporterPathfinder {
 
         public static class DestChecker {
 
-            public boolean isValid(TransporterStack stack, Direction side, TileEntity tile) {
+            public boolean isValid(TransporterStack stack, Direction side, @Nullable TileEntity tile) {
                 return false;
             }
         }
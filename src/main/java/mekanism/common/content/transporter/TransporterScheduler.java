@@ -0,0 +1,151 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectAVLTreeMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectSortedMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import mekanism.common.Mekanism;
+import mekanism.common.content.network.InventoryNetwork;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.network.PacketTransporterUpdate;
+import mekanism.common.network.PacketTransporterUpdateBatch;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+/**
+ * Moves the stacks of all the transporters in an {@link InventoryNetwork}. Instead of each transporter updating all of its stacks every tick, stacks are kept in buckets
+ * by the tick they next reach the middle or the end of the transporter they are in, so a stack that is just moving along doesn't cost anything until then.
+ *
+ * @implNote Changes to the stacks of the network's transporters are sent at the end of the network's tick with a single packet per chunk, and each chunk that had
+ * changes is only marked as dirty once.
+ */
+public class TransporterScheduler {
+
+    private final Long2ObjectSortedMap<List<ScheduledStack>> buckets = new Long2ObjectAVLTreeMap<>();
+    private final Set<LogisticalTransporterBase> changedTransporters = new ObjectLinkedOpenHashSet<>();
+
+    /**
+     * Schedules the next update of a stack based on its current progress.
+     *
+     * @param gameTime Current game time, the stack's progress must be up to date for it.
+     */
+    public void schedule(LogisticalTransporterBase transporter, int stackId, TransporterStack stack, long gameTime) {
+        int speed = transporter.tier.getSpeed();
+        stack.progressTime = gameTime;
+        stack.speed = speed;
+        //Stacks that don't have a path yet get one as soon as possible
+        stack.eventTime = gameTime + (stack.initiatedPath ? getTicksUntilEvent(stack.progress, speed) : 1);
+        List<ScheduledStack> bucket = buckets.get(stack.eventTime);
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            buckets.put(stack.eventTime, bucket);
+        }
+        bucket.add(new ScheduledStack(transporter, stackId, stack, ++stack.scheduleToken));
+    }
+
+    /**
+     * Marks that the given transporter has stack changes that need to be sent to the client.
+     */
+    public void markChanged(LogisticalTransporterBase transporter) {
+        changedTransporters.add(transporter);
+    }
+
+    public void adopt(TransporterScheduler other) {
+        for (Long2ObjectMap.Entry<List<ScheduledStack>> entry : other.buckets.long2ObjectEntrySet()) {
+            List<ScheduledStack> bucket = buckets.get(entry.getLongKey());
+            if (bucket == null) {
+                buckets.put(entry.getLongKey(), entry.getValue());
+            } else {
+                bucket.addAll(entry.getValue());
+            }
+        }
+        changedTransporters.addAll(other.changedTransporters);
+        other.clear();
+    }
+
+    public void clear() {
+        buckets.clear();
+        changedTransporters.clear();
+    }
+
+    public void tick(InventoryNetwork network, World world) {
+        long gameTime = world.getGameTime();
+        //Note: Updating a stack always schedules it for a later tick, so we can't end up processing the same bucket again
+        while (!buckets.isEmpty() && buckets.firstLongKey() <= gameTime) {
+            for (ScheduledStack scheduled : buckets.remove(buckets.firstLongKey())) {
+                if (scheduled.isValid(network)) {
+                    scheduled.transporter.updateStack(scheduled.stackId, scheduled.stack, gameTime);
+                }
+            }
+        }
+        if (!changedTransporters.isEmpty()) {
+            sendChanges(world);
+        }
+    }
+
+    private void sendChanges(World world) {
+        Long2ObjectMap<List<PacketTransporterUpdate>> chunkUpdates = new Long2ObjectOpenHashMap<>();
+        for (LogisticalTransporterBase transporter : changedTransporters) {
+            PacketTransporterUpdate update = transporter.getStackChanges();
+            if (update != null && transporter.isValid()) {
+                BlockPos pos = transporter.getTilePos();
+                long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+                List<PacketTransporterUpdate> updates = chunkUpdates.get(chunk);
+                if (updates == null) {
+                    updates = new ArrayList<>();
+                    chunkUpdates.put(chunk, updates);
+                }
+                updates.add(update);
+            }
+        }
+        for (Long2ObjectMap.Entry<List<PacketTransporterUpdate>> entry : chunkUpdates.long2ObjectEntrySet()) {
+            long chunk = entry.getLongKey();
+            BlockPos pos = new BlockPos(ChunkPos.getX(chunk) << 4, 0, ChunkPos.getZ(chunk) << 4);
+            Mekanism.packetHandler.sendToAllTracking(new PacketTransporterUpdateBatch(entry.getValue()), world, pos);
+            MekanismUtils.markChunkDirty(world, pos);
+        }
+        //Clear the changes only after sending them, as the packets are encoded from the transporters' pending changes
+        for (LogisticalTransporterBase transporter : changedTransporters) {
+            transporter.clearStackChanges();
+        }
+        changedTransporters.clear();
+    }
+
+    /**
+     * @return The number of ticks until a stack with the given progress reaches the middle or the end of the transporter it is in.
+     */
+    private static int getTicksUntilEvent(int progress, int speed) {
+        int ticks = Math.max(1, (100 - progress + speed - 1) / speed);
+        if (progress < 50 && (50 - progress) % speed == 0) {
+            //Stacks are only checked in the middle if they land on it exactly
+            ticks = Math.min(ticks, (50 - progress) / speed);
+        }
+        return ticks;
+    }
+
+    private static class ScheduledStack {
+
+        private final LogisticalTransporterBase transporter;
+        private final int stackId;
+        private final TransporterStack stack;
+        private final int token;
+
+        private ScheduledStack(LogisticalTransporterBase transporter, int stackId, TransporterStack stack, int token) {
+            this.transporter = transporter;
+            this.stackId = stackId;
+            this.stack = stack;
+            this.token = token;
+        }
+
+        private boolean isValid(InventoryNetwork network) {
+            //Stacks get rescheduled when they move or the network changes, in which case only the latest entry is valid
+            return stack.scheduleToken == token && transporter.getTransmitterNetwork() == network && transporter.isValid() && transporter.isInTransit(stackId, stack);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package mekanism.common.content.transporter;
 
-import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -13,6 +12,7 @@ import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.tile.TileEntityLogisticalSorter;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.TransporterUtils;
@@ -29,6 +29,8 @@ import org.jetbrains.annotations.Contract;
 
 public class TransporterStack {
 
+    private static final long[] EMPTY_ROUTE = new long[0];
+
     public ItemStack itemStack = ItemStack.EMPTY;
 
     public int progress;
@@ -43,7 +45,18 @@ public class TransporterStack {
     private BlockPos clientNext;
     private BlockPos clientPrev;
     private Path pathType;
-    private List<BlockPos> pathToTarget = new ArrayList<>();
+    //Packed positions of the path to the target, starting at the target and ending at the transporter the path was calculated from
+    private long[] route = EMPTY_ROUTE;
+    //Index in the route of the transporter the stack was last known to be in
+    private int routeIndex = -1;
+    //Scheduling state of the network the stack is moving through, only used on the server
+    int scheduleToken;
+    long progressTime;
+    long eventTime;
+    int speed;
+    //What this stack is counted as sending to its destination
+    @Nullable
+    TransporterManager.Reservation reservation;
 
     public static TransporterStack readFromNBT(CompoundNBT nbtTags) {
         TransporterStack stack = new TransporterStack();
@@ -71,7 +84,7 @@ public class TransporterStack {
         buf.writeVarInt(progress);
         buf.writeBlockPos(originalLocation);
         buf.writeEnumValue(pathType);
-        if (pathToTarget.indexOf(transporter.getTilePos()) > 0) {
+        if (getRouteIndex(transporter) > 0) {
             buf.writeBoolean(true);
             buf.writeBlockPos(getNext(transporter));
         } else {
@@ -98,7 +111,7 @@ public class TransporterStack {
         updateTag.putInt(NBTConstants.PROGRESS, progress);
         updateTag.put(NBTConstants.ORIGINAL_LOCATION, NBTUtil.writeBlockPos(originalLocation));
         updateTag.putInt(NBTConstants.PATH_TYPE, pathType.ordinal());
-        if (pathToTarget.indexOf(transporter.getTilePos()) > 0) {
+        if (getRouteIndex(transporter) > 0) {
             updateTag.put(NBTConstants.CLIENT_NEXT, NBTUtil.writeBlockPos(getNext(transporter)));
         }
         updateTag.put(NBTConstants.CLIENT_PREVIOUS, NBTUtil.writeBlockPos(getPrev(transporter)));
@@ -141,24 +154,72 @@ public class TransporterStack {
         itemStack = ItemStack.read(nbtTags);
     }
 
-    private void setPath(World world, List<BlockPos> path, Path type) {
+    private void setPath(LogisticalTransporterBase transporter, List<BlockPos> path, Path type) {
+        World world = transporter.getTileWorld();
         //Make sure old path isn't null
         if (pathType != Path.NONE) {
-            TransporterManager.remove(world, this);
+            TransporterManager.remove(this);
+        }
+        route = new long[path.size()];
+        for (int i = 0; i < route.length; i++) {
+            route[i] = path.get(i).toLong();
         }
-        pathToTarget = path;
+        routeIndex = -1;
+        getRouteIndex(transporter);
         pathType = type;
         if (pathType != Path.NONE) {
             TransporterManager.add(world, this);
         }
     }
 
+    /**
+     * Brings the progress of this stack up to date for the given game time, as on the server stacks are only updated when they reach the middle or the end of the
+     * transporter they are in.
+     *
+     * @implNote Progress never goes past where the stack's next update was scheduled, so stacks don't move while their network isn't being ticked.
+     */
+    public void updateProgress(long gameTime) {
+        long time = Math.min(gameTime, eventTime);
+        if (time > progressTime) {
+            progress += (int) (time - progressTime) * speed;
+            progressTime = time;
+        }
+    }
+
     public boolean hasPath() {
-        return pathToTarget != null && pathToTarget.size() >= 2;
+        return route.length >= 2;
+    }
+
+    /**
+     * Gets the index of the given transporter in this stack's route, where the target is at index zero.
+     *
+     * @return The index, or {@code -1} if the transporter isn't part of the route.
+     *
+     * @implNote Stacks only ever move one hop towards the target at a time, so we check where the stack was last known to be and the hop after that before falling
+     * back to searching the entire route.
+     */
+    public int getRouteIndex(LogisticalTransporterBase transporter) {
+        long pos = transporter.getTilePos().toLong();
+        if (routeIndex >= 0 && route[routeIndex] == pos) {
+            return routeIndex;
+        } else if (routeIndex > 0 && route[routeIndex - 1] == pos) {
+            return --routeIndex;
+        }
+        routeIndex = -1;
+        for (int i = 0; i < route.length; i++) {
+            if (route[i] == pos) {
+                routeIndex = i;
+                break;
+            }
+        }
+        return routeIndex;
     }
 
-    public List<BlockPos> getPath() {
-        return pathToTarget;
+    /**
+     * @return Packed position of the given index in the route.
+     */
+    public long getRoutePos(int index) {
+        return route[index];
     }
 
     public Path getPathType() {
@@ -171,7 +232,7 @@ public class TransporterStack {
             return request.getEmptyResponse();
         }
         idleDir = null;
-        setPath(transporter.getTileWorld(), newPath.getPath(), Path.DEST);
+        setPath(transporter, newPath.getPath(), Path.DEST);
         initiatedPath = true;
         return newPath.getResponse();
     }
@@ -182,7 +243,7 @@ public class TransporterStack {
             return request.getEmptyResponse();
         }
         idleDir = null;
-        setPath(transporter.getTileWorld(), newPath.getPath(), Path.DEST);
+        setPath(transporter, newPath.getPath(), Path.DEST);
         initiatedPath = true;
         return newPath.getResponse();
     }
@@ -195,32 +256,54 @@ public class TransporterStack {
         if (newPath.getRight() == Path.HOME) {
             idleDir = null;
         }
-        setPath(transporter.getTileWorld(), newPath.getLeft(), newPath.getRight());
+        setPath(transporter, newPath.getLeft(), newPath.getRight());
         originalLocation = transporter.getTilePos();
         initiatedPath = true;
         return true;
     }
 
     public boolean isFinal(LogisticalTransporterBase transporter) {
-        return pathToTarget.indexOf(transporter.getTilePos()) == (pathType == Path.NONE ? 0 : 1);
+        return getRouteIndex(transporter) == (pathType == Path.NONE ? 0 : 1);
     }
 
     public BlockPos getNext(LogisticalTransporterBase transporter) {
         if (!transporter.isRemote()) {
-            int index = pathToTarget.indexOf(transporter.getTilePos()) - 1;
+            int index = getRouteIndex(transporter) - 1;
             if (index < 0) {
                 return null;
             }
-            return pathToTarget.get(index);
+            return BlockPos.fromLong(route[index]);
         }
         return clientNext;
     }
 
+    /**
+     * Gets the side of the given transporter that this stack leaves it through, without having to unpack the next position of the route.
+     *
+     * @return The side, or {@code null} if the given transporter is the end of the route or isn't part of it.
+     *
+     * @apiNote Only call this from the server side
+     */
+    @Nullable
+    public Direction getNextSide(LogisticalTransporterBase transporter) {
+        int index = getRouteIndex(transporter) - 1;
+        if (index >= 0) {
+            long pos = route[index + 1];
+            long next = route[index];
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (BlockPos.offset(pos, side) == next) {
+                    return side;
+                }
+            }
+        }
+        return null;
+    }
+
     public BlockPos getPrev(LogisticalTransporterBase transporter) {
         if (!transporter.isRemote()) {
-            int index = pathToTarget.indexOf(transporter.getTilePos()) + 1;
-            if (index < pathToTarget.size()) {
-                return pathToTarget.get(index);
+            int index = getRouteIndex(transporter) + 1;
+            if (index < route.length) {
+                return BlockPos.fromLong(route[index]);
             }
             return originalLocation;
         }
@@ -234,11 +317,13 @@ public class TransporterStack {
             if (prev != null) {
                 side = MekanismUtils.sideDifference(transporter.getTilePos(), prev);
             }
-        } else {
+        } else if (transporter.isRemote()) {
             BlockPos next = getNext(transporter);
             if (next != null) {
                 side = MekanismUtils.sideDifference(next, transporter.getTilePos());
             }
+        } else {
+            side = getNextSide(transporter);
         }
         //sideDifference can return null
         //TODO: Look into implications further about what side should be returned.
@@ -267,7 +352,7 @@ public class TransporterStack {
     }
 
     public BlockPos getDest() {
-        return pathToTarget.get(0);
+        return BlockPos.fromLong(route[0]);
     }
 
     public enum Path {
@@ -147,7 +147,7 @@ public class EntityRobit extends CreatureEntity implements IMekanismInventory, I
             }
         }
         inventorySlots.add(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getEntityWorld, this, 153, 17));
-        inventorySlots.add(smeltingInputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInput().testType(item)), this, 51, 35));
+        inventorySlots.add(smeltingInputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getInput().testType(item)), this, 51, 35));
         //TODO: Previously used FurnaceResultSlot, check if we need to replicate any special logic it had (like if it had xp logic or something)
         // Yes we probably do want this to allow for experience. Though maybe we should allow for experience for all our recipes/smelting recipes? V10
         inventorySlots.add(smeltingOutputSlot = OutputInventorySlot.at(this, 116, 35));
@@ -501,13 +501,13 @@ public class EntityRobit extends CreatureEntity implements IMekanismInventory, I
         return MekanismRecipeType.SMELTING;
     }
 
-    public boolean containsRecipe(@Nonnull Predicate<ItemStackToItemStackRecipe> matchCriteria) {
-        return getRecipeType().contains(getEntityWorld(), matchCriteria);
+    public boolean containsRecipe(@Nonnull ItemStack input, @Nonnull Predicate<ItemStackToItemStackRecipe> matchCriteria) {
+        return getRecipeType().contains(getEntityWorld(), input, matchCriteria);
     }
 
     @Nullable
-    public ItemStackToItemStackRecipe findFirstRecipe(@Nonnull Predicate<ItemStackToItemStackRecipe> matchCriteria) {
-        return getRecipeType().findFirst(getEntityWorld(), matchCriteria);
+    public ItemStackToItemStackRecipe findFirstRecipe(@Nonnull ItemStack input, @Nonnull Predicate<ItemStackToItemStackRecipe> matchCriteria) {
+        return getRecipeType().findFirst(getEntityWorld(), input, matchCriteria);
     }
 
     @Nullable
@@ -520,7 +520,7 @@ public class EntityRobit extends CreatureEntity implements IMekanismInventory, I
     @Override
     public ItemStackToItemStackRecipe getRecipe(int cacheIndex) {
         ItemStack stack = inputHandler.getInput();
-        return stack.isEmpty() ? null : findFirstRecipe(recipe -> recipe.test(stack));
+        return stack.isEmpty() ? null : findFirstRecipe(stack, recipe -> recipe.test(stack));
     }
 
     public IEnergyContainer getEnergyContainer() {
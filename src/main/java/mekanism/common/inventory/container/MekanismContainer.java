@@ -1,7 +1,10 @@
 package mekanism.common.inventory.container;
 
+import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nonnull;
@@ -43,7 +46,6 @@ import mekanism.common.inventory.container.sync.chemical.SyncableSlurryStack;
 import mekanism.common.inventory.container.sync.list.SyncableList;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.network.container.PacketUpdateContainerBatch;
-import mekanism.common.network.container.property.PropertyData;
 import mekanism.common.registration.impl.ContainerTypeRegistryObject;
 import mekanism.common.util.StackUtils;
 import net.minecraft.entity.player.PlayerEntity;
@@ -53,6 +55,7 @@ import net.minecraft.inventory.container.Container;
 import net.minecraft.inventory.container.IContainerListener;
 import net.minecraft.inventory.container.Slot;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.IntReferenceHolder;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fluids.FluidStack;
@@ -70,6 +73,11 @@ public abstract class MekanismContainer extends Container {
     protected final List<OffhandSlot> offhandSlots = new ArrayList<>();
     private final List<ISyncableData> trackedData = new ArrayList<>();
     private final Map<Object, List<ISyncableData>> specificTrackedData = new Object2ObjectOpenHashMap<>();
+    //Reused between ticks to keep track of which tracked data changed and how
+    private final BitSet dirtyData = new BitSet();
+    private DirtyType[] dirtyTypes = new DirtyType[0];
+    @Nullable
+    private PacketBuffer syncBuffer;
 
     protected MekanismContainer(ContainerTypeRegistryObject<?> type, int id, @Nullable PlayerInventory inv) {
         super(type.getContainerType(), id);
@@ -135,6 +143,10 @@ public abstract class MekanismContainer extends Container {
     public void onContainerClosed(@Nonnull PlayerEntity player) {
         super.onContainerClosed(player);
         closeInventory(player);
+        if (syncBuffer != null) {
+            syncBuffer.release();
+            syncBuffer = null;
+        }
     }
 
     protected void closeInventory(PlayerEntity player) {
@@ -442,31 +454,45 @@ public abstract class MekanismContainer extends Container {
         // and also batch various sync packets
         if (!listeners.isEmpty()) {
             //Only check tracked data for changes if we actually have any listeners
-            List<PropertyData> dirtyData = new ArrayList<>();
-            for (short i = 0; i < trackedData.size(); i++) {
-                ISyncableData data = trackedData.get(i);
-                DirtyType dirtyType = data.isDirty();
+            int size = trackedData.size();
+            if (dirtyTypes.length < size) {
+                dirtyTypes = new DirtyType[size];
+            }
+            int dirtyCount = 0;
+            for (int i = 0; i < size; i++) {
+                DirtyType dirtyType = trackedData.get(i).isDirty();
                 if (dirtyType != DirtyType.CLEAN) {
-                    dirtyData.add(data.getPropertyData(i, dirtyType));
+                    dirtyData.set(i);
+                    dirtyTypes[i] = dirtyType;
+                    dirtyCount++;
                 }
             }
-            int size = dirtyData.size();
-            if (size == 1) {
-                //If we only have a single element send a type specific packet to reduce overhead of
-                // having to include type and count
-                sendChange(dirtyData.get(0).getSinglePacket((short) windowId));
-            } else if (size > 1) {
-                sendChange(new PacketUpdateContainerBatch((short) windowId, dirtyData));
+            if (dirtyCount > 0) {
+                PacketUpdateContainerBatch packet = new PacketUpdateContainerBatch((short) windowId, encodeDirtyData(dirtyCount));
+                dirtyData.clear();
+                for (IContainerListener listener : listeners) {
+                    if (listener instanceof ServerPlayerEntity) {
+                        Mekanism.packetHandler.sendTo(packet, (ServerPlayerEntity) listener);
+                    }
+                }
             }
         }
     }
 
-    private <MSG> void sendChange(MSG packet) {
-        for (IContainerListener listener : listeners) {
-            if (listener instanceof ServerPlayerEntity) {
-                Mekanism.packetHandler.sendTo(packet, (ServerPlayerEntity) listener);
-            }
+    private byte[] encodeDirtyData(int dirtyCount) {
+        if (syncBuffer == null) {
+            syncBuffer = new PacketBuffer(Unpooled.buffer());
+        } else {
+            syncBuffer.clear();
+        }
+        syncBuffer.writeVarInt(dirtyCount);
+        for (int i = dirtyData.nextSetBit(0); i >= 0; i = dirtyData.nextSetBit(i + 1)) {
+            trackedData.get(i).writeToPacket(syncBuffer, (short) i, dirtyTypes[i]);
         }
+        //Note: We copy what we wrote out of the buffer as the packet may not get encoded until after we have reused the buffer
+        byte[] payload = new byte[syncBuffer.readableBytes()];
+        syncBuffer.readBytes(payload);
+        return payload;
     }
 
     @Override
@@ -475,17 +501,16 @@ public abstract class MekanismContainer extends Container {
         super.addListener(listener);
         if (!alreadyHas && listener instanceof ServerPlayerEntity) {
             //Send all contents to the listener when it first gets added
-            List<PropertyData> dirtyData = new ArrayList<>();
-            for (short i = 0; i < trackedData.size(); i++) {
-                dirtyData.add(trackedData.get(i).getPropertyData(i, DirtyType.DIRTY));
-            }
-            int size = dirtyData.size();
-            if (size == 1) {
-                //If we only have a single element send a type specific packet to reduce overhead of
-                // having to include type and count
-                Mekanism.packetHandler.sendTo(dirtyData.get(0).getSinglePacket((short) windowId), (ServerPlayerEntity) listener);
-            } else if (size > 1) {
-                Mekanism.packetHandler.sendTo(new PacketUpdateContainerBatch((short) windowId, dirtyData), (ServerPlayerEntity) listener);
+            int size = trackedData.size();
+            if (size > 0) {
+                if (dirtyTypes.length < size) {
+                    dirtyTypes = new DirtyType[size];
+                }
+                dirtyData.set(0, size);
+                Arrays.fill(dirtyTypes, 0, size, DirtyType.DIRTY);
+                byte[] payload = encodeDirtyData(size);
+                dirtyData.clear();
+                Mekanism.packetHandler.sendTo(new PacketUpdateContainerBatch((short) windowId, payload), (ServerPlayerEntity) listener);
             }
         }
     }
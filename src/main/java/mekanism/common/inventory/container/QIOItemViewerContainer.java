@@ -1,12 +1,18 @@
 package mekanism.common.inventory.container;
 
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.Mekanism;
@@ -42,6 +48,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
     public static final int SLOTS_START_Y = 43;
     private static final int DOUBLE_CLICK_TRANSFER_DURATION = 20;
+    //Minimum number of changed item types before we merge all of them into the lists at once instead of inserting them one at a time
+    private static final int MIN_MERGE_CHANGES = 16;
 
     public static int getSlotsYMax() {
         int maxY = (int) Math.ceil(Minecraft.getInstance().getMainWindow().getScaledHeight() * 0.05 - 8) + 1;
@@ -52,14 +60,18 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private SortDirection sortDirection = MekanismConfig.client.qioItemViewerSortDirection.get();
 
     private Object2LongMap<HashedItem> cachedInventory = new Object2LongOpenHashMap<>();
+    //Item types by the id the server references them by
+    private Int2ObjectMap<HashedItem> itemTypeIds = new Int2ObjectOpenHashMap<>();
     private long cachedCountCapacity;
     private int cachedTypeCapacity;
     private long totalItems;
 
+    //Sorted by the current sort type and direction, as are all the cached search results
     private List<IScrollableSlot> itemList;
+    private Map<HashedItem, ItemSlotData> itemSlots = new Object2ObjectOpenHashMap<>();
     private List<IScrollableSlot> searchList;
 
-    private Map<String, List<IScrollableSlot>> searchCache = new Object2ObjectOpenHashMap<>();
+    private Map<String, SearchResult> searchCache = new Object2ObjectOpenHashMap<>();
 
     private String searchQuery = "";
 
@@ -87,10 +99,12 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     protected void sync(QIOItemViewerContainer container) {
         container.sortType = sortType;
         container.cachedInventory = cachedInventory;
+        container.itemTypeIds = itemTypeIds;
         container.cachedCountCapacity = cachedCountCapacity;
         container.cachedTypeCapacity = cachedTypeCapacity;
         container.totalItems = totalItems;
         container.itemList = itemList;
+        container.itemSlots = itemSlots;
         container.searchList = searchList;
         container.searchCache = searchCache;
         container.searchQuery = searchQuery;
@@ -110,7 +124,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     protected void openInventory(@Nonnull PlayerInventory inv) {
         super.openInventory(inv);
         if (inv.player.world.isRemote()) {
-            Mekanism.packetHandler.sendToServer(PacketGuiItemDataRequest.qioItemViewer());
+            Mekanism.packetHandler.sendToServer(PacketGuiItemDataRequest.qioItemViewer(sortType, sortDirection));
         }
     }
 
@@ -200,14 +214,29 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return newStack;
     }
 
-    public void handleBatchUpdate(Object2LongMap<HashedItem> itemMap, long countCapacity, int typeCapacity) {
-        cachedInventory = itemMap;
+    public void handleStart(long countCapacity, int typeCapacity) {
+        cachedInventory = new Object2LongOpenHashMap<>();
+        itemTypeIds.clear();
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
         syncItemList();
     }
 
-    public void handleUpdate(Object2LongMap<HashedItem> itemMap, long countCapacity, int typeCapacity) {
+    public void handleUpdate(Int2ObjectMap<HashedItem> newTypes, Int2LongMap counts, long countCapacity, int typeCapacity) {
+        itemTypeIds.putAll(newTypes);
+        Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>(counts.size());
+        for (Int2LongMap.Entry entry : counts.int2LongEntrySet()) {
+            long count = entry.getLongValue();
+            //Once an item type is gone the server no longer uses its id
+            HashedItem type = count == 0 ? itemTypeIds.remove(entry.getIntKey()) : itemTypeIds.get(entry.getIntKey());
+            if (type != null) {
+                itemMap.put(type, count);
+            }
+        }
+        handleUpdate(itemMap, countCapacity, typeCapacity);
+    }
+
+    private void handleUpdate(Object2LongMap<HashedItem> itemMap, long countCapacity, int typeCapacity) {
         itemMap.object2LongEntrySet().forEach(entry -> {
             long value = entry.getLongValue();
             if (value == 0) {
@@ -218,13 +247,24 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         });
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
-        syncItemList();
+        if (itemList == null) {
+            syncItemList();
+        } else if (itemMap.size() >= MIN_MERGE_CHANGES) {
+            //Each part of the item types being streamed to us ends up here, so merge them in without re-sorting the entire list or dropping the cached searches
+            mergeItems(itemMap, sortType.getComparator(sortDirection));
+        } else {
+            Comparator<IScrollableSlot> comparator = sortType.getComparator(sortDirection);
+            itemMap.object2LongEntrySet().forEach(entry -> updateItem(entry.getKey(), entry.getLongValue(), comparator));
+        }
     }
 
     public void handleKill() {
         itemList = null;
         searchList = null;
+        itemSlots.clear();
+        searchCache.clear();
         cachedInventory.clear();
+        itemTypeIds.clear();
     }
 
     private void syncItemList() {
@@ -232,16 +272,166 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             itemList = new ArrayList<>();
         }
         itemList.clear();
+        itemSlots.clear();
         searchCache.clear();
         totalItems = 0;
         cachedInventory.forEach((key, value) -> {
-            itemList.add(new ItemSlotData(key, value));
+            ItemSlotData slot = new ItemSlotData(key, value);
+            itemList.add(slot);
+            itemSlots.put(key, slot);
             totalItems += value;
         });
         sortItemList();
-        if (!searchQuery.isEmpty()) {
-            updateSearch(searchQuery);
+    }
+
+    /**
+     * Applies the change of a single item type to the sorted item list and all cached search results, without having to re-sort or re-filter any of them.
+     */
+    private void updateItem(HashedItem type, long count, Comparator<IScrollableSlot> comparator) {
+        ItemSlotData slot = itemSlots.get(type);
+        if (slot == null) {
+            if (count != 0) {
+                slot = new ItemSlotData(type, count);
+                itemSlots.put(type, slot);
+                totalItems += count;
+                insertSorted(itemList, slot, comparator);
+                for (SearchResult result : searchCache.values()) {
+                    if (result.query.matches(type.getStack())) {
+                        insertSorted(result.slots, slot, comparator);
+                    }
+                }
+            }
+        } else if (count == 0) {
+            itemSlots.remove(type);
+            totalItems -= slot.count;
+            removeSorted(itemList, slot, comparator);
+            for (SearchResult result : searchCache.values()) {
+                removeSorted(result.slots, slot, comparator);
+            }
+        } else if (count != slot.count) {
+            totalItems += count - slot.count;
+            if (sortType.dependsOnCount()) {
+                //Remove the slot from where it is sorted by its old count, and add it back where it belongs with the new count
+                removeSorted(itemList, slot, comparator);
+                List<List<IScrollableSlot>> containingResults = new ArrayList<>();
+                for (SearchResult result : searchCache.values()) {
+                    if (removeSorted(result.slots, slot, comparator)) {
+                        containingResults.add(result.slots);
+                    }
+                }
+                slot.count = count;
+                insertSorted(itemList, slot, comparator);
+                for (List<IScrollableSlot> slots : containingResults) {
+                    insertSorted(slots, slot, comparator);
+                }
+            } else {
+                //The order doesn't depend on the count, and all the lists contain the same slot instance so just update it
+                slot.count = count;
+            }
+        }
+    }
+
+    /**
+     * Applies the changes of many item types at once, by removing all the slots that are gone or need to move in a single pass over each list, and then merging
+     * the sorted slots that need to be added back in with another pass.
+     */
+    private void mergeItems(Object2LongMap<HashedItem> itemMap, Comparator<IScrollableSlot> comparator) {
+        Set<IScrollableSlot> removed = new ReferenceOpenHashSet<>();
+        List<IScrollableSlot> added = new ArrayList<>();
+        for (Object2LongMap.Entry<HashedItem> entry : itemMap.object2LongEntrySet()) {
+            HashedItem type = entry.getKey();
+            long count = entry.getLongValue();
+            ItemSlotData slot = itemSlots.get(type);
+            if (slot == null) {
+                if (count != 0) {
+                    slot = new ItemSlotData(type, count);
+                    itemSlots.put(type, slot);
+                    totalItems += count;
+                    added.add(slot);
+                }
+            } else if (count == 0) {
+                itemSlots.remove(type);
+                totalItems -= slot.count;
+                removed.add(slot);
+            } else if (count != slot.count) {
+                totalItems += count - slot.count;
+                slot.count = count;
+                if (sortType.dependsOnCount()) {
+                    //Remove the slot from where it was sorted by its old count, and add it back where it belongs with the new count
+                    removed.add(slot);
+                    added.add(slot);
+                }
+            }
+        }
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        added.sort(comparator);
+        mergeSorted(itemList, removed, added, comparator);
+        for (SearchResult result : searchCache.values()) {
+            List<IScrollableSlot> matching = new ArrayList<>();
+            for (IScrollableSlot slot : added) {
+                if (result.query.matches(slot.getItem().getStack())) {
+                    matching.add(slot);
+                }
+            }
+            mergeSorted(result.slots, removed, matching, comparator);
+        }
+    }
+
+    /**
+     * Removes the given slots from the sorted list, and merges the given sorted slots into it.
+     */
+    private static void mergeSorted(List<IScrollableSlot> list, Set<IScrollableSlot> removed, List<IScrollableSlot> added, Comparator<IScrollableSlot> comparator) {
+        if (!removed.isEmpty()) {
+            list.removeIf(removed::contains);
+        }
+        if (added.isEmpty()) {
+            return;
+        }
+        //Grow the list and then merge from the back, so that none of the slots already in the list have to be shifted more than once
+        int index = list.size() - 1;
+        int addedIndex = added.size() - 1;
+        list.addAll(Collections.nCopies(added.size(), null));
+        for (int target = list.size() - 1; addedIndex >= 0; target--) {
+            if (index >= 0 && comparator.compare(list.get(index), added.get(addedIndex)) > 0) {
+                list.set(target, list.get(index--));
+            } else {
+                list.set(target, added.get(addedIndex--));
+            }
+        }
+    }
+
+    private static void insertSorted(List<IScrollableSlot> list, IScrollableSlot slot, Comparator<IScrollableSlot> comparator) {
+        list.add(lowerBound(list, slot, comparator), slot);
+    }
+
+    private static boolean removeSorted(List<IScrollableSlot> list, IScrollableSlot slot, Comparator<IScrollableSlot> comparator) {
+        //Multiple slots may compare as equal, so check each of them until we find the slot we are looking for
+        for (int index = lowerBound(list, slot, comparator), size = list.size(); index < size; index++) {
+            IScrollableSlot other = list.get(index);
+            if (other == slot) {
+                list.remove(index);
+                return true;
+            } else if (comparator.compare(other, slot) != 0) {
+                break;
+            }
         }
+        return false;
+    }
+
+    private static int lowerBound(List<IScrollableSlot> list, IScrollableSlot slot, Comparator<IScrollableSlot> comparator) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(list.get(mid), slot) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     private void sortItemList() {
@@ -249,6 +439,11 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             return;
         }
         sortType.sort(itemList, sortDirection);
+        //Search results need to be in the same order as the item list, so filter the sorted list again
+        searchCache.clear();
+        if (!searchQuery.isEmpty()) {
+            updateSearch(searchQuery);
+        }
     }
 
     public void setSortDirection(SortDirection sortDirection) {
@@ -307,22 +502,20 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             return;
         }
 
-        List<IScrollableSlot> list = searchCache.get(queryText);
-        if (list != null) {
-            searchList = list;
-            searchQuery = queryText;
-            return;
-        }
-        list = new ArrayList<>();
-        ISearchQuery query = SearchQueryParser.parse(queryText);
-        for (IScrollableSlot slot : itemList) {
-            if (query.matches(slot.getItem().getStack())) {
-                list.add(slot);
+        SearchResult result = searchCache.get(queryText);
+        if (result == null) {
+            ISearchQuery query = SearchQueryParser.parse(queryText);
+            List<IScrollableSlot> list = new ArrayList<>();
+            for (IScrollableSlot slot : itemList) {
+                if (query.matches(slot.getItem().getStack())) {
+                    list.add(slot);
+                }
             }
+            result = new SearchResult(query, list);
+            searchCache.put(queryText, result);
         }
-        searchList = list;
+        searchList = result.slots;
         searchQuery = queryText;
-        searchCache.put(queryText, searchList);
     }
 
     @Override
@@ -351,9 +544,12 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     public static class ItemSlotData implements IScrollableSlot {
 
         private final HashedItem itemType;
-        private final long count;
+        private long count;
+        //Cached as these get compared a lot when sorting
+        private String modID;
+        private String displayName;
 
-        private ItemSlotData(HashedItem itemType, long count) {
+        public ItemSlotData(HashedItem itemType, long count) {
             this.itemType = itemType;
             this.count = count;
         }
@@ -370,12 +566,30 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
         @Override
         public String getModID() {
-            return getItem().getStack().getItem().getRegistryName().getNamespace();
+            if (modID == null) {
+                modID = getItem().getStack().getItem().getRegistryName().getNamespace();
+            }
+            return modID;
         }
 
         @Override
         public String getDisplayName() {
-            return getItem().getStack().getDisplayName().getString();
+            if (displayName == null) {
+                displayName = getItem().getStack().getDisplayName().getString();
+            }
+            return displayName;
+        }
+    }
+
+    private static class SearchResult {
+
+        private final ISearchQuery query;
+        //Sorted the same way as the item list
+        private final List<IScrollableSlot> slots;
+
+        private SearchResult(ISearchQuery query, List<IScrollableSlot> slots) {
+            this.query = query;
+            this.slots = slots;
         }
     }
 
@@ -422,7 +636,18 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         }
 
         public void sort(List<IScrollableSlot> list, SortDirection direction) {
-            list.sort(direction.isAscending() ? comparator : comparator.reversed());
+            list.sort(getComparator(direction));
+        }
+
+        public Comparator<IScrollableSlot> getComparator(SortDirection direction) {
+            return direction.isAscending() ? comparator : comparator.reversed();
+        }
+
+        /**
+         * @return {@code true} if the position of an item in the list changes when its count changes.
+         */
+        public boolean dependsOnCount() {
+            return this == SIZE;
         }
 
         @Override
@@ -1,6 +1,7 @@
 package mekanism.common.inventory.container.sync;
 
 import mekanism.common.network.container.property.PropertyData;
+import net.minecraft.network.PacketBuffer;
 
 public interface ISyncableData {
 
@@ -9,6 +10,14 @@ public interface ISyncableData {
     //DirtyType will either be DIRTY or SIZE
     PropertyData getPropertyData(short property, DirtyType dirtyType);
 
+    /**
+     * Writes this data the same way the {@link PropertyData} created by {@link #getPropertyData(short, DirtyType)} would write itself. Implementations can override this
+     * to write their value directly instead of creating the property data first.
+     */
+    default void writeToPacket(PacketBuffer buffer, short property, DirtyType dirtyType) {
+        getPropertyData(property, dirtyType).writeToPacket(buffer);
+    }
+
     enum DirtyType {
         CLEAN,
         SIZE,
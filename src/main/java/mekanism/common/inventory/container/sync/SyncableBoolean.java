@@ -3,6 +3,9 @@ package mekanism.common.inventory.container.sync;
 import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
 import java.util.function.BooleanSupplier;
 import mekanism.common.network.container.property.BooleanPropertyData;
+import mekanism.common.network.container.property.PropertyData;
+import mekanism.common.network.container.property.PropertyType;
+import net.minecraft.network.PacketBuffer;
 
 /**
  * Version of {@link net.minecraft.util.IntReferenceHolder} for handling booleans
@@ -28,6 +31,12 @@ public abstract class SyncableBoolean implements ISyncableData {
         return new BooleanPropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(PacketBuffer buffer, short property, DirtyType dirtyType) {
+        PropertyData.writeHeader(buffer, PropertyType.BOOLEAN, property);
+        buffer.writeBoolean(get());
+    }
+
     public static SyncableBoolean create(boolean[] booleanArray, int idx) {
         return new SyncableBoolean() {
             @Override
@@ -3,6 +3,9 @@ package mekanism.common.inventory.container.sync;
 import it.unimi.dsi.fastutil.bytes.ByteConsumer;
 import mekanism.api.functions.ByteSupplier;
 import mekanism.common.network.container.property.BytePropertyData;
+import mekanism.common.network.container.property.PropertyData;
+import mekanism.common.network.container.property.PropertyType;
+import net.minecraft.network.PacketBuffer;
 
 /**
  * Version of {@link net.minecraft.util.IntReferenceHolder} for handling bytes
@@ -28,6 +31,12 @@ public abstract class SyncableByte implements ISyncableData {
         return new BytePropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(PacketBuffer buffer, short property, DirtyType dirtyType) {
+        PropertyData.writeHeader(buffer, PropertyType.BYTE, property);
+        buffer.writeByte(get());
+    }
+
     public static SyncableByte create(byte[] byteArray, int idx) {
         return new SyncableByte() {
             @Override
@@ -3,6 +3,9 @@ package mekanism.common.inventory.container.sync;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleSupplier;
 import mekanism.common.network.container.property.DoublePropertyData;
+import mekanism.common.network.container.property.PropertyData;
+import mekanism.common.network.container.property.PropertyType;
+import net.minecraft.network.PacketBuffer;
 
 /**
  * Version of {@link net.minecraft.util.IntReferenceHolder} for handling doubles
@@ -28,6 +31,12 @@ public abstract class SyncableDouble implements ISyncableData {
         return new DoublePropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(PacketBuffer buffer, short property, DirtyType dirtyType) {
+        PropertyData.writeHeader(buffer, PropertyType.DOUBLE, property);
+        buffer.writeDouble(get());
+    }
+
     public static SyncableDouble create(double[] doubleArray, int idx) {
         return new SyncableDouble() {
             @Override
@@ -6,6 +6,9 @@ import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import mekanism.api.annotations.NonNull;
 import mekanism.common.network.container.property.IntPropertyData;
+import mekanism.common.network.container.property.PropertyData;
+import mekanism.common.network.container.property.PropertyType;
+import net.minecraft.network.PacketBuffer;
 
 /**
  * Version of {@link net.minecraft.util.IntReferenceHolder} for making it easier to handle enums
@@ -55,4 +58,10 @@ public class SyncableEnum<ENUM extends Enum<ENUM>> implements ISyncableData {
     public IntPropertyData getPropertyData(short property, DirtyType dirtyType) {
         return new IntPropertyData(property, get().ordinal());
     }
+
+    @Override
+    public void writeToPacket(PacketBuffer buffer, short property, DirtyType dirtyType) {
+        PropertyData.writeHeader(buffer, PropertyType.INT, property);
+        buffer.writeVarInt(get().ordinal());
+    }
 }
\ No newline at end of file
@@ -3,6 +3,9 @@ package mekanism.common.inventory.container.sync;
 import it.unimi.dsi.fastutil.floats.FloatConsumer;
 import mekanism.api.functions.FloatSupplier;
 import mekanism.common.network.container.property.FloatPropertyData;
+import mekanism.common.network.container.property.PropertyData;
+import mekanism.common.network.container.property.PropertyType;
+import net.minecraft.network.PacketBuffer;
 
 /**
  * Version of {@link net.minecraft.util.IntReferenceHolder} for handling floats
@@ -28,6 +31,12 @@ public abstract class SyncableFloat implements ISyncableData {
         return new FloatPropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(PacketBuffer buffer, short property, DirtyType dirtyType) {
+        PropertyData.writeHeader(buffer, PropertyType.FLOAT, property);
+        buffer.writeFloat(get());
+    }
+
     public static SyncableFloat create(float[] floatArray, int idx) {
         return new SyncableFloat() {
             @Override
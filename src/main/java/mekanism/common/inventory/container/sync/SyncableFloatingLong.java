@@ -7,7 +7,9 @@ import mekanism.api.annotations.NonNull;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.network.container.property.FloatingLongPropertyData;
 import mekanism.common.network.container.property.PropertyData;
+import mekanism.common.network.container.property.PropertyType;
 import mekanism.common.network.container.property.ShortPropertyData;
+import net.minecraft.network.PacketBuffer;
 
 /**
  * Version of {@link net.minecraft.util.IntReferenceHolder} for handling floating long
@@ -66,4 +68,15 @@ public class SyncableFloatingLong implements ISyncableData {
         }
         return new FloatingLongPropertyData(property, get());
     }
+
+    @Override
+    public void writeToPacket(PacketBuffer buffer, short property, DirtyType dirtyType) {
+        if (dirtyType == DirtyType.SIZE) {
+            PropertyData.writeHeader(buffer, PropertyType.SHORT, property);
+            buffer.writeShort(get().getDecimal());
+        } else {
+            PropertyData.writeHeader(buffer, PropertyType.FLOATING_LONG, property);
+            get().writeToBuffer(buffer);
+        }
+    }
 }
\ No newline at end of file
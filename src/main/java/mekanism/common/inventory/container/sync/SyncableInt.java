@@ -3,6 +3,9 @@ package mekanism.common.inventory.container.sync;
 import java.util.function.IntConsumer;
 import java.util.function.IntSupplier;
 import mekanism.common.network.container.property.IntPropertyData;
+import mekanism.common.network.container.property.PropertyData;
+import mekanism.common.network.container.property.PropertyType;
+import net.minecraft.network.PacketBuffer;
 
 /**
  * Slightly modified version of {@link net.minecraft.util.IntReferenceHolder}
@@ -28,6 +31,12 @@ public abstract class SyncableInt implements ISyncableData {
         return new IntPropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(PacketBuffer buffer, short property, DirtyType dirtyType) {
+        PropertyData.writeHeader(buffer, PropertyType.INT, property);
+        buffer.writeVarInt(get());
+    }
+
     public static SyncableInt create(int[] intArray, int idx) {
         return new SyncableInt() {
             @Override
@@ -3,6 +3,9 @@ package mekanism.common.inventory.container.sync;
 import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 import mekanism.common.network.container.property.LongPropertyData;
+import mekanism.common.network.container.property.PropertyData;
+import mekanism.common.network.container.property.PropertyType;
+import net.minecraft.network.PacketBuffer;
 
 /**
  * Version of {@link net.minecraft.util.IntReferenceHolder} for handling longs
@@ -28,6 +31,12 @@ public abstract class SyncableLong implements ISyncableData {
         return new LongPropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(PacketBuffer buffer, short property, DirtyType dirtyType) {
+        PropertyData.writeHeader(buffer, PropertyType.LONG, property);
+        buffer.writeVarLong(get());
+    }
+
     public static SyncableLong create(long[] longArray, int idx) {
         return new SyncableLong() {
             @Override
@@ -2,7 +2,10 @@ package mekanism.common.inventory.container.sync;
 
 import it.unimi.dsi.fastutil.shorts.ShortConsumer;
 import mekanism.api.functions.ShortSupplier;
+import mekanism.common.network.container.property.PropertyData;
+import mekanism.common.network.container.property.PropertyType;
 import mekanism.common.network.container.property.ShortPropertyData;
+import net.minecraft.network.PacketBuffer;
 
 /**
  * Version of {@link net.minecraft.util.IntReferenceHolder} for handling shorts
@@ -28,6 +31,12 @@ public abstract class SyncableShort implements ISyncableData {
         return new ShortPropertyData(property, get());
     }
 
+    @Override
+    public void writeToPacket(PacketBuffer buffer, short property, DirtyType dirtyType) {
+        PropertyData.writeHeader(buffer, PropertyType.SHORT, property);
+        buffer.writeShort(get());
+    }
+
     public static SyncableShort create(short[] shortArray, int idx) {
         return new SyncableShort() {
             @Override
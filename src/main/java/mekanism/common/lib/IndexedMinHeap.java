@@ -0,0 +1,145 @@
+package mekanism.common.lib;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min heap over dense integer ids in the range [0, capacity) keyed by a double. Unlike {@link java.util.PriorityQueue} this keeps track of where each id is in
+ * the heap so that keys can be decreased (or increased) in place without having to remove and re-add the element.
+ */
+public class IndexedMinHeap {
+
+    private static final int NOT_PRESENT = -1;
+
+    //Heap position -> id
+    private final int[] heap;
+    //Id -> heap position
+    private final int[] positions;
+    //Id -> key
+    private final double[] keys;
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        keys = new double[capacity];
+        Arrays.fill(positions, NOT_PRESENT);
+    }
+
+    public int capacity() {
+        return heap.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int id) {
+        return positions[id] != NOT_PRESENT;
+    }
+
+    /**
+     * @apiNote Only valid if the id is currently in the heap.
+     */
+    public double getKey(int id) {
+        return keys[id];
+    }
+
+    /**
+     * Adds the given id to the heap, or if it is already present moves it to the position represented by the new key.
+     */
+    public void insertOrUpdate(int id, double key) {
+        int position = positions[id];
+        if (position == NOT_PRESENT) {
+            keys[id] = key;
+            heap[size] = id;
+            positions[id] = size;
+            siftUp(size++);
+        } else {
+            double oldKey = keys[id];
+            keys[id] = key;
+            if (key < oldKey) {
+                siftUp(position);
+            } else if (key > oldKey) {
+                siftDown(position);
+            }
+        }
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the id with the lowest key.
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        int min = heap[0];
+        positions[min] = NOT_PRESENT;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            positions[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = NOT_PRESENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        int id = heap[position];
+        double key = keys[id];
+        while (position > 0) {
+            int parentPosition = (position - 1) >>> 1;
+            int parent = heap[parentPosition];
+            if (key >= keys[parent]) {
+                break;
+            }
+            heap[position] = parent;
+            positions[parent] = position;
+            position = parentPosition;
+        }
+        heap[position] = id;
+        positions[id] = position;
+    }
+
+    private void siftDown(int position) {
+        int id = heap[position];
+        double key = keys[id];
+        int half = size >>> 1;
+        while (position < half) {
+            int childPosition = 2 * position + 1;
+            int child = heap[childPosition];
+            int rightPosition = childPosition + 1;
+            if (rightPosition < size && keys[heap[rightPosition]] < keys[child]) {
+                childPosition = rightPosition;
+                child = heap[childPosition];
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            heap[position] = child;
+            positions[child] = position;
+            position = childPosition;
+        }
+        heap[position] = id;
+        positions[id] = position;
+    }
+}
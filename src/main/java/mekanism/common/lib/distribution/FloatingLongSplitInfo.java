@@ -1,51 +1,99 @@
 package mekanism.common.lib.distribution;
 
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 
 public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
 
-    private FloatingLong amountToSplit;
-    private FloatingLong amountPerTarget;
-    private FloatingLong sentSoFar;
+    private final FloatingLongAccumulator amountToSplit = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator amountPerTarget = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator sentSoFar = new FloatingLongAccumulator();
 
     public FloatingLongSplitInfo(FloatingLong amountToSplit, int totalTargets) {
         super(totalTargets);
-        this.amountToSplit = amountToSplit.copy();
-        amountPerTarget = toSplitAmong == 0 ? FloatingLong.ZERO : amountToSplit.divide(toSplitAmong);
-        sentSoFar = FloatingLong.ZERO;
+        reset(amountToSplit, totalTargets);
+    }
+
+    /**
+     * Resets this split info so that it can be reused to split a new amount instead of having to create a new split info each time energy is distributed.
+     */
+    public void reset(FloatingLong amountToSplit, int totalTargets) {
+        toSplitAmong = totalTargets;
+        amountPerChanged = false;
+        this.amountToSplit.set(amountToSplit);
+        if (toSplitAmong == 0) {
+            amountPerTarget.setZero();
+        } else {
+            divide(this.amountToSplit.get(), toSplitAmong, amountPerTarget);
+        }
+        sentSoFar.setZero();
     }
 
     @Override
     public void send(FloatingLong amountNeeded) {
         //If we are giving it, then lower the amount we are checking/splitting
-        amountToSplit = amountToSplit.minusEqual(amountNeeded);
-        sentSoFar = sentSoFar.plusEqual(amountNeeded);
+        amountToSplit.subtract(amountNeeded);
+        sentSoFar.add(amountNeeded);
         toSplitAmong--;
         //Only recalculate it if it is not willing to accept/doesn't want the
         // full per side split
-        if (!amountNeeded.equals(amountPerTarget) && toSplitAmong != 0) {
-            FloatingLong amountPerLast = amountPerTarget;
-            amountPerTarget = amountToSplit.divide(toSplitAmong);
-            if (!amountPerChanged && !amountPerTarget.equals(amountPerLast)) {
+        if (!amountNeeded.equals(amountPerTarget.get()) && toSplitAmong != 0) {
+            long lastValue = amountPerTarget.get().getValue();
+            short lastDecimal = amountPerTarget.get().getDecimal();
+            divide(amountToSplit.get(), toSplitAmong, amountPerTarget);
+            if (!amountPerChanged && (amountPerTarget.get().getValue() != lastValue || amountPerTarget.get().getDecimal() != lastDecimal)) {
                 amountPerChanged = true;
             }
         }
     }
 
+    /**
+     * Divides the given amount by the number of targets, storing the result in the given accumulator. When the amount fits in a signed long (which is practically always
+     * the case for the amounts that get distributed each tick) the division is done using long math instead of going through {@link FloatingLong#divide(long)}, which
+     * has to create multiple objects.
+     *
+     * @implNote The fast path rounds half even to the precision of the decimal, the same as {@link FloatingLong#divide(long)}, so that each target is offered the same
+     * amount regardless of which path is taken.
+     */
+    private static void divide(FloatingLong amount, int targets, FloatingLongAccumulator result) {
+        long value = amount.getValue();
+        if (value < 0) {
+            //Value is too large to be represented as a signed long, fallback to the slow path
+            result.set(amount.divide(targets));
+            return;
+        }
+        //Note: remainder is smaller than targets, so multiplying it by the size of the decimal can't overflow
+        long quotient = value / targets;
+        long scaledRemainder = (value % targets) * 10_000 + amount.getDecimal();
+        long decimal = scaledRemainder / targets;
+        long decimalRemainder = scaledRemainder % targets;
+        //Round half even based on how the remainder compares to half the number of targets
+        if (2 * decimalRemainder > targets || 2 * decimalRemainder == targets && (decimal & 1) == 1) {
+            decimal++;
+            if (decimal == 10_000) {
+                quotient++;
+                decimal = 0;
+            }
+        }
+        result.set(quotient, (short) decimal);
+    }
+
     @Override
     public FloatingLong getShareAmount() {
-        return amountPerTarget;
+        //Note: This is a constant snapshot rather than our accumulator, as it gets handed to handlers that may hold onto it
+        return amountPerTarget.snapshot();
     }
 
     @Override
     public FloatingLong getRemainderAmount() {
         //TODO: Decide if we want to try and adjust for the very small amount that may get lost/be a remainder
         // currently we just ignore it
-        return amountPerTarget;
+        //Note: This is a constant snapshot rather than our accumulator, as it gets handed to handlers that may hold onto it
+        return amountPerTarget.snapshot();
     }
 
     @Override
     public FloatingLong getTotalSent() {
-        return sentSoFar;
+        return sentSoFar.snapshot();
     }
-}
\ No newline at end of file
+}
@@ -8,8 +8,18 @@ public class LongSplitInfo extends SplitInfo<Long> {
 
     public LongSplitInfo(long amountToSplit, int totalTargets) {
         super(totalTargets);
+        reset(amountToSplit, totalTargets);
+    }
+
+    /**
+     * Resets this split info so that it can be reused to split a new amount instead of having to create a new split info each time something is distributed.
+     */
+    public void reset(long amountToSplit, int totalTargets) {
+        toSplitAmong = totalTargets;
+        amountPerChanged = false;
         this.amountToSplit = amountToSplit;
         amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
+        sentSoFar = 0;
     }
 
     @Override
@@ -4,6 +4,7 @@ import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.util.Direction;
 
 /**
@@ -34,6 +35,14 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
         return handlers;
     }
 
+    /**
+     * Removes all handlers and any leftover needed amounts from this target so that it can be reused for another distribution instead of having to create a new target.
+     */
+    public void clear() {
+        handlers.clear();
+        needed.clear();
+    }
+
     /**
      * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
      * needed if one ends up accepting less than it originally wanted. (The most likely case this would change is with multi-blocks where it may return the same desire to
@@ -78,14 +87,18 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
      * @param splitInfo Information about current overall split.
      */
     public void sendPossible(EXTRA toSend, SplitInfo<TYPE> splitInfo) {
-        for (Entry<Direction, HANDLER> entry : handlers.entrySet()) {
-            TYPE amountNeeded = simulate(entry.getValue(), toSend);
-            if (amountNeeded.compareTo(splitInfo.getShareAmount()) <= 0) {
-                //Add the amount, in case something changed from simulation only mark actual sent amount
-                // in split info
-                acceptAmount(entry.getValue(), splitInfo, amountNeeded);
-            } else {
-                needed.put(entry.getKey(), amountNeeded);
+        //Note: We look up the handlers by side rather than iterating the entry set as the entry iterator of an EnumMap creates a new entry for each element
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            HANDLER handler = handlers.get(side);
+            if (handler != null) {
+                TYPE amountNeeded = simulate(handler, toSend);
+                if (amountNeeded.compareTo(splitInfo.getShareAmount()) <= 0) {
+                    //Add the amount, in case something changed from simulation only mark actual sent amount
+                    // in split info
+                    acceptAmount(handler, splitInfo, amountNeeded);
+                } else {
+                    needed.put(side, amountNeeded);
+                }
             }
         }
     }
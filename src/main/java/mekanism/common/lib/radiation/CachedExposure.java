@@ -0,0 +1,61 @@
+package mekanism.common.lib.radiation;
+
+import net.minecraft.util.RegistryKey;
+import net.minecraft.world.World;
+
+/**
+ * Radiation level at the block an entity was last in, and the radiation shielding of its armor, so that they only have to be recalculated when the entity moves to a
+ * different block, the radiation sources change, or the entity's armor changes.
+ */
+public class CachedExposure {
+
+    private RegistryKey<World> dimension;
+    private long pos;
+    private int sourceVersion = -1;
+    private double decayScale;
+    private double level;
+    private double resistance = Double.NaN;
+
+    /**
+     * Checks if the cached radiation level is still correct for the given position and version of the radiation sources.
+     */
+    boolean isValid(RegistryKey<World> dimension, long pos, int sourceVersion) {
+        return this.sourceVersion == sourceVersion && this.pos == pos && this.dimension == dimension;
+    }
+
+    /**
+     * Gets the cached radiation level, adjusted for any decay the radiation sources have gone through since it was calculated.
+     *
+     * @param decayScale - the total amount all sources have been scaled by from decaying
+     */
+    double getLevel(double decayScale) {
+        return RadiationManager.BASELINE + (level - RadiationManager.BASELINE) * (decayScale / this.decayScale);
+    }
+
+    void setLevel(RegistryKey<World> dimension, long pos, int sourceVersion, double decayScale, double level) {
+        this.dimension = dimension;
+        this.pos = pos;
+        this.sourceVersion = sourceVersion;
+        this.decayScale = decayScale;
+        this.level = level;
+    }
+
+    boolean hasResistance() {
+        return !Double.isNaN(resistance);
+    }
+
+    double getResistance() {
+        return resistance;
+    }
+
+    void setResistance(double resistance) {
+        this.resistance = resistance;
+    }
+
+    /**
+     * Marks the shielding of the entity's armor as needing to be recalculated.
+     */
+    public void invalidateResistance() {
+        resistance = Double.NaN;
+    }
+}
@@ -0,0 +1,170 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import javax.annotation.Nullable;
+import mekanism.api.Coord4D;
+
+/**
+ * The radiation sources in a single chunk, along with their combined magnitude and magnitude weighted center. This lets the radiation from chunks that are far away
+ * from a position be approximated as a single source, and only the sources in chunks that are close by have to be summed individually.
+ */
+public class RadiationChunk {
+
+    /**
+     * How far the furthest source can be from the center of a chunk's sources compared to the distance from that center for the chunk to be treated as a single source.
+     * As the center is weighted by the magnitude of the sources, the error of the approximation is at most about three times the square of this ratio, which keeps it
+     * below 5%.
+     */
+    static final double APPROXIMATION_RATIO = 0.125;
+
+    private final Map<Coord4D, RadiationSource> sources = new Object2ObjectOpenHashMap<>();
+    private final int chunkX;
+    private final int chunkZ;
+
+    //Aggregate values, lazily recalculated when the sources change
+    private boolean dirty = true;
+    private double totalMagnitude;
+    private double centerX, centerY, centerZ;
+    //Distance from the center to the furthest source
+    private double radius;
+
+    public RadiationChunk(int chunkX, int chunkZ) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+    }
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkZ() {
+        return chunkZ;
+    }
+
+    @Nullable
+    public RadiationSource getSource(Coord4D coord) {
+        return sources.get(coord);
+    }
+
+    public void addSource(RadiationSource source) {
+        sources.put(source.getPos(), source);
+        dirty = true;
+    }
+
+    public Collection<RadiationSource> getSources() {
+        return sources.values();
+    }
+
+    public boolean isEmpty() {
+        return sources.isEmpty();
+    }
+
+    /**
+     * Marks the aggregate values as needing to be recalculated, should be called when the magnitude of any of the sources changes.
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Decays all the sources in this chunk, removing any that become too weak.
+     */
+    public void decay() {
+        for (Iterator<RadiationSource> iter = sources.values().iterator(); iter.hasNext(); ) {
+            if (iter.next().decay()) {
+                // remove if source gets too low
+                iter.remove();
+            }
+        }
+        dirty = true;
+    }
+
+    private void recalculate() {
+        totalMagnitude = 0;
+        double weightedX = 0, weightedY = 0, weightedZ = 0;
+        for (RadiationSource source : sources.values()) {
+            Coord4D pos = source.getPos();
+            double magnitude = source.getMagnitude();
+            totalMagnitude += magnitude;
+            weightedX += magnitude * pos.getX();
+            weightedY += magnitude * pos.getY();
+            weightedZ += magnitude * pos.getZ();
+        }
+        radius = 0;
+        if (totalMagnitude > 0) {
+            centerX = weightedX / totalMagnitude;
+            centerY = weightedY / totalMagnitude;
+            centerZ = weightedZ / totalMagnitude;
+            double radiusSq = 0;
+            for (RadiationSource source : sources.values()) {
+                Coord4D pos = source.getPos();
+                double dx = pos.getX() - centerX;
+                double dy = pos.getY() - centerY;
+                double dz = pos.getZ() - centerZ;
+                radiusSq = Math.max(radiusSq, dx * dx + dy * dy + dz * dz);
+            }
+            radius = Math.sqrt(radiusSq);
+        }
+        dirty = false;
+    }
+
+    /**
+     * Gets the radiation level (in Sv/h) at a position caused by the sources in this chunk.
+     *
+     * @param coord    - location
+     * @param maxRange - max distance a source can be from the location and still affect it
+     */
+    public double getRadiationLevel(Coord4D coord, int maxRange) {
+        if (sources.isEmpty()) {
+            return 0;
+        }
+        if (dirty) {
+            recalculate();
+        }
+        double cx = centerX - coord.getX();
+        double cy = centerY - coord.getY();
+        double cz = centerZ - coord.getZ();
+        double centerDistanceSq = cx * cx + cy * cy + cz * cz;
+        double centerDistance = Math.sqrt(centerDistanceSq);
+        if (centerDistance - radius > maxRange) {
+            // all the sources are out of range
+            return 0;
+        } else if (isApproximated(centerDistance, maxRange)) {
+            // the sources are far enough away that we can treat them as a single source at their center
+            return totalMagnitude / Math.max(1, centerDistanceSq);
+        }
+        // some of the sources are close by, or only some of them are in range, so sum them individually
+        double level = 0;
+        for (RadiationSource source : sources.values()) {
+            double distance = source.getPos().distanceTo(coord);
+            // we only compute exposure when within the MAX_RANGE bounds
+            if (distance <= maxRange) {
+                level += source.getMagnitude() / Math.max(1, distance * distance);
+            }
+        }
+        return level;
+    }
+
+    /**
+     * Checks if the sources in this chunk are small enough compared to their distance from a position to be treated as a single source, and are all in range of it.
+     */
+    private boolean isApproximated(double centerDistance, int maxRange) {
+        return radius <= APPROXIMATION_RATIO * centerDistance && centerDistance + radius <= maxRange;
+    }
+
+    /**
+     * @return {@code true} if {@link #getRadiationLevel(Coord4D, int)} treats the sources as a single source for the given position.
+     */
+    boolean isApproximated(Coord4D coord, int maxRange) {
+        if (dirty) {
+            recalculate();
+        }
+        double cx = centerX - coord.getX();
+        double cy = centerY - coord.getY();
+        double cz = centerZ - coord.getZ();
+        return isApproximated(Math.sqrt(cx * cx + cy * cy + cz * cz), maxRange);
+    }
+}
@@ -1,15 +1,15 @@
 package mekanism.common.lib.radiation;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.Set;
 import java.util.UUID;
-import java.util.function.IntSupplier;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
@@ -19,7 +19,6 @@ import mekanism.common.Mekanism;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.lib.HashList;
-import mekanism.common.lib.math.voxel.Chunk3D;
 import mekanism.common.lib.radiation.capability.IRadiationEntity;
 import mekanism.common.lib.radiation.capability.IRadiationShielding;
 import mekanism.common.network.PacketRadiationData;
@@ -37,13 +36,16 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.particles.BasicParticleType;
+import net.minecraft.util.RegistryKey;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.storage.DimensionSavedDataManager;
 import net.minecraft.world.storage.WorldSavedData;
 import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent;
 import net.minecraftforge.event.entity.living.LivingEvent.LivingUpdateEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.server.ServerLifecycleHooks;
@@ -74,7 +76,6 @@ import net.minecraftforge.fml.server.ServerLifecycleHooks;
 public class RadiationManager {
 
     private static final String DATA_HANDLER_NAME = "radiation_manager";
-    private static final IntSupplier MAX_RANGE = () -> MekanismConfig.general.radiationChunkCheckRadius.get() * 16;
     private static final Random RAND = new Random();
 
     public static final double BASELINE = 0.0000001; // 100 nSv/h
@@ -82,11 +83,17 @@ public class RadiationManager {
 
     private boolean loaded;
 
-    private final Map<Chunk3D, Map<Coord4D, RadiationSource>> radiationMap = new Object2ObjectOpenHashMap<>();
+    //Dimension -> chunk position -> sources in that chunk
+    private final Map<RegistryKey<World>, Long2ObjectMap<RadiationChunk>> radiationMap = new Object2ObjectOpenHashMap<>();
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Map<UUID, RadiationScale> playerExposureMap = new Object2ObjectOpenHashMap<>();
 
+    //Incremented whenever sources are added, removed or changed in a way other than decaying, invalidating all cached exposures
+    private int sourceVersion;
+    //Total amount sources have been scaled by from decaying since the last time sourceVersion changed, lets cached exposures be adjusted for decay
+    private double decayScale = 1;
+
     // client fields
     private RadiationScale clientRadiationScale = RadiationScale.NONE;
 
@@ -100,6 +107,27 @@ public class RadiationManager {
         return getRadiationLevel(new Coord4D(entity));
     }
 
+    /**
+     * Gets the radiation level (in Sv/h) at an entity's position, only recalculating it if the entity has moved to a different block or the sources have changed since
+     * the last time it was calculated.
+     */
+    private double getRadiationLevel(LivingEntity entity, CachedExposure exposure) {
+        RegistryKey<World> dimension = entity.world.func_234923_W_();
+        BlockPos pos = entity.getPosition();
+        long packedPos = pos.toLong();
+        if (exposure.isValid(dimension, packedPos, sourceVersion)) {
+            return exposure.getLevel(decayScale);
+        }
+        double level = getRadiationLevel(new Coord4D(pos, dimension));
+        exposure.setLevel(dimension, packedPos, sourceVersion, decayScale, level);
+        return level;
+    }
+
+    private void onSourcesChanged() {
+        sourceVersion++;
+        decayScale = 1;
+    }
+
     /**
      * Get the radiation level (in sV/h) at a certain location.
      *
@@ -108,21 +136,34 @@ public class RadiationManager {
      * @return radiation level (in sV)
      */
     public double getRadiationLevel(Coord4D coord) {
-        Set<Chunk3D> checkChunks = new Chunk3D(coord).expand(MekanismConfig.general.radiationChunkCheckRadius.get());
         double level = BASELINE;
-
-        for (Chunk3D chunk : checkChunks) {
-            if (radiationMap.containsKey(chunk)) {
-                for (RadiationSource src : radiationMap.get(chunk).values()) {
-                    // we only compute exposure when within the MAX_RANGE bounds
-                    if (src.getPos().distanceTo(coord) <= MAX_RANGE.getAsInt()) {
-                        double add = computeExposure(coord, src);
-                        level += add;
+        Long2ObjectMap<RadiationChunk> chunks = radiationMap.get(coord.dimension);
+        if (chunks == null || chunks.isEmpty()) {
+            return level;
+        }
+        int chunkRadius = MekanismConfig.general.radiationChunkCheckRadius.get();
+        // we only compute exposure when within the max range bounds
+        int maxRange = chunkRadius * 16;
+        int chunkX = coord.getX() >> 4;
+        int chunkZ = coord.getZ() >> 4;
+        int checkDiameter = 2 * chunkRadius + 1;
+        if (chunks.size() < checkDiameter * checkDiameter) {
+            // there are fewer chunks with sources than chunks in range, so just go through all of them
+            for (RadiationChunk chunk : chunks.values()) {
+                if (Math.abs(chunk.getChunkX() - chunkX) <= chunkRadius && Math.abs(chunk.getChunkZ() - chunkZ) <= chunkRadius) {
+                    level += chunk.getRadiationLevel(coord, maxRange);
+                }
+            }
+        } else {
+            for (int x = chunkX - chunkRadius; x <= chunkX + chunkRadius; x++) {
+                for (int z = chunkZ - chunkRadius; z <= chunkZ + chunkRadius; z++) {
+                    RadiationChunk chunk = chunks.get(ChunkPos.asLong(x, z));
+                    if (chunk != null) {
+                        level += chunk.getRadiationLevel(coord, maxRange);
                     }
                 }
             }
         }
-
         return level;
     }
 
@@ -130,26 +171,30 @@ public class RadiationManager {
         if (!MekanismConfig.general.radiationEnabled.get()) {
             return;
         }
-        Chunk3D chunk = new Chunk3D(coord);
-        boolean found = false;
-        if (radiationMap.containsKey(chunk)) {
-            RadiationSource src = radiationMap.get(chunk).get(coord);
-            if (src != null) {
-                src.radiate(magnitude);
-                found = true;
-            }
-        }
-        if (!found) {
-            radiationMap.computeIfAbsent(new Chunk3D(coord), c -> new Object2ObjectOpenHashMap<>()).put(coord, new RadiationSource(coord, magnitude));
+        onSourcesChanged();
+        RadiationChunk chunk = getOrCreateChunk(coord);
+        RadiationSource src = chunk.getSource(coord);
+        if (src == null) {
+            chunk.addSource(new RadiationSource(coord, magnitude));
+        } else {
+            src.radiate(magnitude);
+            chunk.markDirty();
         }
     }
 
+    private RadiationChunk getOrCreateChunk(Coord4D coord) {
+        int chunkX = coord.getX() >> 4;
+        int chunkZ = coord.getZ() >> 4;
+        return radiationMap.computeIfAbsent(coord.dimension, dimension -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), pos -> new RadiationChunk(chunkX, chunkZ));
+    }
+
     public void radiate(LivingEntity entity, double magnitude) {
         if (!MekanismConfig.general.radiationEnabled.get()) {
             return;
         }
         if (!(entity instanceof PlayerEntity) || MekanismUtils.isPlayingMode((PlayerEntity) entity)) {
-            entity.getCapability(Capabilities.RADIATION_ENTITY_CAPABILITY).ifPresent(c -> c.radiate(magnitude * (1 - Math.min(1, getRadiationResistance(entity)))));
+            entity.getCapability(Capabilities.RADIATION_ENTITY_CAPABILITY).ifPresent(c -> c.radiate(magnitude * (1 - Math.min(1, getRadiationResistance(entity, c)))));
         }
     }
 
@@ -159,10 +204,15 @@ public class RadiationManager {
 
     public void clearSources() {
         radiationMap.clear();
+        onSourcesChanged();
     }
 
-    private double computeExposure(Coord4D coord, RadiationSource source) {
-        return source.getMagnitude() / Math.max(1, Math.pow(coord.distanceTo(source.getPos()), 2));
+    private double getRadiationResistance(LivingEntity entity, IRadiationEntity radiationEntity) {
+        CachedExposure exposure = radiationEntity.getCachedExposure();
+        if (!exposure.hasResistance()) {
+            exposure.setResistance(getRadiationResistance(entity));
+        }
+        return exposure.getResistance();
     }
 
     private double getRadiationResistance(LivingEntity entity) {
@@ -211,12 +261,13 @@ public class RadiationManager {
         // each tick, there is a 1/20 chance we will apply radiation to each player
         // this helps distribute the CPU load across ticks, and makes exposure slightly inconsistent
         if (entity.world.getRandom().nextInt(20) == 0) {
-            double magnitude = getRadiationLevel(new Coord4D(entity));
+            Optional<IRadiationEntity> radiationEntity = MekanismUtils.toOptional(entity.getCapability(Capabilities.RADIATION_ENTITY_CAPABILITY));
+            double magnitude = radiationEntity.isPresent() ? getRadiationLevel(entity, radiationEntity.get().getCachedExposure()) : getRadiationLevel(entity);
             if (magnitude > BASELINE && (!(entity instanceof PlayerEntity) || MekanismUtils.isPlayingMode((PlayerEntity) entity))) {
                 // apply radiation to the player
                 radiate(entity, magnitude / 3_600D); // convert to Sv/s
             }
-            entity.getCapability(Capabilities.RADIATION_ENTITY_CAPABILITY).ifPresent(IRadiationEntity::decay);
+            radiationEntity.ifPresent(IRadiationEntity::decay);
             if (entity instanceof ServerPlayerEntity) {
                 ServerPlayerEntity player = (ServerPlayerEntity) entity;
                 RadiationScale scale = RadiationScale.get(magnitude);
@@ -253,17 +304,26 @@ public class RadiationManager {
         }
         // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
         if (RAND.nextInt(20) == 0) {
-            for (Map<Coord4D, RadiationSource> set : radiationMap.values()) {
-                for (Iterator<Map.Entry<Coord4D, RadiationSource>> iter = set.entrySet().iterator(); iter.hasNext(); ) {
-                    Map.Entry<Coord4D, RadiationSource> entry = iter.next();
-                    if (entry.getValue().decay()) {
-                        // remove if source gets too low
+            //Note: All sources decay at the same rate, so rather than invalidating cached exposures we just scale them by the same amount
+            decayScale *= MekanismConfig.general.radiationSourceDecayRate.get();
+            if (decayScale < Double.MIN_NORMAL) {
+                //Start fresh before the scale gets too small to be accurate
+                onSourcesChanged();
+            }
+            boolean decayed = false;
+            for (Long2ObjectMap<RadiationChunk> chunks : radiationMap.values()) {
+                for (ObjectIterator<RadiationChunk> iter = chunks.values().iterator(); iter.hasNext(); ) {
+                    RadiationChunk chunk = iter.next();
+                    chunk.decay();
+                    if (chunk.isEmpty()) {
                         iter.remove();
                     }
-
-                    dataHandler.markDirty();
+                    decayed = true;
                 }
             }
+            if (decayed) {
+                dataHandler.markDirty();
+            }
         }
     }
 
@@ -298,6 +358,13 @@ public class RadiationManager {
         playerExposureMap.remove(uuid);
     }
 
+    @SubscribeEvent
+    public void onEquipmentChange(LivingEquipmentChangeEvent event) {
+        if (event.getSlot().getSlotType() == EquipmentSlotType.Group.ARMOR && !event.getEntityLiving().getEntityWorld().isRemote()) {
+            event.getEntityLiving().getCapability(Capabilities.RADIATION_ENTITY_CAPABILITY).ifPresent(c -> c.getCachedExposure().invalidateResistance());
+        }
+    }
+
     @SubscribeEvent
     public void onLivingUpdate(LivingUpdateEvent event) {
         World world = event.getEntityLiving().getEntityWorld();
@@ -400,9 +467,9 @@ public class RadiationManager {
             // don't sync the manager if radiation has been disabled
             if (loadedSources != null && MekanismConfig.general.radiationEnabled.get()) {
                 for (RadiationSource source : loadedSources) {
-                    Chunk3D chunk = new Chunk3D(source.getPos());
-                    manager.radiationMap.computeIfAbsent(chunk, c -> new Object2ObjectOpenHashMap<>()).put(source.getPos(), source);
+                    manager.getOrCreateChunk(source.getPos()).addSource(source);
                 }
+                manager.onSourcesChanged();
             }
         }
 
@@ -421,11 +488,13 @@ public class RadiationManager {
         @Override
         public CompoundNBT write(@Nonnull CompoundNBT nbtTags) {
             ListNBT list = new ListNBT();
-            for (Map<Coord4D, RadiationSource> map : manager.radiationMap.values()) {
-                for (RadiationSource source : map.values()) {
-                    CompoundNBT compound = new CompoundNBT();
-                    source.write(compound);
-                    list.add(compound);
+            for (Long2ObjectMap<RadiationChunk> chunks : manager.radiationMap.values()) {
+                for (RadiationChunk chunk : chunks.values()) {
+                    for (RadiationSource source : chunk.getSources()) {
+                        CompoundNBT compound = new CompoundNBT();
+                        source.write(compound);
+                        list.add(compound);
+                    }
                 }
             }
             nbtTags.put(NBTConstants.RADIATION_LIST, list);
@@ -8,6 +8,7 @@ import mekanism.common.capabilities.Capabilities;
 import mekanism.common.capabilities.CapabilityCache;
 import mekanism.common.capabilities.resolver.basic.BasicCapabilityResolver;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.radiation.CachedExposure;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.radiation.RadiationManager.RadiationScale;
 import mekanism.common.network.PacketRadiationData;
@@ -29,6 +30,7 @@ public class DefaultRadiationEntity implements IRadiationEntity {
 
     private double radiation;
     private double clientSeverity = 0;
+    private final CachedExposure cachedExposure = new CachedExposure();
 
     @Override
     public double getRadiation() {
@@ -81,6 +83,11 @@ public class DefaultRadiationEntity implements IRadiationEntity {
         radiation = Math.max(RadiationManager.BASELINE, radiation * MekanismConfig.general.radiationTargetDecayRate.get());
     }
 
+    @Override
+    public CachedExposure getCachedExposure() {
+        return cachedExposure;
+    }
+
     @Override
     public CompoundNBT serializeNBT() {
         CompoundNBT ret = new CompoundNBT();
@@ -1,5 +1,6 @@
 package mekanism.common.lib.radiation.capability;
 
+import mekanism.common.lib.radiation.CachedExposure;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraftforge.common.util.INBTSerializable;
@@ -36,4 +37,11 @@ public interface IRadiationEntity extends INBTSerializable<CompoundNBT> {
      * @param magnitude value to set radiation dosage to
      */
     void set(double magnitude);
+
+    /**
+     * Gets the cached radiation level and shielding of the entity, used to avoid recalculating them when nothing has changed. This is not saved.
+     *
+     * @return cached exposure
+     */
+    CachedExposure getCachedExposure();
 }
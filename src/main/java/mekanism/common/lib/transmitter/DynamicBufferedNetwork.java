@@ -9,6 +9,7 @@ import javax.annotation.Nullable;
 import mekanism.api.Range3D;
 import mekanism.common.content.network.transmitter.BufferedTransmitter;
 import mekanism.common.util.MekanismUtils;
+import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraftforge.eventbus.api.Event;
@@ -16,6 +17,12 @@ import net.minecraftforge.eventbus.api.Event;
 public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBufferedNetwork<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER>, BUFFER,
       TRANSMITTER extends BufferedTransmitter<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER>> extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER> {
 
+    /**
+     * Maximum number of ticks a network that was unable to send anything will wait before offering to its acceptors again if nothing wakes it up before then. We can't
+     * sleep indefinitely as acceptors don't tell us when they become able to accept more (for example a full machine that used up some of its energy).
+     */
+    private static final int MAX_DORMANT_TICKS = 10;
+
     protected final Set<ChunkPos> chunks = new ObjectOpenHashSet<>();
     @Nullable
     protected Range3D packetRange;
@@ -24,6 +31,8 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     private boolean forceScaleUpdate;
     private long lastSaveShareWriteTime;
     private long lastMarkDirtyTime;
+    private int dormantTicks;
+    private int dormancyBackoff;
     public float currentScale;
 
     protected DynamicBufferedNetwork() {
@@ -36,8 +45,11 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     protected abstract float computeContentScale();
 
     @Override
-    public void onUpdate() {
-        super.onUpdate();
+    public void planUpdate() {
+        super.planUpdate();
+        if (dormantTicks > 0) {
+            dormantTicks--;
+        }
         float scale = computeContentScale();
         if (scale != currentScale) {
             currentScale = scale;
@@ -45,6 +57,50 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         }
     }
 
+    /**
+     * @return {@code true} if the network was unable to send anything recently and should skip trying to emit to its acceptors this tick.
+     */
+    protected boolean isDormant() {
+        return dormantTicks > 0;
+    }
+
+    /**
+     * Updates the dormancy state of this network after trying to emit to its acceptors. If nothing was sent the network will not try again for a few ticks, backing off
+     * further each time it is still unable to send anything, unless it gets woken up by its buffer or acceptors changing.
+     *
+     * @param sentAnything {@code true} if any acceptor accepted anything.
+     */
+    protected void updateDormancy(boolean sentAnything) {
+        if (sentAnything) {
+            dormancyBackoff = 0;
+        } else {
+            dormancyBackoff = Math.min(MAX_DORMANT_TICKS, Math.max(2, 2 * dormancyBackoff));
+            //Note: We count down at the start of each update before checking if we are dormant, so add one to skip the full backoff worth of ticks
+            dormantTicks = dormancyBackoff + 1;
+        }
+    }
+
+    /**
+     * Wakes this network up if it is dormant so that it tries to emit to its acceptors again next tick.
+     */
+    public void wake() {
+        dormantTicks = 0;
+        dormancyBackoff = 0;
+    }
+
+    @Override
+    public void commit() {
+        super.commit();
+        //Transmitters or acceptors may have been added
+        wake();
+    }
+
+    @Override
+    public void acceptorChanged(TRANSMITTER transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        wake();
+    }
+
     @Override
     public void addNewTransmitters(Collection<TRANSMITTER> newTransmitters) {
         super.addNewTransmitters(newTransmitters);
@@ -79,6 +135,7 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     @Override
     public void adoptTransmittersAndAcceptorsFrom(NETWORK net) {
         super.adoptTransmittersAndAcceptorsFrom(net);
+        wake();
         //Update the capacity
         updateCapacity();
     }
@@ -92,6 +149,16 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         updateSaveShares(triggerTransmitter);
     }
 
+    @Override
+    protected void transmittersRemoved(TRANSMITTER triggerTransmitter) {
+        super.transmittersRemoved(triggerTransmitter);
+        //Update the capacity and clamp the buffer to it, as unlike when the network gets invalidated the remaining transmitters don't get added back to it
+        updateCapacity();
+        clampBuffer();
+        needsUpdate = true;
+        packetRange = null;
+    }
+
     protected abstract void forceScaleUpdate();
 
     @Nonnull
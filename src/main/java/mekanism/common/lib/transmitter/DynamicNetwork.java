@@ -1,7 +1,9 @@
 package mekanism.common.lib.transmitter;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nonnull;
@@ -9,7 +11,9 @@ import javax.annotation.Nullable;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
+import mekanism.common.util.MekanismUtils;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -105,6 +109,90 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     protected void onLastTransmitterRemoved(@Nonnull TRANSMITTER triggerTransmitter) {
     }
 
+    /**
+     * Updates this network after the given transmitter was removed or had its connections to other transmitters change. Instead of invalidating the entire network,
+     * only the transmitters that are no longer connected to the rest of the network are split off as orphans.
+     *
+     * @apiNote Only call this from the server side
+     */
+    public void split(TRANSMITTER triggerTransmitter) {
+        boolean removed = !triggerTransmitter.isValid();
+        if (world == null || removed && transmitters.size() == 1 && transmitters.contains(triggerTransmitter)) {
+            //We're destroying the last transmitter in the network
+            invalidate(triggerTransmitter);
+            return;
+        }
+        //Transmitters that now connect to another network are split off as well so that they get merged with it as an orphan
+        boolean detach = removed || connectsToOtherNetwork(triggerTransmitter);
+        List<TRANSMITTER> seeds = new ArrayList<>();
+        if (!detach) {
+            seeds.add(triggerTransmitter);
+        }
+        BlockPos pos = triggerTransmitter.getTilePos();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            TRANSMITTER neighbor = getTransmitterAt(pos.offset(side));
+            if (neighbor != null && neighbor != triggerTransmitter && neighbor.isValid()) {
+                seeds.add(neighbor);
+            }
+        }
+        removeInvalid(triggerTransmitter);
+        if (removed) {
+            acceptorCache.removeTransmitter(triggerTransmitter);
+        }
+        List<TRANSMITTER> splitOff = new ArrayList<>();
+        if (detach && !removed) {
+            splitOff.add(triggerTransmitter);
+        }
+        if (seeds.size() > 1) {
+            splitOff.addAll(new NetworkSplitFinder<>(getNetwork(), seeds, detach ? triggerTransmitter : null).find());
+        }
+        for (TRANSMITTER transmitter : splitOff) {
+            transmitter.takeShare();
+            transmitter.setTransmitterNetwork(null);
+            transmitters.remove(transmitter);
+            acceptorCache.removeTransmitter(transmitter);
+            TransmitterNetworkRegistry.registerOrphanTransmitter(transmitter);
+        }
+        if (transmitters.isEmpty()) {
+            deregister();
+        } else {
+            transmittersRemoved(triggerTransmitter);
+        }
+    }
+
+    /**
+     * Called after transmitters were removed or split off from this network without it being invalidated.
+     *
+     * @param triggerTransmitter The transmitter that was removed or had its connections change, causing the other transmitters to be split off.
+     */
+    protected void transmittersRemoved(TRANSMITTER triggerTransmitter) {
+    }
+
+    private boolean connectsToOtherNetwork(TRANSMITTER transmitter) {
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            BlockPos neighborPos = transmitter.getAdjacentConnectableTransmitterPos(side);
+            if (neighborPos != null) {
+                NETWORK neighborNetwork = transmitter.getExternalNetwork(neighborPos);
+                if (neighborNetwork != null && neighborNetwork != this) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The transmitter at the given position if it is part of this network.
+     */
+    @Nullable
+    TRANSMITTER getTransmitterAt(BlockPos pos) {
+        TileEntityTransmitter tile = MekanismUtils.getTileEntity(TileEntityTransmitter.class, world, pos);
+        if (tile != null && tile.getTransmitter().getTransmitterNetwork() == this) {
+            return (TRANSMITTER) tile.getTransmitter();
+        }
+        return null;
+    }
+
     protected void removeInvalid(@Nullable TRANSMITTER triggerTransmitter) {
         //Remove invalid transmitters first for share calculations
         transmitters.removeIf(transmitter -> !transmitter.isValid());
@@ -134,6 +222,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     public void deregister() {
         transmitters.clear();
         transmittersToAdd.clear();
+        acceptorCache.clear();
         if (isRemote()) {
             TransmitterNetworkRegistry.getInstance().removeClientNetwork(this);
         } else {
@@ -155,7 +244,18 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     /**
-     * @apiNote Only called on the server
+     * Does the parts of this network's next update that only depend on the network itself, such as working out how to split its buffer between the acceptors it
+     * already resolved, so that {@link #onUpdate()} only has to interact with the acceptors.
+     *
+     * @apiNote Only called on the server, before {@link #onUpdate()}. When parallel network ticking is enabled this gets called off the main thread at the same time as
+     * other networks are being planned, so it must not access the world, any acceptors, or any other network.
+     */
+    public void planUpdate() {
+    }
+
+    /**
+     * @apiNote Only called on the server, on the main thread in the order the networks were registered in. Anything that was planned in {@link #planUpdate()} may be out
+     * of date by the time this gets called, as updating other networks may have changed this network's buffer or acceptors.
      */
     public void onUpdate() {
     }
@@ -0,0 +1,158 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import javax.annotation.Nullable;
+import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Finds the transmitters of a network that are no longer connected to the rest of it after one of its transmitters was removed or had its connections change.
+ * <p>
+ * Instead of walking the whole network, a search is started from each transmitter that was next to the change, and the searches take turns visiting one transmitter
+ * at a time. Searches that reach a transmitter another search already found are joined, and searching stops as soon as all the searches are joined, or all but one
+ * group of them ran out of transmitters to visit. This makes the cost proportional to the size of the parts that got split off rather than the size of the network.
+ */
+class NetworkSplitFinder<NETWORK extends DynamicNetwork<?, NETWORK, TRANSMITTER>, TRANSMITTER extends Transmitter<?, NETWORK, TRANSMITTER>> {
+
+    private static final int NOT_FOUND = -1;
+
+    private final NETWORK network;
+    private final List<TRANSMITTER> seeds;
+    @Nullable
+    private final TRANSMITTER excluded;
+    //Index of the search that found each transmitter, by packed position
+    private final Long2IntMap owners = new Long2IntOpenHashMap();
+    private final List<Deque<TRANSMITTER>> queues;
+    private final List<List<TRANSMITTER>> found;
+    private final int[] parents;
+    private int groups;
+
+    /**
+     * @param seeds    Distinct transmitters of the network that were next to the change.
+     * @param excluded Transmitter that is being removed from the network and should not be searched through.
+     */
+    NetworkSplitFinder(NETWORK network, List<TRANSMITTER> seeds, @Nullable TRANSMITTER excluded) {
+        this.network = network;
+        this.seeds = seeds;
+        this.excluded = excluded;
+        owners.defaultReturnValue(NOT_FOUND);
+        queues = new ObjectArrayList<>(seeds.size());
+        found = new ObjectArrayList<>(seeds.size());
+        parents = new int[seeds.size()];
+    }
+
+    /**
+     * @return The transmitters that are no longer connected to the largest remaining part of the network.
+     */
+    List<TRANSMITTER> find() {
+        for (int i = 0; i < parents.length; i++) {
+            TRANSMITTER seed = seeds.get(i);
+            parents[i] = i;
+            Deque<TRANSMITTER> queue = new ArrayDeque<>();
+            List<TRANSMITTER> seedFound = new ObjectArrayList<>();
+            queue.add(seed);
+            seedFound.add(seed);
+            queues.add(queue);
+            found.add(seedFound);
+            owners.put(seed.getTilePos().toLong(), i);
+        }
+        groups = parents.length;
+        int mainGroup;
+        while (true) {
+            if (groups == 1) {
+                //Everything is still connected
+                return new ObjectArrayList<>();
+            }
+            mainGroup = getOnlyActiveGroup();
+            if (mainGroup != NOT_FOUND) {
+                break;
+            }
+            for (int i = 0; i < parents.length; i++) {
+                TRANSMITTER transmitter = queues.get(i).pollFirst();
+                if (transmitter != null) {
+                    visitNeighbors(i, transmitter);
+                }
+            }
+        }
+        List<TRANSMITTER> splitOff = new ObjectArrayList<>();
+        for (int i = 0; i < parents.length; i++) {
+            if (findRoot(i) != mainGroup) {
+                splitOff.addAll(found.get(i));
+            }
+        }
+        return splitOff;
+    }
+
+    /**
+     * @return The group that still has transmitters left to visit if it is the only one, the largest group if none do, or {@link #NOT_FOUND} if multiple groups do.
+     */
+    private int getOnlyActiveGroup() {
+        int activeGroup = NOT_FOUND;
+        for (int i = 0; i < parents.length; i++) {
+            if (!queues.get(i).isEmpty()) {
+                int root = findRoot(i);
+                if (activeGroup == NOT_FOUND) {
+                    activeGroup = root;
+                } else if (activeGroup != root) {
+                    return NOT_FOUND;
+                }
+            }
+        }
+        if (activeGroup == NOT_FOUND) {
+            //All the groups are fully explored, keep the largest one in the network
+            int[] sizes = new int[parents.length];
+            int largest = 0;
+            for (int i = 0; i < parents.length; i++) {
+                int root = findRoot(i);
+                sizes[root] += found.get(i).size();
+                if (sizes[root] > sizes[largest]) {
+                    largest = root;
+                }
+            }
+            return largest;
+        }
+        return activeGroup;
+    }
+
+    private void visitNeighbors(int search, TRANSMITTER transmitter) {
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            BlockPos neighborPos = transmitter.getAdjacentConnectableTransmitterPos(side);
+            if (neighborPos != null) {
+                long packedPos = neighborPos.toLong();
+                int owner = owners.get(packedPos);
+                if (owner == NOT_FOUND) {
+                    TRANSMITTER neighbor = network.getTransmitterAt(neighborPos);
+                    if (neighbor != null && neighbor != excluded && neighbor.isValid()) {
+                        owners.put(packedPos, search);
+                        queues.get(search).addLast(neighbor);
+                        found.get(search).add(neighbor);
+                    }
+                } else {
+                    int root = findRoot(search);
+                    int ownerRoot = findRoot(owner);
+                    if (root != ownerRoot) {
+                        //Two searches met, they are part of the same group
+                        parents[root] = ownerRoot;
+                        groups--;
+                    }
+                }
+            }
+        }
+    }
+
+    private int findRoot(int index) {
+        while (parents[index] != index) {
+            //Compress the path as we go
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+        return index;
+    }
+}
@@ -1,9 +1,11 @@
 package mekanism.common.lib.transmitter;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -11,6 +13,7 @@ import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.BufferedTransmitter;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.util.EnumUtils;
@@ -27,7 +30,8 @@ public class TransmitterNetworkRegistry {
 
     private static final TransmitterNetworkRegistry INSTANCE = new TransmitterNetworkRegistry();
     private static boolean loaderRegistered = false;
-    private final Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>();
+    //Note: Linked so that networks get updated in a consistent order (the order they were registered in)
+    private final Set<DynamicNetwork<?, ?, ?>> networks = new ObjectLinkedOpenHashSet<>();
     private final Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
     private final Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
     private Map<Coord4D, Transmitter<?, ?, ?>> orphanTransmitters = new Object2ObjectOpenHashMap<>();
@@ -103,8 +107,18 @@ public class TransmitterNetworkRegistry {
             removeInvalidTransmitters();
             assignOrphans();
             commitChanges();
-            for (DynamicNetwork<?, ?, ?> net : networks) {
-                net.onUpdate();
+            if (MekanismConfig.general.parallelNetworkTicking.get() && networks.size() > 1) {
+                //Plan the networks on the fork join pool, as planning only touches each network's own state
+                new ObjectArrayList<>(networks).parallelStream().forEach(DynamicNetwork::planUpdate);
+                //And then update them on the main thread in a deterministic order, as this is where the networks interact with their acceptors
+                for (DynamicNetwork<?, ?, ?> net : networks) {
+                    net.onUpdate();
+                }
+            } else {
+                for (DynamicNetwork<?, ?, ?> net : networks) {
+                    net.planUpdate();
+                    net.onUpdate();
+                }
             }
         }
     }
@@ -124,7 +138,7 @@ public class TransmitterNetworkRegistry {
         if (!invalid.isOrphan() || !invalid.isValid()) {
             NETWORK n = invalid.getTransmitterNetwork();
             if (n != null) {
-                n.invalidate((TRANSMITTER) invalid);
+                n.split((TRANSMITTER) invalid);
             }
         }
     }
@@ -175,13 +189,16 @@ public class TransmitterNetworkRegistry {
                 if (MekanismAPI.debug) {
                     Mekanism.logger.info("Merging {} networks with {} new transmitters", finder.networksFound.size(), finder.connectedTransmitters.size());
                 }
-                network = finder.createNetworkByMerging();
+                network = finder.mergeNetworks();
         }
         network.addNewTransmitters(finder.connectedTransmitters);
         return network;
     }
 
     private void commitChanges() {
+        if (networksToChange.isEmpty()) {
+            return;
+        }
         Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>(networksToChange);
         networksToChange.clear();
         for (DynamicNetwork<?, ?, ?> network : networks) {
@@ -209,7 +226,7 @@ public class TransmitterNetworkRegistry {
         public final Set<TRANSMITTER> connectedTransmitters = new ObjectOpenHashSet<>();
         public final Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
         public final Set<BlockPos> iterated = new ObjectOpenHashSet<>();
-        private final Deque<BlockPos> queue = new LinkedList<>();
+        private final Deque<BlockPos> queue = new ArrayDeque<>();
         public final TRANSMITTER startPoint;
         private final World world;
 
@@ -267,9 +284,23 @@ public class TransmitterNetworkRegistry {
             return startPoint.createEmptyNetwork();
         }
 
-        public NETWORK createNetworkByMerging() {
-            //TODO: Should we take one of the existing network's uuids?
-            return startPoint.createNetworkByMerging(networksFound);
+        /**
+         * Merges the found networks into the largest of them, so that only the transmitters of the smaller networks have to be moved.
+         */
+        public NETWORK mergeNetworks() {
+            NETWORK largest = null;
+            for (NETWORK net : networksFound) {
+                if (largest == null || net.transmittersSize() > largest.transmittersSize()) {
+                    largest = net;
+                }
+            }
+            for (NETWORK net : networksFound) {
+                if (net != largest) {
+                    largest.adoptTransmittersAndAcceptorsFrom(net);
+                    net.deregister();
+                }
+            }
+            return largest;
         }
     }
 
@@ -1,46 +1,88 @@
 package mekanism.common.lib.transmitter.acceptor;
 
+import it.unimi.dsi.fastutil.bytes.ByteArrays;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrays;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.EnumMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrays;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.common.util.NonNullConsumer;
 
+/**
+ * Keeps track of the acceptors a network is connected to. Acceptors are stored densely by their packed position, with a mask of the sides the network is connected to
+ * them on.
+ *
+ * @implNote The handlers of the acceptors are resolved into flat arrays grouped by acceptor, which are only rebuilt when an acceptor changes or one of the cached
+ * capabilities gets invalidated, so that emitting to the acceptors doesn't have to go through each {@link LazyOptional} every tick.
+ */
 public class NetworkAcceptorCache<ACCEPTOR> {
 
-    private final Map<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
+    private static final int NO_INDEX = -1;
+    private static final int SIDES = EnumUtils.DIRECTIONS.length;
+
+    private final Long2IntMap acceptorIndices = new Long2IntOpenHashMap();
+    private long[] positions = LongArrays.EMPTY_ARRAY;
+    private byte[] sideMasks = ByteArrays.EMPTY_ARRAY;
+    //The capability of each side of an acceptor is stored at index * SIDES + side
+    private LazyOptional<?>[] acceptors = new LazyOptional<?>[0];
+    //The listener we added to the capability in the same index of acceptors
+    private InvalidationListener<?>[] listeners = new InvalidationListener<?>[0];
+    private int acceptorCount;
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
 
+    private Object[] resolvedHandlers = ObjectArrays.EMPTY_ARRAY;
+    private Direction[] resolvedSides = new Direction[0];
+    //Index of the first resolved handler of each acceptor that has any handlers, followed by the total number of resolved handlers
+    private int[] resolvedStarts = new int[1];
+    private long[] resolvedPositions = LongArrays.EMPTY_ARRAY;
+    private int resolvedCount;
+    private int resolvedHandlerCount;
+    private boolean resolved = true;
+
+    public NetworkAcceptorCache() {
+        acceptorIndices.defaultReturnValue(NO_INDEX);
+    }
+
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         LazyOptional<ACCEPTOR> acceptor = transmitter.canConnectToAcceptor(side) ? transmitter.getAcceptor(side) : LazyOptional.empty();
-        BlockPos acceptorPos = transmitter.getTilePos().offset(side);
+        long acceptorPos = BlockPos.offset(transmitter.getTilePos().toLong(), side);
+        int index = acceptorIndices.get(acceptorPos);
         if (acceptor.isPresent()) {
-            cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
-        } else if (cachedAcceptors.containsKey(acceptorPos)) {
-            Map<Direction, LazyOptional<ACCEPTOR>> cached = cachedAcceptors.get(acceptorPos);
-            cached.remove(side.getOpposite());
-            if (cached.isEmpty()) {
-                cachedAcceptors.remove(acceptorPos);
+            if (index == NO_INDEX) {
+                index = addAcceptor(acceptorPos);
             }
-        } else {
-            cachedAcceptors.remove(acceptorPos);
+            setAcceptor(index, side.getOpposite(), acceptor);
+        } else if (index != NO_INDEX) {
+            removeAcceptor(index, side.getOpposite());
         }
     }
 
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
-        for (Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> entry : other.cachedAcceptors.entrySet()) {
-            BlockPos pos = entry.getKey();
-            if (cachedAcceptors.containsKey(pos)) {
-                Map<Direction, LazyOptional<ACCEPTOR>> cached = cachedAcceptors.get(pos);
-                entry.getValue().forEach(cached::put);
-            } else {
-                cachedAcceptors.put(pos, entry.getValue());
+        for (int otherIndex = 0; otherIndex < other.acceptorCount; otherIndex++) {
+            long pos = other.positions[otherIndex];
+            int index = acceptorIndices.get(pos);
+            if (index == NO_INDEX) {
+                index = addAcceptor(pos);
+            }
+            byte sideMask = other.sideMasks[otherIndex];
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (hasSide(sideMask, side)) {
+                    setAcceptor(index, side, other.getAcceptor(otherIndex, side));
+                }
             }
         }
     }
@@ -66,22 +108,248 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     }
 
     /**
-     * @apiNote Listeners should not be added to these LazyOptionals here as they may not correspond to an actual handler and may not get invalidated.
+     * Removes the acceptors of a transmitter that is no longer part of the network.
+     */
+    public void removeTransmitter(Transmitter<ACCEPTOR, ?, ?> transmitter) {
+        changedAcceptors.remove(transmitter);
+        long pos = transmitter.getTilePos().toLong();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            int index = acceptorIndices.get(BlockPos.offset(pos, side));
+            if (index != NO_INDEX) {
+                removeAcceptor(index, side.getOpposite());
+            }
+        }
+    }
+
+    /**
+     * Removes all the acceptors and stops listening to the invalidation of their capabilities, so that the capabilities don't keep this cache alive after the network
+     * it belongs to is gone.
+     */
+    public void clear() {
+        for (int slot = 0, slots = acceptorCount * SIDES; slot < slots; slot++) {
+            detachListener(slot);
+        }
+        Arrays.fill(acceptors, 0, acceptorCount * SIDES, null);
+        acceptorIndices.clear();
+        acceptorCount = 0;
+        changedAcceptors.clear();
+        Arrays.fill(resolvedHandlers, 0, resolvedHandlerCount, null);
+        resolvedStarts[0] = 0;
+        resolvedCount = 0;
+        resolvedHandlerCount = 0;
+        resolved = true;
+    }
+
+    /**
+     * @return The transmitters that have had acceptors change since the last time this cache was committed, and the sides of them the acceptors changed on.
+     */
+    public Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> getChangedAcceptors() {
+        return changedAcceptors;
+    }
+
+    /**
+     * Gets the number of acceptors that have at least one handler present, resolving the handlers first if any acceptors changed since they were last resolved. This
+     * should be called before using any of the other resolved getters.
+     */
+    public int getResolvedAcceptorCount() {
+        if (!resolved) {
+            resolve();
+        }
+        return resolvedCount;
+    }
+
+    /**
+     * @return {@code true} if the handlers don't need to be resolved again before they can be used. Unlike {@link #getResolvedAcceptorCount()} this never resolves
+     * the handlers, so it is safe to call while planning a network's update.
+     */
+    public boolean isResolved() {
+        return resolved;
+    }
+
+    /**
+     * @return The total number of handlers of all the resolved acceptors.
+     */
+    public int getResolvedHandlerCount() {
+        return resolvedHandlerCount;
+    }
+
+    /**
+     * @return The packed position of the given resolved acceptor.
+     */
+    public long getResolvedPosition(int acceptor) {
+        return resolvedPositions[acceptor];
+    }
+
+    /**
+     * @return The index of the first handler of the given resolved acceptor.
+     */
+    public int getHandlerStart(int acceptor) {
+        return resolvedStarts[acceptor];
+    }
+
+    /**
+     * @return The index after the last handler of the given resolved acceptor.
+     */
+    public int getHandlerEnd(int acceptor) {
+        return resolvedStarts[acceptor + 1];
+    }
+
+    @SuppressWarnings("unchecked")
+    public ACCEPTOR getHandler(int handler) {
+        return (ACCEPTOR) resolvedHandlers[handler];
+    }
+
+    /**
+     * @return The side of the acceptor the given handler is for.
      */
-    public Set<Map.Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>>> getAcceptorEntrySet() {
-        return cachedAcceptors.entrySet();
+    public Direction getHandlerSide(int handler) {
+        return resolvedSides[handler];
     }
 
     public int getAcceptorCount() {
-        return cachedAcceptors.size();
+        return acceptorCount;
     }
 
     public boolean hasAcceptor(BlockPos acceptorPos) {
-        return cachedAcceptors.containsKey(acceptorPos);
+        return acceptorIndices.containsKey(acceptorPos.toLong());
     }
 
     public Set<Direction> getAcceptorDirections(BlockPos pos) {
-        //TODO: Do this better?
-        return cachedAcceptors.get(pos).keySet();
+        Set<Direction> directions = EnumSet.noneOf(Direction.class);
+        int index = acceptorIndices.get(pos.toLong());
+        if (index != NO_INDEX) {
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (hasSide(sideMasks[index], side)) {
+                    directions.add(side);
+                }
+            }
+        }
+        return directions;
+    }
+
+    private int addAcceptor(long pos) {
+        if (acceptorCount == positions.length) {
+            positions = LongArrays.grow(positions, acceptorCount + 1);
+            sideMasks = ByteArrays.grow(sideMasks, positions.length);
+            acceptors = ObjectArrays.grow(acceptors, positions.length * SIDES);
+            listeners = ObjectArrays.grow(listeners, acceptors.length);
+        }
+        int index = acceptorCount++;
+        positions[index] = pos;
+        sideMasks[index] = 0;
+        acceptorIndices.put(pos, index);
+        return index;
+    }
+
+    private void setAcceptor(int index, Direction side, LazyOptional<ACCEPTOR> acceptor) {
+        int slot = index * SIDES + side.ordinal();
+        if (acceptors[slot] != acceptor) {
+            detachListener(slot);
+            acceptors[slot] = acceptor;
+            //Note: Capabilities have no way to remove a listener, so each slot gets its own listener that we can detach from this cache when the slot changes
+            InvalidationListener<ACCEPTOR> listener = new InvalidationListener<>(this);
+            listeners[slot] = listener;
+            acceptor.addListener(listener);
+            resolved = false;
+        }
+        sideMasks[index] |= 1 << side.ordinal();
+    }
+
+    private void removeAcceptor(int index, Direction side) {
+        int slot = index * SIDES + side.ordinal();
+        if (acceptors[slot] != null) {
+            detachListener(slot);
+            acceptors[slot] = null;
+            resolved = false;
+        }
+        sideMasks[index] &= ~(1 << side.ordinal());
+        if (sideMasks[index] == 0) {
+            //No sides are connected anymore, move the last acceptor into this one's place so that the acceptors stay dense
+            int last = --acceptorCount;
+            acceptorIndices.remove(positions[index]);
+            if (index != last) {
+                positions[index] = positions[last];
+                sideMasks[index] = sideMasks[last];
+                System.arraycopy(acceptors, last * SIDES, acceptors, index * SIDES, SIDES);
+                System.arraycopy(listeners, last * SIDES, listeners, index * SIDES, SIDES);
+                acceptorIndices.put(positions[index], index);
+            }
+            Arrays.fill(acceptors, last * SIDES, (last + 1) * SIDES, null);
+            Arrays.fill(listeners, last * SIDES, (last + 1) * SIDES, null);
+        }
+    }
+
+    private void detachListener(int slot) {
+        InvalidationListener<?> listener = listeners[slot];
+        if (listener != null) {
+            listener.cache = null;
+            listeners[slot] = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private LazyOptional<ACCEPTOR> getAcceptor(int index, Direction side) {
+        return (LazyOptional<ACCEPTOR>) acceptors[index * SIDES + side.ordinal()];
+    }
+
+    private void resolve() {
+        if (resolvedHandlers.length < acceptors.length) {
+            resolvedHandlers = ObjectArrays.grow(resolvedHandlers, acceptors.length);
+            resolvedSides = ObjectArrays.grow(resolvedSides, acceptors.length);
+            resolvedStarts = IntArrays.grow(resolvedStarts, positions.length + 1);
+            resolvedPositions = LongArrays.grow(resolvedPositions, positions.length);
+        }
+        int previousHandlerCount = resolvedHandlerCount;
+        resolvedCount = 0;
+        resolvedHandlerCount = 0;
+        for (int index = 0; index < acceptorCount; index++) {
+            int start = resolvedHandlerCount;
+            byte sideMask = sideMasks[index];
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (hasSide(sideMask, side)) {
+                    ACCEPTOR handler = getAcceptor(index, side).orElse(null);
+                    if (handler != null) {
+                        resolvedHandlers[resolvedHandlerCount] = handler;
+                        resolvedSides[resolvedHandlerCount] = side;
+                        resolvedHandlerCount++;
+                    }
+                }
+            }
+            if (resolvedHandlerCount > start) {
+                resolvedStarts[resolvedCount] = start;
+                resolvedPositions[resolvedCount] = positions[index];
+                resolvedCount++;
+            }
+        }
+        resolvedStarts[resolvedCount] = resolvedHandlerCount;
+        if (previousHandlerCount > resolvedHandlerCount) {
+            //Release handlers that are no longer connected so that we don't keep references to them
+            Arrays.fill(resolvedHandlers, resolvedHandlerCount, previousHandlerCount, null);
+        }
+        resolved = true;
+    }
+
+    private static boolean hasSide(byte sideMask, Direction side) {
+        return (sideMask & (1 << side.ordinal())) != 0;
+    }
+
+    /**
+     * Marks the handlers as needing to be resolved again when the capability it was added to gets invalidated, until it is detached from the cache.
+     */
+    private static class InvalidationListener<ACCEPTOR> implements NonNullConsumer<LazyOptional<ACCEPTOR>> {
+
+        @Nullable
+        private NetworkAcceptorCache<ACCEPTOR> cache;
+
+        private InvalidationListener(NetworkAcceptorCache<ACCEPTOR> cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public void accept(@Nonnull LazyOptional<ACCEPTOR> ignored) {
+            if (cache != null) {
+                cache.resolved = false;
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,8 @@ import java.util.function.Supplier;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
+import mekanism.common.inventory.container.QIOItemViewerContainer.ListSortType;
+import mekanism.common.inventory.container.QIOItemViewerContainer.SortDirection;
 import mekanism.common.inventory.container.item.FrequencyItemContainer;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.Frequency.FrequencyIdentity;
@@ -20,18 +22,30 @@ public class PacketGuiItemDataRequest {
 
     private final Type type;
     private final Hand hand;
+    private final ListSortType sortType;
+    private final SortDirection sortDirection;
 
     public PacketGuiItemDataRequest(Type type, Hand hand) {
+        this(type, hand, null, null);
+    }
+
+    private PacketGuiItemDataRequest(Type type, Hand hand, ListSortType sortType, SortDirection sortDirection) {
         this.type = type;
         this.hand = hand;
+        this.sortType = sortType;
+        this.sortDirection = sortDirection;
     }
 
     public static PacketGuiItemDataRequest frequencyList(Hand hand) {
         return new PacketGuiItemDataRequest(Type.FREQUENCY_LIST_GUI, hand);
     }
 
-    public static PacketGuiItemDataRequest qioItemViewer() {
-        return new PacketGuiItemDataRequest(Type.QIO_ITEM_VIEWER, null);
+    /**
+     * @param sortType      Sort type of the viewer, the server sends the items in this order.
+     * @param sortDirection Sort direction of the viewer.
+     */
+    public static PacketGuiItemDataRequest qioItemViewer(ListSortType sortType, SortDirection sortDirection) {
+        return new PacketGuiItemDataRequest(Type.QIO_ITEM_VIEWER, null, sortType, sortDirection);
     }
 
     public static void handle(PacketGuiItemDataRequest message, Supplier<Context> context) {
@@ -49,7 +63,7 @@ public class PacketGuiItemDataRequest {
                     QIOItemViewerContainer container = (QIOItemViewerContainer) player.openContainer;
                     QIOFrequency freq = container.getFrequency();
                     if (!player.world.isRemote() && freq != null) {
-                        freq.openItemViewer((ServerPlayerEntity) player);
+                        freq.openItemViewer((ServerPlayerEntity) player, message.sortType, message.sortDirection);
                     }
                 }
             }
@@ -77,16 +91,24 @@ public class PacketGuiItemDataRequest {
         buf.writeEnumValue(pkt.type);
         if (pkt.type == Type.FREQUENCY_LIST_GUI) {
             buf.writeEnumValue(pkt.hand);
+        } else if (pkt.type == Type.QIO_ITEM_VIEWER) {
+            buf.writeEnumValue(pkt.sortType);
+            buf.writeEnumValue(pkt.sortDirection);
         }
     }
 
     public static PacketGuiItemDataRequest decode(PacketBuffer buf) {
         Type type = buf.readEnumValue(Type.class);
         Hand hand = null;
+        ListSortType sortType = null;
+        SortDirection sortDirection = null;
         if (type == Type.FREQUENCY_LIST_GUI) {
             hand = buf.readEnumValue(Hand.class);
+        } else if (type == Type.QIO_ITEM_VIEWER) {
+            sortType = buf.readEnumValue(ListSortType.class);
+            sortDirection = buf.readEnumValue(SortDirection.class);
         }
-        return new PacketGuiItemDataRequest(type, hand);
+        return new PacketGuiItemDataRequest(type, hand, sortType, sortDirection);
     }
 
     private enum Type {
@@ -1,7 +1,6 @@
 package mekanism.common.network;
 
 import mekanism.common.Mekanism;
-import mekanism.common.network.container.PacketUpdateContainer;
 import mekanism.common.network.container.PacketUpdateContainerBatch;
 import net.minecraftforge.fml.network.simple.SimpleChannel;
 
@@ -45,10 +44,11 @@ public class PacketHandler extends BasePacketHandler {
         //Server to client messages
         registerServerToClient(PacketTransmitterUpdate.class, PacketTransmitterUpdate::encode, PacketTransmitterUpdate::decode, PacketTransmitterUpdate::handle);
         registerServerToClient(PacketTransporterUpdate.class, PacketTransporterUpdate::encode, PacketTransporterUpdate::decode, PacketTransporterUpdate::handle);
+        registerServerToClient(PacketTransporterUpdateBatch.class, PacketTransporterUpdateBatch::encode, PacketTransporterUpdateBatch::decode, PacketTransporterUpdateBatch::handle);
         registerServerToClient(PacketPortalFX.class, PacketPortalFX::encode, PacketPortalFX::decode, PacketPortalFX::handle);
         registerServerToClient(PacketLaserHitBlock.class, PacketLaserHitBlock::encode, PacketLaserHitBlock::decode, PacketLaserHitBlock::handle);
         registerServerToClient(PacketLightningRender.class, PacketLightningRender::encode, PacketLightningRender::decode, PacketLightningRender::handle);
-        registerServerToClient(PacketUpdateTile.class, PacketUpdateTile::encode, PacketUpdateTile::decode, PacketUpdateTile::handle);
+        registerServerToClient(PacketUpdateTileBatch.class, PacketUpdateTileBatch::encode, PacketUpdateTileBatch::decode, PacketUpdateTileBatch::handle);
         registerServerToClient(PacketPlayerData.class, PacketPlayerData::encode, PacketPlayerData::decode, PacketPlayerData::handle);
         registerServerToClient(PacketMekanismTags.class, PacketMekanismTags::encode, PacketMekanismTags::decode, PacketMekanismTags::handle);
         registerServerToClient(PacketClearRecipeCache.class, PacketClearRecipeCache::encode, PacketClearRecipeCache::decode, PacketClearRecipeCache::handle);
@@ -61,8 +61,6 @@ public class PacketHandler extends BasePacketHandler {
         registerServerToClient(PacketFlyingSync.class, PacketFlyingSync::encode, PacketFlyingSync::decode, PacketFlyingSync::handle);
         registerServerToClient(PacketStepHeightSync.class, PacketStepHeightSync::encode, PacketStepHeightSync::decode, PacketStepHeightSync::handle);
 
-        //Register container sync packet
-        registerServerToClient(PacketUpdateContainer.class, PacketUpdateContainer::encode, PacketUpdateContainer::decode, PacketUpdateContainer::handle);
         //Container sync packet that batches multiple changes into one packet
         registerServerToClient(PacketUpdateContainerBatch.class, PacketUpdateContainerBatch::encode, PacketUpdateContainerBatch::decode, PacketUpdateContainerBatch::handle);
     }
@@ -1,7 +1,9 @@
 package mekanism.common.network;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.function.Supplier;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.inventory.HashedItem;
@@ -12,27 +14,34 @@ import net.minecraftforge.fml.network.NetworkEvent.Context;
 public class PacketQIOItemViewerGuiSync {
 
     private final Type type;
-    private final Object2LongMap<HashedItem> itemMap;
+    //Item types the client doesn't know about yet, by the id they are referenced by
+    private final Int2ObjectMap<HashedItem> newTypes;
+    //New counts of item types by their id, a count of zero means the item type is gone and the id is no longer used
+    private final Int2LongMap counts;
     private final long countCapacity;
     private final int typeCapacity;
 
-    private PacketQIOItemViewerGuiSync(Type type, Object2LongMap<HashedItem> itemMap, long countCapacity, int typeCapacity) {
+    private PacketQIOItemViewerGuiSync(Type type, Int2ObjectMap<HashedItem> newTypes, Int2LongMap counts, long countCapacity, int typeCapacity) {
         this.type = type;
-        this.itemMap = itemMap;
+        this.newTypes = newTypes;
+        this.counts = counts;
         this.countCapacity = countCapacity;
         this.typeCapacity = typeCapacity;
     }
 
-    public static PacketQIOItemViewerGuiSync batch(Object2LongMap<HashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.BATCH, itemMap, countCapacity, typeCapacity);
+    /**
+     * Starts syncing the items of a frequency, the item types themselves are sent by the following updates.
+     */
+    public static PacketQIOItemViewerGuiSync start(long countCapacity, int typeCapacity) {
+        return new PacketQIOItemViewerGuiSync(Type.START, null, null, countCapacity, typeCapacity);
     }
 
-    public static PacketQIOItemViewerGuiSync update(Object2LongMap<HashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, itemMap, countCapacity, typeCapacity);
+    public static PacketQIOItemViewerGuiSync update(Int2ObjectMap<HashedItem> newTypes, Int2LongMap counts, long countCapacity, int typeCapacity) {
+        return new PacketQIOItemViewerGuiSync(Type.UPDATE, newTypes, counts, countCapacity, typeCapacity);
     }
 
     public static PacketQIOItemViewerGuiSync kill() {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, null, 0, 0);
+        return new PacketQIOItemViewerGuiSync(Type.KILL, null, null, 0, 0);
     }
 
     public static void handle(PacketQIOItemViewerGuiSync message, Supplier<Context> context) {
@@ -44,11 +53,11 @@ public class PacketQIOItemViewerGuiSync {
             if (player.openContainer instanceof QIOItemViewerContainer) {
                 QIOItemViewerContainer container = (QIOItemViewerContainer) player.openContainer;
                 switch (message.type) {
-                    case BATCH:
-                        container.handleBatchUpdate(message.itemMap, message.countCapacity, message.typeCapacity);
+                    case START:
+                        container.handleStart(message.countCapacity, message.typeCapacity);
                         break;
                     case UPDATE:
-                        container.handleUpdate(message.itemMap, message.countCapacity, message.typeCapacity);
+                        container.handleUpdate(message.newTypes, message.counts, message.countCapacity, message.typeCapacity);
                         break;
                     case KILL:
                         container.handleKill();
@@ -61,14 +70,25 @@ public class PacketQIOItemViewerGuiSync {
 
     public static void encode(PacketQIOItemViewerGuiSync pkt, PacketBuffer buf) {
         buf.writeEnumValue(pkt.type);
-        if (pkt.type == Type.BATCH || pkt.type == Type.UPDATE) {
+        if (pkt.type == Type.START || pkt.type == Type.UPDATE) {
             buf.writeVarLong(pkt.countCapacity);
             buf.writeVarInt(pkt.typeCapacity);
-            buf.writeVarInt(pkt.itemMap.size());
-            pkt.itemMap.forEach((key, value) -> {
-                buf.writeItemStack(key.getStack());
-                buf.writeVarLong(value);
-            });
+        }
+        if (pkt.type == Type.UPDATE) {
+            //New item types are written along with their count, so only write the other counts separately
+            buf.writeVarInt(pkt.newTypes.size());
+            for (Int2ObjectMap.Entry<HashedItem> entry : pkt.newTypes.int2ObjectEntrySet()) {
+                buf.writeVarInt(entry.getIntKey());
+                buf.writeItemStack(entry.getValue().getStack());
+                buf.writeVarLong(pkt.counts.get(entry.getIntKey()));
+            }
+            buf.writeVarInt(pkt.counts.size() - pkt.newTypes.size());
+            for (Int2LongMap.Entry entry : pkt.counts.int2LongEntrySet()) {
+                if (!pkt.newTypes.containsKey(entry.getIntKey())) {
+                    buf.writeVarInt(entry.getIntKey());
+                    buf.writeVarLong(entry.getLongValue());
+                }
+            }
         }
     }
 
@@ -76,21 +96,31 @@ public class PacketQIOItemViewerGuiSync {
         Type type = buf.readEnumValue(Type.class);
         long countCapacity = 0;
         int typeCapacity = 0;
-        Object2LongMap<HashedItem> map = null;
-        if (type == Type.BATCH || type == Type.UPDATE) {
+        Int2ObjectMap<HashedItem> newTypes = null;
+        Int2LongMap counts = null;
+        if (type == Type.START || type == Type.UPDATE) {
             countCapacity = buf.readVarLong();
             typeCapacity = buf.readVarInt();
-            map = new Object2LongOpenHashMap<>();
-            int count = buf.readVarInt();
-            for (int i = 0; i < count; i++) {
-                map.put(new HashedItem(buf.readItemStack()), buf.readVarLong());
+        }
+        if (type == Type.UPDATE) {
+            int newTypeCount = buf.readVarInt();
+            newTypes = new Int2ObjectOpenHashMap<>(newTypeCount);
+            counts = new Int2LongOpenHashMap(newTypeCount);
+            for (int i = 0; i < newTypeCount; i++) {
+                int id = buf.readVarInt();
+                newTypes.put(id, new HashedItem(buf.readItemStack()));
+                counts.put(id, buf.readVarLong());
+            }
+            int countUpdates = buf.readVarInt();
+            for (int i = 0; i < countUpdates; i++) {
+                counts.put(buf.readVarInt(), buf.readVarLong());
             }
         }
-        return new PacketQIOItemViewerGuiSync(type, map, countCapacity, typeCapacity);
+        return new PacketQIOItemViewerGuiSync(type, newTypes, counts, countCapacity, typeCapacity);
     }
 
     public enum Type {
-        BATCH,
+        START,
         UPDATE,
         KILL;
     }
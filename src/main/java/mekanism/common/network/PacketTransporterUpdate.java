@@ -67,27 +67,32 @@ public class PacketTransporterUpdate {
         if (player == null) {
             return;
         }
-        context.get().enqueueWork(() -> {
-            TileEntityLogisticalTransporterBase tile = MekanismUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, player.world, message.pos);
-            if (tile != null) {
-                LogisticalTransporterBase transporter = tile.getTransmitter();
-                if (message.isSync) {
-                    transporter.addStack(message.stackId, message.stack);
-                } else {
-                    for (Int2ObjectMap.Entry<TransporterStack> entry : message.updates.int2ObjectEntrySet()) {
-                        transporter.addStack(entry.getIntKey(), entry.getValue());
-                    }
-                    for (int toDelete : message.deletes) {
-                        transporter.deleteStack(toDelete);
-                    }
+        context.get().enqueueWork(() -> message.apply(player));
+        context.get().setPacketHandled(true);
+    }
+
+    /**
+     * Applies this update to the transporter on the client.
+     */
+    void apply(PlayerEntity player) {
+        TileEntityLogisticalTransporterBase tile = MekanismUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, player.world, pos);
+        if (tile != null) {
+            LogisticalTransporterBase transporter = tile.getTransmitter();
+            if (isSync) {
+                transporter.addStack(stackId, stack);
+            } else {
+                for (Int2ObjectMap.Entry<TransporterStack> entry : updates.int2ObjectEntrySet()) {
+                    transporter.addStack(entry.getIntKey(), entry.getValue());
                 }
-                if (message.isDiversion && transporter instanceof DiversionTransporter) {
-                    //Copy the values of modes, without replacing the actual array
-                    System.arraycopy(message.modes, 0, ((DiversionTransporter) transporter).modes, 0, message.modes.length);
+                for (int toDelete : deletes) {
+                    transporter.deleteStack(toDelete);
                 }
             }
-        });
-        context.get().setPacketHandled(true);
+            if (isDiversion && transporter instanceof DiversionTransporter) {
+                //Copy the values of modes, without replacing the actual array
+                System.arraycopy(modes, 0, ((DiversionTransporter) transporter).modes, 0, modes.length);
+            }
+        }
     }
 
     public static void encode(PacketTransporterUpdate pkt, PacketBuffer buf) {
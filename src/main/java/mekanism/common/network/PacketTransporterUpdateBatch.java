@@ -0,0 +1,49 @@
+package mekanism.common.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * Contains the stack changes of all the transporters of a network in a single chunk that changed in a tick.
+ */
+public class PacketTransporterUpdateBatch {
+
+    private final List<PacketTransporterUpdate> updates;
+
+    public PacketTransporterUpdateBatch(List<PacketTransporterUpdate> updates) {
+        this.updates = updates;
+    }
+
+    public static void handle(PacketTransporterUpdateBatch message, Supplier<Context> context) {
+        PlayerEntity player = BasePacketHandler.getPlayer(context);
+        if (player == null) {
+            return;
+        }
+        context.get().enqueueWork(() -> {
+            for (PacketTransporterUpdate update : message.updates) {
+                update.apply(player);
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+
+    public static void encode(PacketTransporterUpdateBatch pkt, PacketBuffer buf) {
+        buf.writeVarInt(pkt.updates.size());
+        for (PacketTransporterUpdate update : pkt.updates) {
+            PacketTransporterUpdate.encode(update, buf);
+        }
+    }
+
+    public static PacketTransporterUpdateBatch decode(PacketBuffer buf) {
+        int size = buf.readVarInt();
+        List<PacketTransporterUpdate> updates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            updates.add(PacketTransporterUpdate.decode(buf));
+        }
+        return new PacketTransporterUpdateBatch(updates);
+    }
+}
@@ -0,0 +1,97 @@
+package mekanism.common.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import mekanism.common.Mekanism;
+import mekanism.common.network.tile.TileUpdatePayload;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * Contains the updates of all the tiles in a single chunk that changed in a tick. Each tile's update is a {@link TileUpdatePayload}, which is either the fields that
+ * changed (for tiles that declare sync fields), or its reduced update tag.
+ */
+public class PacketUpdateTileBatch {
+
+    private final int chunkX;
+    private final int chunkZ;
+    private final List<Entry> entries;
+
+    public PacketUpdateTileBatch(int chunkX, int chunkZ) {
+        this(chunkX, chunkZ, new ArrayList<>());
+    }
+
+    private PacketUpdateTileBatch(int chunkX, int chunkZ, List<Entry> entries) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.entries = entries;
+    }
+
+    /**
+     * @param pos     Position of the tile, must be in this packet's chunk.
+     * @param payload Encoded update.
+     */
+    public void add(BlockPos pos, TileUpdatePayload payload) {
+        entries.add(new Entry(pos, payload));
+    }
+
+    public static void handle(PacketUpdateTileBatch message, Supplier<Context> context) {
+        PlayerEntity player = BasePacketHandler.getPlayer(context);
+        if (player == null) {
+            return;
+        }
+        context.get().enqueueWork(() -> {
+            for (Entry entry : message.entries) {
+                TileEntityUpdateable tile = MekanismUtils.getTileEntity(TileEntityUpdateable.class, player.world, entry.pos, true);
+                if (tile == null) {
+                    Mekanism.logger.info("Update tile packet received for position: {} in world: {}, but no valid tile was found.", entry.pos,
+                          player.world.func_234923_W_().func_240901_a_());
+                } else {
+                    entry.payload.apply(tile);
+                }
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+
+    public static void encode(PacketUpdateTileBatch pkt, PacketBuffer buf) {
+        buf.writeVarInt(pkt.chunkX);
+        buf.writeVarInt(pkt.chunkZ);
+        buf.writeVarInt(pkt.entries.size());
+        for (Entry entry : pkt.entries) {
+            //Positions are written relative to the chunk
+            buf.writeByte((entry.pos.getX() & 15) << 4 | entry.pos.getZ() & 15);
+            buf.writeVarInt(entry.pos.getY());
+            entry.payload.write(buf);
+        }
+    }
+
+    public static PacketUpdateTileBatch decode(PacketBuffer buf) {
+        int chunkX = buf.readVarInt();
+        int chunkZ = buf.readVarInt();
+        int size = buf.readVarInt();
+        List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int horizontal = buf.readUnsignedByte();
+            BlockPos pos = new BlockPos(chunkX << 4 | horizontal >> 4, buf.readVarInt(), chunkZ << 4 | horizontal & 15);
+            entries.add(new Entry(pos, TileUpdatePayload.read(buf)));
+        }
+        return new PacketUpdateTileBatch(chunkX, chunkZ, entries);
+    }
+
+    private static class Entry {
+
+        private final BlockPos pos;
+        private final TileUpdatePayload payload;
+
+        private Entry(BlockPos pos, TileUpdatePayload payload) {
+            this.pos = pos;
+            this.payload = payload;
+        }
+    }
+}
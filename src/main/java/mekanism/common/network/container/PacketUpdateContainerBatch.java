@@ -1,8 +1,10 @@
 package mekanism.common.network.container;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.network.BasePacketHandler;
 import mekanism.common.network.container.property.PropertyData;
@@ -14,10 +16,23 @@ public class PacketUpdateContainerBatch {
 
     //Note: windowId gets transferred over the network as an unsigned byte
     private final short windowId;
+    //Properties as encoded by the container, only set on the sending side
+    @Nullable
+    private final byte[] payload;
     private final List<PropertyData> data;
 
-    public PacketUpdateContainerBatch(short windowId, List<PropertyData> data) {
+    /**
+     * @param payload Number of properties followed by the properties as written by {@link mekanism.common.inventory.container.sync.ISyncableData#writeToPacket}.
+     */
+    public PacketUpdateContainerBatch(short windowId, byte[] payload) {
         this.windowId = windowId;
+        this.payload = payload;
+        this.data = Collections.emptyList();
+    }
+
+    private PacketUpdateContainerBatch(short windowId, List<PropertyData> data) {
+        this.windowId = windowId;
+        this.payload = null;
         this.data = data;
     }
 
@@ -36,9 +51,13 @@ public class PacketUpdateContainerBatch {
 
     public static void encode(PacketUpdateContainerBatch pkt, PacketBuffer buffer) {
         buffer.writeByte(pkt.windowId);
-        buffer.writeVarInt(pkt.data.size());
-        for (PropertyData data : pkt.data) {
-            data.writeToPacket(buffer);
+        if (pkt.payload == null) {
+            buffer.writeVarInt(pkt.data.size());
+            for (PropertyData data : pkt.data) {
+                data.writeToPacket(buffer);
+            }
+        } else {
+            buffer.writeBytes(pkt.payload);
         }
     }
 
@@ -1,11 +1,14 @@
 package mekanism.common.network.container.property;
 
 import mekanism.common.inventory.container.MekanismContainer;
-import mekanism.common.network.container.PacketUpdateContainer;
 import net.minecraft.network.PacketBuffer;
 
 public abstract class PropertyData {
 
+    //Number of bits of a property's header that hold the type, the remaining bits hold the index of the property
+    private static final int TYPE_BITS = 5;
+    private static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+
     private final PropertyType type;
     private final short property;
 
@@ -22,20 +25,23 @@ public abstract class PropertyData {
         return property;
     }
 
-    public PacketUpdateContainer getSinglePacket(short windowId) {
-        return new PacketUpdateContainer(windowId, property, this);
-    }
-
     public abstract void handleWindowProperty(MekanismContainer container);
 
     public void writeToPacket(PacketBuffer buffer) {
-        buffer.writeEnumValue(type);
-        buffer.writeShort(property);
+        writeHeader(buffer, type, property);
+    }
+
+    /**
+     * Writes the type and index of a property packed into a single varint, so that properties with a low index only need a single byte.
+     */
+    public static void writeHeader(PacketBuffer buffer, PropertyType type, short property) {
+        buffer.writeVarInt(property << TYPE_BITS | type.ordinal());
     }
 
     public static PropertyData fromBuffer(PacketBuffer buffer) {
-        PropertyType type = buffer.readEnumValue(PropertyType.class);
-        short property = buffer.readShort();
+        int header = buffer.readVarInt();
+        PropertyType type = PropertyType.byIndex(header & TYPE_MASK);
+        short property = (short) (header >>> TYPE_BITS);
         return type.createData(property, buffer);
     }
 }
\ No newline at end of file
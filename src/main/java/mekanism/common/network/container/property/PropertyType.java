@@ -93,6 +93,10 @@ public enum PropertyType {
         return (T) defaultValue;
     }
 
+    public static PropertyType byIndex(int index) {
+        return VALUES[index];
+    }
+
     public static PropertyType getFromType(Class<?> type) {
         for (PropertyType propertyType : VALUES) {
             if (type == propertyType.type) {
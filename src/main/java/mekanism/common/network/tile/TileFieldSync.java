@@ -0,0 +1,128 @@
+package mekanism.common.network.tile;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import net.minecraft.network.PacketBuffer;
+
+/**
+ * Keeps track of which of a tile's {@link TileSyncField}s changed, and which of those changes each player tracking the tile has already received, so that update packets
+ * only contain the fields a player is missing instead of the tile's entire update tag.
+ *
+ * @implNote Every time changes are captured they get a new version, and each field remembers the version it last changed in. A player's baseline is the version they last
+ * received, and players that stop tracking the tile are forgotten so that they receive all fields again when they start tracking it again.
+ */
+public class TileFieldSync {
+
+    private static final long NO_BASELINE = -1;
+
+    private final TileSyncField[] fields;
+    private final long[] fieldVersions;
+    private final Object2LongMap<UUID> baselines = new Object2LongOpenHashMap<>();
+    private final Long2ObjectMap<TileUpdatePayload> payloads = new Long2ObjectOpenHashMap<>();
+    private long version;
+
+    private TileFieldSync(List<TileSyncField> fields) {
+        this.fields = fields.toArray(new TileSyncField[0]);
+        this.fieldVersions = new long[this.fields.length];
+        baselines.defaultReturnValue(NO_BASELINE);
+    }
+
+    /**
+     * Creates a field sync for the given fields, or {@code null} if there are no fields to sync.
+     */
+    @Nullable
+    public static TileFieldSync create(List<TileSyncField> fields) {
+        if (fields.isEmpty()) {
+            return null;
+        } else if (fields.size() > Long.SIZE) {
+            throw new IllegalArgumentException("A tile may only sync up to " + Long.SIZE + " fields, but " + fields.size() + " were declared.");
+        }
+        return new TileFieldSync(fields);
+    }
+
+    private void captureChanges() {
+        long nextVersion = version + 1;
+        boolean changed = false;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].update()) {
+                fieldVersions[i] = nextVersion;
+                changed = true;
+            }
+        }
+        if (changed) {
+            version = nextVersion;
+        }
+    }
+
+    private long getChangedSince(long baseline) {
+        long mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fieldVersions[i] > baseline) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    private TileUpdatePayload encode(long mask) {
+        return TileUpdatePayload.fields(buffer -> {
+            buffer.writeVarLong(mask);
+            for (int i = 0; i < fields.length; i++) {
+                if ((mask & 1L << i) != 0) {
+                    fields[i].write(buffer);
+                }
+            }
+        });
+    }
+
+    /**
+     * Captures which fields changed since the last time this was called, and forgets the baselines of any players that are no longer tracking the tile.
+     *
+     * @param trackingPlayers All players currently tracking the tile.
+     */
+    public void prepare(Set<UUID> trackingPlayers) {
+        captureChanges();
+        baselines.keySet().retainAll(trackingPlayers);
+        payloads.clear();
+    }
+
+    /**
+     * Gets the payload containing the fields the given player hasn't received yet, and marks them as received.
+     *
+     * @return The payload, or {@code null} if the player already has all the fields.
+     *
+     * @apiNote {@link #prepare(Set)} should be called before this in any tick this is called.
+     */
+    @Nullable
+    public TileUpdatePayload getPayload(UUID player) {
+        long mask = getChangedSince(baselines.put(player, version));
+        if (mask == 0) {
+            return null;
+        }
+        //Players with the same baseline need the same fields, so only encode the payload once for each set of fields
+        TileUpdatePayload payload = payloads.get(mask);
+        if (payload == null) {
+            payload = encode(mask);
+            payloads.put(mask, payload);
+        }
+        return payload;
+    }
+
+    /**
+     * Reads and applies the fields written to the given buffer.
+     */
+    public void read(PacketBuffer buffer) {
+        long mask = buffer.readVarLong();
+        for (int i = 0; i < fields.length; i++) {
+            if ((mask & 1L << i) != 0) {
+                fields[i].read(buffer);
+            }
+        }
+    }
+}
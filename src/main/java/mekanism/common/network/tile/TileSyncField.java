@@ -0,0 +1,189 @@
+package mekanism.common.network.tile;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import mekanism.api.chemical.ChemicalStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * A single piece of data a tile syncs to clients through {@link TileFieldSync}. On the server each field remembers the value it last saw so that only fields that
+ * changed get written, on the client the field applies the values it reads.
+ *
+ * @implNote Numbers are written as varints where it makes sense, and fluids and chemicals are written by their registry's network id rather than their name.
+ */
+public abstract class TileSyncField {
+
+    /**
+     * Checks if the value of this field changed since the last time this was called, and remembers the current value.
+     *
+     * @apiNote Only called on the server.
+     */
+    abstract boolean update();
+
+    /**
+     * Writes the current value of this field.
+     */
+    abstract void write(PacketBuffer buffer);
+
+    /**
+     * Reads a value written by {@link #write(PacketBuffer)} and applies it.
+     *
+     * @apiNote Only called on the client.
+     */
+    abstract void read(PacketBuffer buffer);
+
+    public static TileSyncField ofInt(IntSupplier getter, IntConsumer setter) {
+        return new TileSyncField() {
+            private int lastValue;
+
+            @Override
+            boolean update() {
+                int value = getter.getAsInt();
+                if (value != lastValue) {
+                    lastValue = value;
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            void write(PacketBuffer buffer) {
+                buffer.writeVarInt(getter.getAsInt());
+            }
+
+            @Override
+            void read(PacketBuffer buffer) {
+                setter.accept(buffer.readVarInt());
+            }
+        };
+    }
+
+    public static TileSyncField ofFloat(FloatGetter getter, FloatSetter setter) {
+        return new TileSyncField() {
+            private float lastValue;
+
+            @Override
+            boolean update() {
+                float value = getter.get();
+                if (Float.floatToIntBits(value) != Float.floatToIntBits(lastValue)) {
+                    lastValue = value;
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            void write(PacketBuffer buffer) {
+                buffer.writeFloat(getter.get());
+            }
+
+            @Override
+            void read(PacketBuffer buffer) {
+                setter.set(buffer.readFloat());
+            }
+        };
+    }
+
+    public static TileSyncField ofFluidStack(Supplier<@Nonnull FluidStack> getter, Consumer<@Nonnull FluidStack> setter) {
+        return new TileSyncField() {
+            private FluidStack lastValue = FluidStack.EMPTY;
+
+            @Override
+            boolean update() {
+                FluidStack value = getter.get();
+                if (!value.isFluidStackIdentical(lastValue)) {
+                    lastValue = value.copy();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            void write(PacketBuffer buffer) {
+                buffer.writeFluidStack(getter.get());
+            }
+
+            @Override
+            void read(PacketBuffer buffer) {
+                setter.accept(buffer.readFluidStack());
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <STACK extends ChemicalStack<?>> TileSyncField ofChemicalStack(Supplier<@Nonnull STACK> getter, Consumer<@Nonnull STACK> setter,
+          Function<PacketBuffer, STACK> reader) {
+        return new TileSyncField() {
+            private STACK lastValue;
+
+            @Override
+            boolean update() {
+                STACK value = getter.get();
+                if (lastValue == null || !((ChemicalStack) value).isStackIdentical(lastValue)) {
+                    lastValue = (STACK) value.copy();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            void write(PacketBuffer buffer) {
+                getter.get().writeToPacket(buffer);
+            }
+
+            @Override
+            void read(PacketBuffer buffer) {
+                setter.accept(reader.apply(buffer));
+            }
+        };
+    }
+
+    /**
+     * Creates a field for data that doesn't have a more specific representation. The tag is only written when it differs from the one that was last sent.
+     */
+    public static TileSyncField ofTag(Supplier<@Nonnull CompoundNBT> getter, Consumer<@Nonnull CompoundNBT> setter) {
+        return new TileSyncField() {
+            private CompoundNBT lastValue;
+
+            @Override
+            boolean update() {
+                CompoundNBT value = getter.get();
+                if (!value.equals(lastValue)) {
+                    lastValue = value;
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            void write(PacketBuffer buffer) {
+                //Note: We write the last value we saw as the tag may not be cheap to create
+                buffer.writeCompoundTag(lastValue == null ? getter.get() : lastValue);
+            }
+
+            @Override
+            void read(PacketBuffer buffer) {
+                CompoundNBT tag = buffer.readCompoundTag();
+                setter.accept(tag == null ? new CompoundNBT() : tag);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface FloatGetter {
+
+        float get();
+    }
+
+    @FunctionalInterface
+    public interface FloatSetter {
+
+        void set(float value);
+    }
+}
@@ -0,0 +1,74 @@
+package mekanism.common.network.tile;
+
+import io.netty.buffer.Unpooled;
+import java.util.function.Consumer;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+
+/**
+ * The encoded update of a single tile. Tiles that declare sync fields send the fields that changed as encoded by {@link TileFieldSync}, and other tiles send their
+ * reduced update tag. Payloads are only encoded once, so that they can be shared between all the players that need the same update, and can be written into any packet.
+ */
+public class TileUpdatePayload {
+
+    private final boolean fields;
+    private final byte[] data;
+
+    private TileUpdatePayload(boolean fields, byte[] data) {
+        this.fields = fields;
+        this.data = data;
+    }
+
+    /**
+     * Creates a payload of sync fields.
+     *
+     * @param writer Writes the fields, in the format {@link TileFieldSync#read(PacketBuffer)} reads them.
+     */
+    static TileUpdatePayload fields(Consumer<PacketBuffer> writer) {
+        return new TileUpdatePayload(true, encode(writer));
+    }
+
+    /**
+     * Creates a payload containing the given update tag.
+     */
+    public static TileUpdatePayload tag(CompoundNBT updateTag) {
+        return new TileUpdatePayload(false, encode(buffer -> buffer.writeCompoundTag(updateTag)));
+    }
+
+    private static byte[] encode(Consumer<PacketBuffer> writer) {
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        try {
+            writer.accept(buffer);
+            byte[] data = new byte[buffer.readableBytes()];
+            buffer.readBytes(data);
+            return data;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public void write(PacketBuffer buffer) {
+        buffer.writeBoolean(fields);
+        buffer.writeByteArray(data);
+    }
+
+    public static TileUpdatePayload read(PacketBuffer buffer) {
+        return new TileUpdatePayload(buffer.readBoolean(), buffer.readByteArray());
+    }
+
+    /**
+     * Applies this update to the given tile on the client.
+     */
+    public void apply(TileEntityUpdateable tile) {
+        PacketBuffer buffer = new PacketBuffer(Unpooled.wrappedBuffer(data));
+        if (fields) {
+            tile.handleFieldUpdate(buffer);
+        } else {
+            CompoundNBT updateTag = buffer.readCompoundTag();
+            if (updateTag != null) {
+                tile.handleUpdatePacket(updateTag);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package mekanism.common.network.tile;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.network.PacketUpdateTileBatch;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+
+/**
+ * Collects the tile updates that get requested during a world's tick, and sends them at the end of the tick. Multiple requests for the same tile in a tick only send
+ * one update, and each player receives a single packet per chunk that contains the updates of all the tiles in that chunk.
+ *
+ * @implNote Each player receives at most {@link mekanism.common.config.GeneralConfig#tileUpdateBudget} updates per tick. When more tiles changed, the updates of the
+ * tiles closest to the player are sent first and the others are deferred to the next tick. Tiles that declare sync fields only remember which fields a player received,
+ * so a deferred update always sends the latest values.
+ */
+public class TileUpdateQueue {
+
+    private static final Map<RegistryKey<World>, TileUpdateQueue> QUEUES = new Object2ObjectOpenHashMap<>();
+
+    //Tiles that requested an update this tick, and the tile whose position decides which players receive the update
+    private final Map<TileEntityUpdateable, TileEntity> queued = new Object2ObjectLinkedOpenHashMap<>();
+    //Updates that didn't fit in the budget of a player yet
+    private Map<UUID, Map<TileEntityUpdateable, TileEntity>> deferred = new Object2ObjectOpenHashMap<>();
+
+    private TileUpdateQueue() {
+    }
+
+    /**
+     * Queues an update for the given tile to be sent at the end of the tick.
+     *
+     * @param tile     Tile to send the update of.
+     * @param tracking Tile to send the update to the tracking players of.
+     */
+    public static void queue(TileEntityUpdateable tile, TileEntity tracking) {
+        World world = tile.getWorld();
+        if (world != null) {
+            QUEUES.computeIfAbsent(world.func_234923_W_(), dimension -> new TileUpdateQueue()).queued.put(tile, tracking);
+        }
+    }
+
+    public static void flush(ServerWorld world) {
+        TileUpdateQueue queue = QUEUES.get(world.func_234923_W_());
+        if (queue != null) {
+            queue.flushUpdates(world);
+        }
+    }
+
+    public static void worldUnload(IWorld world) {
+        if (world instanceof ServerWorld) {
+            QUEUES.remove(((ServerWorld) world).func_234923_W_());
+        }
+    }
+
+    public static void reset() {
+        QUEUES.clear();
+    }
+
+    private void flushUpdates(ServerWorld world) {
+        if (queued.isEmpty() && deferred.isEmpty()) {
+            return;
+        }
+        Map<TileEntityUpdateable, TileEntity> tiles = new Object2ObjectLinkedOpenHashMap<>(queued);
+        Map<UUID, Map<TileEntityUpdateable, TileEntity>> previouslyDeferred = deferred;
+        for (Map<TileEntityUpdateable, TileEntity> deferredTiles : previouslyDeferred.values()) {
+            deferredTiles.forEach(tiles::putIfAbsent);
+        }
+        deferred = new Object2ObjectOpenHashMap<>();
+        Map<ServerPlayerEntity, List<TileUpdate>> pending = new Object2ObjectLinkedOpenHashMap<>();
+        for (Map.Entry<TileEntityUpdateable, TileEntity> entry : tiles.entrySet()) {
+            TileEntityUpdateable tile = entry.getKey();
+            TileEntity tracking = entry.getValue();
+            if (tile.isRemoved() || tile.getWorld() != world) {
+                continue;
+            }
+            List<ServerPlayerEntity> players = world.getChunkProvider().chunkManager.getTrackingPlayers(new ChunkPos(tracking.getPos()), false)
+                  .collect(Collectors.toList());
+            TileFieldSync fieldSync = tile.getFieldSync();
+            if (fieldSync != null) {
+                Set<UUID> trackingPlayers = players.stream().map(ServerPlayerEntity::getUniqueID).collect(Collectors.toSet());
+                fieldSync.prepare(trackingPlayers);
+            }
+            TileUpdate update = new TileUpdate(tile, tracking, fieldSync);
+            boolean requested = queued.containsKey(tile);
+            for (ServerPlayerEntity player : players) {
+                if (requested || previouslyDeferred.getOrDefault(player.getUniqueID(), Collections.emptyMap()).containsKey(tile)) {
+                    pending.computeIfAbsent(player, p -> new ArrayList<>()).add(update);
+                }
+            }
+        }
+        queued.clear();
+        int budget = MekanismConfig.general.tileUpdateBudget.get();
+        pending.forEach((player, updates) -> {
+            if (updates.size() > budget) {
+                updates.sort(Comparator.comparingDouble(update -> update.tile.getPos().distanceSq(player.getPosX(), player.getPosY(), player.getPosZ(), true)));
+                Map<TileEntityUpdateable, TileEntity> playerDeferred = new Object2ObjectLinkedOpenHashMap<>();
+                for (TileUpdate update : updates.subList(budget, updates.size())) {
+                    playerDeferred.put(update.tile, update.tracking);
+                }
+                deferred.put(player.getUniqueID(), playerDeferred);
+                updates = updates.subList(0, budget);
+            }
+            send(player, updates);
+        });
+    }
+
+    private static void send(ServerPlayerEntity player, List<TileUpdate> updates) {
+        UUID uuid = player.getUniqueID();
+        Long2ObjectMap<PacketUpdateTileBatch> batches = new Long2ObjectOpenHashMap<>();
+        for (TileUpdate update : updates) {
+            TileUpdatePayload payload = update.getPayload(uuid);
+            if (payload != null) {
+                BlockPos pos = update.tile.getPos();
+                int chunkX = pos.getX() >> 4;
+                int chunkZ = pos.getZ() >> 4;
+                long chunk = ChunkPos.asLong(chunkX, chunkZ);
+                PacketUpdateTileBatch batch = batches.get(chunk);
+                if (batch == null) {
+                    batch = new PacketUpdateTileBatch(chunkX, chunkZ);
+                    batches.put(chunk, batch);
+                }
+                batch.add(pos, payload);
+            }
+        }
+        for (PacketUpdateTileBatch batch : batches.values()) {
+            Mekanism.packetHandler.sendTo(batch, player);
+        }
+    }
+
+    private static class TileUpdate {
+
+        private final TileEntityUpdateable tile;
+        private final TileEntity tracking;
+        @Nullable
+        private final TileFieldSync fieldSync;
+        //Lazily encoded update tag for tiles that don't declare sync fields, shared by all players
+        @Nullable
+        private TileUpdatePayload tagPayload;
+
+        private TileUpdate(TileEntityUpdateable tile, TileEntity tracking, @Nullable TileFieldSync fieldSync) {
+            this.tile = tile;
+            this.tracking = tracking;
+            this.fieldSync = fieldSync;
+        }
+
+        @Nullable
+        private TileUpdatePayload getPayload(UUID player) {
+            if (fieldSync != null) {
+                return fieldSync.getPayload(player);
+            }
+            if (tagPayload == null) {
+                tagPayload = TileUpdatePayload.tag(tile.getReducedUpdateTag());
+            }
+            return tagPayload;
+        }
+    }
+}
@@ -5,7 +5,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -29,9 +31,16 @@ import mekanism.api.recipes.NucleosynthesizingRecipe;
 import mekanism.api.recipes.PressurizedReactionRecipe;
 import mekanism.api.recipes.RotaryRecipe;
 import mekanism.api.recipes.SawmillRecipe;
+import mekanism.api.recipes.inputs.FluidStackIngredient;
 import mekanism.api.recipes.inputs.ItemStackIngredient;
+import mekanism.api.recipes.inputs.chemical.IChemicalStackIngredient;
 import mekanism.common.Mekanism;
 import mekanism.common.recipe.impl.SmeltingIRecipe;
+import mekanism.common.recipe.lookup.ChemicalInputIndex;
+import mekanism.common.recipe.lookup.FluidInputIndex;
+import mekanism.common.recipe.lookup.InputRecipeIndex;
+import mekanism.common.recipe.lookup.ItemInputIndex;
+import mekanism.common.recipe.lookup.LastRecipeMatchCache;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
@@ -49,50 +58,70 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
 
     private static final List<MekanismRecipeType<? extends MekanismRecipe>> types = new ArrayList<>();
 
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> CRUSHING = create("crushing");
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> ENRICHING = create("enriching");
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> SMELTING = create("smelting");
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> CRUSHING = createItem("crushing", ItemStackToItemStackRecipe::getInput);
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> ENRICHING = createItem("enriching", ItemStackToItemStackRecipe::getInput);
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> SMELTING = createItem("smelting", ItemStackToItemStackRecipe::getInput);
 
     public static final MekanismRecipeType<ChemicalInfuserRecipe> CHEMICAL_INFUSING = create("chemical_infusing");
 
-    public static final MekanismRecipeType<CombinerRecipe> COMBINING = create("combining");
+    public static final MekanismRecipeType<CombinerRecipe> COMBINING = createItem("combining", CombinerRecipe::getMainInput);
 
-    public static final MekanismRecipeType<ElectrolysisRecipe> SEPARATING = create("separating");
+    public static final MekanismRecipeType<ElectrolysisRecipe> SEPARATING = createFluid("separating", ElectrolysisRecipe::getInput);
 
-    public static final MekanismRecipeType<FluidSlurryToSlurryRecipe> WASHING = create("washing");
+    public static final MekanismRecipeType<FluidSlurryToSlurryRecipe> WASHING = createChemical("washing", FluidSlurryToSlurryRecipe::getChemicalInput);
 
-    public static final MekanismRecipeType<FluidToFluidRecipe> EVAPORATING = create("evaporating");
+    public static final MekanismRecipeType<FluidToFluidRecipe> EVAPORATING = createFluid("evaporating", FluidToFluidRecipe::getInput);
 
-    public static final MekanismRecipeType<GasToGasRecipe> ACTIVATING = create("activating");
-    public static final MekanismRecipeType<GasToGasRecipe> CENTRIFUGING = create("centrifuging");
+    public static final MekanismRecipeType<GasToGasRecipe> ACTIVATING = createChemical("activating", GasToGasRecipe::getInput);
+    public static final MekanismRecipeType<GasToGasRecipe> CENTRIFUGING = createChemical("centrifuging", GasToGasRecipe::getInput);
 
     public static final MekanismRecipeType<ChemicalCrystallizerRecipe> CRYSTALLIZING = create("crystallizing");
 
-    public static final MekanismRecipeType<ChemicalDissolutionRecipe> DISSOLUTION = create("dissolution");
+    public static final MekanismRecipeType<ChemicalDissolutionRecipe> DISSOLUTION = createItem("dissolution", ChemicalDissolutionRecipe::getItemInput);
 
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> COMPRESSING = create("compressing");
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> PURIFYING = create("purifying");
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> INJECTING = create("injecting");
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> COMPRESSING = createItem("compressing", ItemStackGasToItemStackRecipe::getItemInput);
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> PURIFYING = createItem("purifying", ItemStackGasToItemStackRecipe::getItemInput);
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> INJECTING = createItem("injecting", ItemStackGasToItemStackRecipe::getItemInput);
 
-    public static final MekanismRecipeType<NucleosynthesizingRecipe> NUCLEOSYNTHESIZING = create("nucleosynthesizing");
+    public static final MekanismRecipeType<NucleosynthesizingRecipe> NUCLEOSYNTHESIZING = createItem("nucleosynthesizing", NucleosynthesizingRecipe::getItemInput);
 
-    public static final MekanismRecipeType<ItemStackToEnergyRecipe> ENERGY_CONVERSION = create("energy_conversion");
+    public static final MekanismRecipeType<ItemStackToEnergyRecipe> ENERGY_CONVERSION = createItem("energy_conversion", ItemStackToEnergyRecipe::getInput);
 
-    public static final MekanismRecipeType<ItemStackToGasRecipe> GAS_CONVERSION = create("gas_conversion");
-    public static final MekanismRecipeType<ItemStackToGasRecipe> OXIDIZING = create("oxidizing");
+    public static final MekanismRecipeType<ItemStackToGasRecipe> GAS_CONVERSION = createItem("gas_conversion", ItemStackToGasRecipe::getInput);
+    public static final MekanismRecipeType<ItemStackToGasRecipe> OXIDIZING = createItem("oxidizing", ItemStackToGasRecipe::getInput);
 
-    public static final MekanismRecipeType<ItemStackToInfuseTypeRecipe> INFUSION_CONVERSION = create("infusion_conversion");
+    public static final MekanismRecipeType<ItemStackToInfuseTypeRecipe> INFUSION_CONVERSION = createItem("infusion_conversion", ItemStackToInfuseTypeRecipe::getInput);
 
-    public static final MekanismRecipeType<MetallurgicInfuserRecipe> METALLURGIC_INFUSING = create("metallurgic_infusing");
+    public static final MekanismRecipeType<MetallurgicInfuserRecipe> METALLURGIC_INFUSING = createItem("metallurgic_infusing", MetallurgicInfuserRecipe::getItemInput);
 
-    public static final MekanismRecipeType<PressurizedReactionRecipe> REACTION = create("reaction");
+    public static final MekanismRecipeType<PressurizedReactionRecipe> REACTION = createItem("reaction", PressurizedReactionRecipe::getInputSolid);
 
     public static final MekanismRecipeType<RotaryRecipe> ROTARY = create("rotary");
 
-    public static final MekanismRecipeType<SawmillRecipe> SAWING = create("sawing");
+    public static final MekanismRecipeType<SawmillRecipe> SAWING = createItem("sawing", SawmillRecipe::getInput);
 
     private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> create(String name) {
-        MekanismRecipeType<RECIPE_TYPE> type = new MekanismRecipeType<>(name);
+        return create(name, null);
+    }
+
+    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> createItem(String name,
+          Function<RECIPE_TYPE, ItemStackIngredient> inputExtractor) {
+        return create(name, () -> new ItemInputIndex<>(inputExtractor));
+    }
+
+    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> createFluid(String name,
+          Function<RECIPE_TYPE, FluidStackIngredient> inputExtractor) {
+        return create(name, () -> new FluidInputIndex<>(inputExtractor));
+    }
+
+    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> createChemical(String name,
+          Function<RECIPE_TYPE, IChemicalStackIngredient<?, ?>> inputExtractor) {
+        return create(name, () -> new ChemicalInputIndex<>(inputExtractor));
+    }
+
+    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> create(String name,
+          @Nullable Supplier<InputRecipeIndex<RECIPE_TYPE, ?, ?>> indexCreator) {
+        MekanismRecipeType<RECIPE_TYPE> type = new MekanismRecipeType<>(name, indexCreator);
         types.add(type);
         return type;
     }
@@ -104,14 +133,23 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
 
     public static void clearCache() {
         //TODO: Does this need to also get cleared on disconnect
-        types.forEach(type -> type.cachedRecipes.clear());
+        for (MekanismRecipeType<?> type : types) {
+            type.cachedRecipes = Collections.emptyList();
+            type.inputIndex = null;
+        }
     }
 
     private List<RECIPE_TYPE> cachedRecipes = Collections.emptyList();
+    @Nullable
+    private final Supplier<InputRecipeIndex<RECIPE_TYPE, ?, ?>> indexCreator;
+    //Built along with the cached recipes
+    @Nullable
+    private InputRecipeIndex<RECIPE_TYPE, ?, ?> inputIndex;
     private final ResourceLocation registryName;
 
-    private MekanismRecipeType(String name) {
+    private MekanismRecipeType(String name, @Nullable Supplier<InputRecipeIndex<RECIPE_TYPE, ?, ?>> indexCreator) {
         this.registryName = Mekanism.rl(name);
+        this.indexCreator = indexCreator;
     }
 
     @Override
@@ -161,6 +199,11 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
                     }
                 }
             }
+            if (indexCreator != null) {
+                InputRecipeIndex<RECIPE_TYPE, ?, ?> index = indexCreator.get();
+                index.build(recipes);
+                inputIndex = index;
+            }
             cachedRecipes = recipes;
         }
         return cachedRecipes;
@@ -178,4 +221,55 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
     public boolean contains(@Nullable World world, Predicate<RECIPE_TYPE> matchCriteria) {
         return stream(world).anyMatch(matchCriteria);
     }
+
+    /**
+     * Finds the first recipe that matches the given criteria, using this recipe type's input index to only check the recipes that may accept the given input.
+     *
+     * @param input         The item stack, fluid stack, chemical stack, or chemical that the indexed input of this recipe type gets matched against. If this recipe type
+     *                      doesn't have an index for this kind of input then all the recipes are checked.
+     * @param matchCriteria Criteria the recipe must match. This must only match recipes whose indexed input matches the given input.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull Object input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, input, matchCriteria, null, 0);
+    }
+
+    /**
+     * Finds the first recipe that matches the given criteria, using this recipe type's input index to only check the recipes that may accept the given input. If the
+     * given process of the given cache last matched a recipe for the same type of input and that recipe still matches the criteria, it is returned instead.
+     *
+     * @param input         The item stack, fluid stack, chemical stack, or chemical that the indexed input of this recipe type gets matched against. If this recipe type
+     *                      doesn't have an index for this kind of input then all the recipes are checked.
+     * @param matchCriteria Criteria the recipe must match. This must only match recipes whose indexed input matches the given input.
+     * @param lastMatches   Cache of the last matches of the machine looking up the recipe, or {@code null} to not use one.
+     * @param process       Process of the machine that is looking up the recipe.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull Object input, Predicate<RECIPE_TYPE> matchCriteria,
+          @Nullable LastRecipeMatchCache<RECIPE_TYPE> lastMatches, int process) {
+        InputRecipeIndex<RECIPE_TYPE, ?, ?> index = getInputIndex(world, input);
+        return index == null ? findFirst(world, matchCriteria) : index.findFirst(input, matchCriteria, lastMatches, process);
+    }
+
+    /**
+     * Checks if any recipe matches the given criteria, using this recipe type's input index to only check the recipes that may accept the given input.
+     *
+     * @param input         The item stack, fluid stack, chemical stack, or chemical that the indexed input of this recipe type gets matched against. If this recipe type
+     *                      doesn't have an index for this kind of input then all the recipes are checked.
+     * @param matchCriteria Criteria the recipe must match. This must only match recipes whose indexed input matches the given input.
+     */
+    public boolean contains(@Nullable World world, @Nonnull Object input, Predicate<RECIPE_TYPE> matchCriteria) {
+        InputRecipeIndex<RECIPE_TYPE, ?, ?> index = getInputIndex(world, input);
+        return index == null ? contains(world, matchCriteria) : index.contains(input, matchCriteria);
+    }
+
+    @Nullable
+    private InputRecipeIndex<RECIPE_TYPE, ?, ?> getInputIndex(@Nullable World world, @Nonnull Object input) {
+        if (getRecipes(world).isEmpty()) {
+            //No recipes so no index was built
+            return null;
+        }
+        InputRecipeIndex<RECIPE_TYPE, ?, ?> index = inputIndex;
+        return index != null && index.canLookup(input) ? index : null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package mekanism.common.recipe.lookup;
+
+import java.util.Set;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.chemical.Chemical;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.inputs.chemical.ChemicalStackIngredient;
+import mekanism.api.recipes.inputs.chemical.IChemicalStackIngredient;
+
+/**
+ * Index of recipes by the {@link Chemical} of an {@link IChemicalStackIngredient}. Recipes can be looked up by either a {@link Chemical} or a {@link ChemicalStack}.
+ */
+public class ChemicalInputIndex<RECIPE extends MekanismRecipe> extends InputRecipeIndex<RECIPE, Chemical<?>, IChemicalStackIngredient<?, ?>> {
+
+    public ChemicalInputIndex(Function<RECIPE, IChemicalStackIngredient<?, ?>> inputExtractor) {
+        super(inputExtractor);
+    }
+
+    @Nullable
+    @Override
+    protected Chemical<?> getKey(@Nonnull Object input) {
+        if (input instanceof ChemicalStack) {
+            return ((ChemicalStack<?>) input).getType();
+        } else if (input instanceof Chemical) {
+            return (Chemical<?>) input;
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean addKeys(IChemicalStackIngredient<?, ?> ingredient, Set<Chemical<?>> keys) {
+        //Our chemical ingredients only ever match chemicals they represent, but we can't be sure about any other implementations
+        if (ingredient instanceof ChemicalStackIngredient) {
+            for (ChemicalStack<?> stack : ingredient.getRepresentations()) {
+                keys.add(stack.getType());
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Nullable
+    @Override
+    protected Object getNoRecipeKey(@Nonnull Object input) {
+        return getKey(input);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected boolean testType(IChemicalStackIngredient<?, ?> ingredient, @Nonnull Object input) {
+        return ((IChemicalStackIngredient) ingredient).testType(getKey(input));
+    }
+}
@@ -0,0 +1,51 @@
+package mekanism.common.recipe.lookup;
+
+import java.util.Set;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.inputs.FluidStackIngredient;
+import net.minecraft.fluid.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Index of recipes by the {@link Fluid} of a {@link FluidStackIngredient}.
+ */
+public class FluidInputIndex<RECIPE extends MekanismRecipe> extends InputRecipeIndex<RECIPE, Fluid, FluidStackIngredient> {
+
+    public FluidInputIndex(Function<RECIPE, FluidStackIngredient> inputExtractor) {
+        super(inputExtractor);
+    }
+
+    @Nullable
+    @Override
+    protected Fluid getKey(@Nonnull Object input) {
+        return input instanceof FluidStack ? ((FluidStack) input).getFluid() : null;
+    }
+
+    @Override
+    protected boolean addKeys(FluidStackIngredient ingredient, Set<Fluid> keys) {
+        //Our fluid ingredients only ever match fluids they represent, but we can't be sure about any other implementations
+        if (ingredient instanceof FluidStackIngredient.Single || ingredient instanceof FluidStackIngredient.Tagged || ingredient instanceof FluidStackIngredient.Multi) {
+            for (FluidStack stack : ingredient.getRepresentations()) {
+                keys.add(stack.getFluid());
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Nullable
+    @Override
+    protected Object getNoRecipeKey(@Nonnull Object input) {
+        FluidStack stack = (FluidStack) input;
+        //Fluids with NBT aren't remembered as fluid stacks don't have a hash code that ignores the amount
+        return stack.hasTag() ? null : stack.getFluid();
+    }
+
+    @Override
+    protected boolean testType(FluidStackIngredient ingredient, @Nonnull Object input) {
+        return ingredient.testType((FluidStack) input);
+    }
+}
@@ -0,0 +1,223 @@
+package mekanism.common.recipe.lookup;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.inputs.InputIngredient;
+
+/**
+ * Index of the recipes of a recipe type by the type (item, fluid, or chemical) of one of their inputs, so that finding the recipes for an input doesn't have to test
+ * every recipe of the recipe type. Recipes whose ingredient can't be represented by the types it matches, for example NBT sensitive item ingredients, are kept in a
+ * separate list that is always checked.
+ *
+ * @param <RECIPE>     The type of recipe.
+ * @param <KEY>        The type of the keys recipes are indexed by.
+ * @param <INGREDIENT> The type of the ingredient that gets indexed.
+ */
+public abstract class InputRecipeIndex<RECIPE extends MekanismRecipe, KEY, INGREDIENT extends InputIngredient<?>> {
+
+    private final Function<RECIPE, INGREDIENT> inputExtractor;
+    private final Map<KEY, List<RECIPE>> recipesByKey = new Object2ObjectOpenHashMap<>();
+    private final List<RECIPE> complexRecipes = new ObjectArrayList<>();
+    //Position of each recipe in the recipe list, so that we find the same recipe as checking all the recipes in order would
+    private final Reference2IntMap<RECIPE> recipeOrder = new Reference2IntOpenHashMap<>();
+    //Inputs that none of the recipes accept, this is shared by all the machines using this recipe type and gets thrown away with the index when recipes are reloaded
+    private final NoRecipeInputCache noRecipeInputs = new NoRecipeInputCache();
+
+    protected InputRecipeIndex(Function<RECIPE, INGREDIENT> inputExtractor) {
+        this.inputExtractor = inputExtractor;
+    }
+
+    /**
+     * Indexes the given recipes. This should only be called once, with all the recipes of the recipe type.
+     */
+    public void build(List<RECIPE> recipes) {
+        Set<KEY> keys = new ReferenceOpenHashSet<>();
+        for (int i = 0; i < recipes.size(); i++) {
+            RECIPE recipe = recipes.get(i);
+            recipeOrder.put(recipe, i);
+            INGREDIENT ingredient = inputExtractor.apply(recipe);
+            //Note: Keys are collected in a set so that a recipe is only added to each list once, even if its ingredient represents the same type multiple times
+            if (ingredient == null || !addKeys(ingredient, keys)) {
+                complexRecipes.add(recipe);
+            } else {
+                for (KEY key : keys) {
+                    recipesByKey.computeIfAbsent(key, k -> new ObjectArrayList<>()).add(recipe);
+                }
+            }
+            keys.clear();
+        }
+    }
+
+    /**
+     * Gets the key the given input would be indexed by.
+     *
+     * @param input Input to get the key of.
+     *
+     * @return The key, or {@code null} if this index can't look up recipes by the given input.
+     */
+    @Nullable
+    protected abstract KEY getKey(@Nonnull Object input);
+
+    /**
+     * Adds the keys for all the types the given ingredient is able to match to the given set.
+     *
+     * @return {@code false} if whether the ingredient matches depends on more than just the type of the input, so the ingredient can't be indexed by the keys.
+     */
+    protected abstract boolean addKeys(INGREDIENT ingredient, Set<KEY> keys);
+
+    /**
+     * @return {@code true} if this index is able to look up recipes by the given input.
+     */
+    public boolean canLookup(@Nonnull Object input) {
+        return getKey(input) != null;
+    }
+
+    /**
+     * Gets the key to remember the given input by in the cache of inputs that no recipe accepts. This is only used for inputs whose type isn't indexed by any recipes,
+     * so the key should distinguish inputs in the same way the ingredients of complex recipes might.
+     *
+     * @return The key, or {@code null} if inputs like the given input shouldn't be remembered.
+     */
+    @Nullable
+    protected abstract Object getNoRecipeKey(@Nonnull Object input);
+
+    /**
+     * Checks if the given ingredient matches the type of the given input.
+     */
+    protected abstract boolean testType(INGREDIENT ingredient, @Nonnull Object input);
+
+    /**
+     * Finds the first recipe, in the order the recipes were indexed, that matches the given criteria out of the recipes that may accept the given input.
+     *
+     * @param input         Input to look up the recipes of, must be an input this index {@link #canLookup(Object) can look up}.
+     * @param matchCriteria Criteria the recipe must match. This should require the indexed ingredient to match the input.
+     */
+    @Nullable
+    public RECIPE findFirst(@Nonnull Object input, Predicate<RECIPE> matchCriteria) {
+        return findFirst(input, matchCriteria, null, 0);
+    }
+
+    /**
+     * Finds the first recipe, in the order the recipes were indexed, that matches the given criteria out of the recipes that may accept the given input. If the given
+     * process of the given cache last matched a recipe for the same type of input and that recipe still matches the criteria, it is returned without checking any other
+     * recipes.
+     *
+     * @implNote Only matches that are the first recipe that may accept their type of input are remembered in the cache, as otherwise a recipe that comes before the
+     * cached one might have started matching since, and the cache would return a different recipe than checking all the recipes in order would.
+     *
+     * @param input         Input to look up the recipes of, must be an input this index {@link #canLookup(Object) can look up}.
+     * @param matchCriteria Criteria the recipe must match. This should require the indexed ingredient to match the input.
+     * @param lastMatches   Cache of the last matches of the machine looking up the recipe, or {@code null} to not use one.
+     * @param process       Process of the machine that is looking up the recipe.
+     */
+    @Nullable
+    public RECIPE findFirst(@Nonnull Object input, Predicate<RECIPE> matchCriteria, @Nullable LastRecipeMatchCache<RECIPE> lastMatches, int process) {
+        KEY key = getKey(input);
+        if (lastMatches != null) {
+            RECIPE lastMatch = lastMatches.get(this, process, key, matchCriteria);
+            if (lastMatch != null) {
+                return lastMatch;
+            }
+        }
+        List<RECIPE> indexed = recipesByKey.get(key);
+        RECIPE match;
+        if (indexed == null) {
+            match = complexRecipes.isEmpty() ? null : findFirstComplex(input, matchCriteria);
+        } else {
+            match = findFirst(indexed, matchCriteria);
+            if (!complexRecipes.isEmpty()) {
+                int indexedOrder = match == null ? Integer.MAX_VALUE : recipeOrder.getInt(match);
+                for (RECIPE recipe : complexRecipes) {
+                    if (recipeOrder.getInt(recipe) > indexedOrder) {
+                        //The remaining complex recipes all come after the recipe we found in the index
+                        break;
+                    }
+                    if (matchCriteria.test(recipe)) {
+                        match = recipe;
+                        break;
+                    }
+                }
+            }
+        }
+        if (match != null && lastMatches != null && isFirstCandidate(indexed, match)) {
+            lastMatches.set(process, key, match);
+        }
+        return match;
+    }
+
+    /**
+     * Checks if the given recipe is the first recipe, in the order the recipes were indexed, that may accept inputs of the type the given indexed recipes are for.
+     *
+     * @param indexed Recipes indexed by the type of the input, or {@code null} if there are none and only complex recipes may accept it.
+     */
+    private boolean isFirstCandidate(@Nullable List<RECIPE> indexed, RECIPE recipe) {
+        if (indexed == null) {
+            return complexRecipes.get(0) == recipe;
+        }
+        RECIPE first = indexed.get(0);
+        if (!complexRecipes.isEmpty() && recipeOrder.getInt(complexRecipes.get(0)) < recipeOrder.getInt(first)) {
+            //A complex recipe comes before any of the indexed ones
+            first = complexRecipes.get(0);
+        }
+        return first == recipe;
+    }
+
+    /**
+     * Checks if any of the recipes that may accept the given input match the given criteria.
+     *
+     * @param input         Input to look up the recipes of, must be an input this index {@link #canLookup(Object) can look up}.
+     * @param matchCriteria Criteria the recipe must match. This should require the indexed ingredient to match the input.
+     */
+    public boolean contains(@Nonnull Object input, Predicate<RECIPE> matchCriteria) {
+        List<RECIPE> indexed = recipesByKey.get(getKey(input));
+        if (indexed == null) {
+            return !complexRecipes.isEmpty() && findFirstComplex(input, matchCriteria) != null;
+        }
+        return findFirst(indexed, matchCriteria) != null || findFirst(complexRecipes, matchCriteria) != null;
+    }
+
+    /**
+     * Finds the first complex recipe that matches the given criteria, for an input whose type none of the indexed recipes accept. Inputs that none of the complex
+     * recipes accept either are remembered, so that looking them up again doesn't have to check any recipes.
+     */
+    @Nullable
+    private RECIPE findFirstComplex(@Nonnull Object input, Predicate<RECIPE> matchCriteria) {
+        Object noRecipeKey = getNoRecipeKey(input);
+        if (noRecipeKey != null && noRecipeInputs.contains(noRecipeKey)) {
+            return null;
+        }
+        RECIPE match = findFirst(complexRecipes, matchCriteria);
+        if (match == null && noRecipeKey != null) {
+            for (RECIPE recipe : complexRecipes) {
+                INGREDIENT ingredient = inputExtractor.apply(recipe);
+                if (ingredient == null || testType(ingredient, input)) {
+                    //The recipe may accept the input, it just doesn't match the other criteria at the moment
+                    return null;
+                }
+            }
+            noRecipeInputs.add(noRecipeKey);
+        }
+        return match;
+    }
+
+    @Nullable
+    private RECIPE findFirst(List<RECIPE> recipes, Predicate<RECIPE> matchCriteria) {
+        for (RECIPE recipe : recipes) {
+            if (matchCriteria.test(recipe)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+}
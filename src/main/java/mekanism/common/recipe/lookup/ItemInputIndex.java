@@ -0,0 +1,57 @@
+package mekanism.common.recipe.lookup;
+
+import java.util.Set;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.inputs.ItemStackIngredient;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+
+/**
+ * Index of recipes by the {@link Item} of an {@link ItemStackIngredient}.
+ */
+public class ItemInputIndex<RECIPE extends MekanismRecipe> extends InputRecipeIndex<RECIPE, Item, ItemStackIngredient> {
+
+    public ItemInputIndex(Function<RECIPE, ItemStackIngredient> inputExtractor) {
+        super(inputExtractor);
+    }
+
+    @Nullable
+    @Override
+    protected Item getKey(@Nonnull Object input) {
+        return input instanceof ItemStack ? ((ItemStack) input).getItem() : null;
+    }
+
+    @Override
+    protected boolean addKeys(ItemStackIngredient ingredient, Set<Item> keys) {
+        //Note: Multi ingredients and any other ingredient implementations are treated as complex
+        if (ingredient instanceof ItemStackIngredient.Single) {
+            Ingredient ingredientRaw = ((ItemStackIngredient.Single) ingredient).getInputRaw();
+            //Only simple ingredients are guaranteed to just compare the item, anything else (such as NBT or damage sensitive ingredients) can't be indexed
+            if (ingredientRaw.isSimple()) {
+                for (ItemStack stack : ingredientRaw.getMatchingStacks()) {
+                    keys.add(stack.getItem());
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    @Override
+    protected Object getNoRecipeKey(@Nonnull Object input) {
+        ItemStack stack = (ItemStack) input;
+        //Don't bother copying the stack if it doesn't have any NBT that complex ingredients may care about
+        return stack.hasTag() ? new HashedItem(stack) : stack.getItem();
+    }
+
+    @Override
+    protected boolean testType(ItemStackIngredient ingredient, @Nonnull Object input) {
+        return ingredient.testType((ItemStack) input);
+    }
+}
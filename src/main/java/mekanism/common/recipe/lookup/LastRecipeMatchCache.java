@@ -0,0 +1,53 @@
+package mekanism.common.recipe.lookup;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import mekanism.api.recipes.MekanismRecipe;
+
+/**
+ * Per machine cache of the last recipe each of the machine's processes matched, along with the type of input it matched. When a process looks up a recipe for the same
+ * type of input again, the last match is checked before going through the recipe index. Only recipes that are the first recipe that may accept their type of input get
+ * remembered, so that using the cache doesn't change which recipe is found.
+ *
+ * @param <RECIPE> The type of recipe.
+ */
+public class LastRecipeMatchCache<RECIPE extends MekanismRecipe> {
+
+    private final Object[] inputKeys;
+    private final MekanismRecipe[] lastMatches;
+    //Index the last matches were found in, if the recipes get reloaded a new index is built and the last matches are no longer valid
+    @Nullable
+    private InputRecipeIndex<RECIPE, ?, ?> index;
+
+    public LastRecipeMatchCache(int processes) {
+        inputKeys = new Object[processes];
+        lastMatches = new MekanismRecipe[processes];
+    }
+
+    /**
+     * Gets the last recipe the given process matched, if it was matched for the same type of input and still matches the given criteria.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    RECIPE get(InputRecipeIndex<RECIPE, ?, ?> index, int process, Object inputKey, Predicate<RECIPE> matchCriteria) {
+        if (this.index != index) {
+            Arrays.fill(inputKeys, null);
+            Arrays.fill(lastMatches, null);
+            this.index = index;
+            return null;
+        }
+        if (process < 0 || process >= lastMatches.length || inputKeys[process] != inputKey) {
+            return null;
+        }
+        RECIPE lastMatch = (RECIPE) lastMatches[process];
+        return lastMatch != null && matchCriteria.test(lastMatch) ? lastMatch : null;
+    }
+
+    void set(int process, Object inputKey, RECIPE recipe) {
+        if (process >= 0 && process < lastMatches.length) {
+            inputKeys[process] = inputKey;
+            lastMatches[process] = recipe;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package mekanism.common.recipe.lookup;
+
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+
+/**
+ * Bounded set of inputs that are known to not have any recipe. When full the least recently added inputs are forgotten first.
+ *
+ * @apiNote Recipe types are shared between the client and the integrated server, so access is synchronized.
+ */
+class NoRecipeInputCache {
+
+    static final int MAX_SIZE = 1_024;
+
+    private final ObjectLinkedOpenHashSet<Object> inputs = new ObjectLinkedOpenHashSet<>();
+
+    public synchronized boolean contains(Object input) {
+        return inputs.contains(input);
+    }
+
+    public synchronized void add(Object input) {
+        if (inputs.add(input) && inputs.size() > MAX_SIZE) {
+            inputs.removeFirst();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package mekanism.common.tile;
 
+import java.util.List;
 import javax.annotation.Nonnull;
 import mekanism.api.IConfigCardAccess;
 import mekanism.api.NBTConstants;
@@ -16,6 +17,7 @@ import mekanism.common.capabilities.resolver.basic.BasicCapabilityResolver;
 import mekanism.common.inventory.container.slot.SlotOverlay;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
+import mekanism.common.network.tile.TileSyncField;
 import mekanism.common.tier.EnergyCubeTier;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.component.ITileComponent;
@@ -172,4 +174,11 @@ public class TileEntityEnergyCube extends TileEntityMekanism implements ISideCon
         super.handleUpdateTag(state, tag);
         NBTUtils.setFloatIfPresent(tag, NBTConstants.SCALE, scale -> prevScale = scale);
     }
+
+    @Override
+    protected void addSyncFields(List<TileSyncField> fields) {
+        super.addSyncFields(fields);
+        addComponentSyncField(fields);
+        fields.add(TileSyncField.ofFloat(() -> prevScale, scale -> prevScale = scale));
+    }
 }
\ No newline at end of file
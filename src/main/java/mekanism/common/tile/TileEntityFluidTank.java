@@ -1,6 +1,7 @@
 package mekanism.common.tile;
 
 import java.util.EnumSet;
+import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
@@ -21,6 +22,7 @@ import mekanism.common.inventory.container.slot.SlotOverlay;
 import mekanism.common.inventory.container.sync.SyncableEnum;
 import mekanism.common.inventory.slot.FluidInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
+import mekanism.common.network.tile.TileSyncField;
 import mekanism.common.tier.FluidTankTier;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.component.ITileComponent;
@@ -252,4 +254,17 @@ public class TileEntityFluidTank extends TileEntityMekanism implements IConfigur
         //TODO: Do we want to only bother doing this if the fluid *does* have a light value attached?
         updateClientLight = true;
     }
+
+    @Override
+    protected void addSyncFields(List<TileSyncField> fields) {
+        super.addSyncFields(fields);
+        addComponentSyncField(fields);
+        fields.add(TileSyncField.ofFluidStack(fluidTank::getFluid, fluid -> {
+            fluidTank.setStack(fluid);
+            //Set the client's light to update just in case the value changed
+            updateClientLight = true;
+        }));
+        fields.add(TileSyncField.ofFluidStack(() -> valveFluid, fluid -> valveFluid = fluid));
+        fields.add(TileSyncField.ofFloat(() -> prevScale, scale -> prevScale = scale));
+    }
 }
\ No newline at end of file
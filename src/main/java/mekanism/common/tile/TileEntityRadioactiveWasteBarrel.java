@@ -1,6 +1,7 @@
 package mekanism.common.tile;
 
 import java.util.EnumSet;
+import java.util.List;
 import javax.annotation.Nonnull;
 import mekanism.api.Action;
 import mekanism.api.IConfigurable;
@@ -14,6 +15,7 @@ import mekanism.common.capabilities.chemical.StackedWasteBarrel;
 import mekanism.common.capabilities.holder.chemical.ChemicalTankHelper;
 import mekanism.common.capabilities.holder.chemical.IChemicalTankHolder;
 import mekanism.common.capabilities.resolver.basic.BasicCapabilityResolver;
+import mekanism.common.network.tile.TileSyncField;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.ChemicalUtil;
@@ -128,6 +130,14 @@ public class TileEntityRadioactiveWasteBarrel extends TileEntityMekanism impleme
         NBTUtils.setIntIfPresent(tag, NBTConstants.PROGRESS, val -> processTicks = val);
     }
 
+    @Override
+    protected void addSyncFields(List<TileSyncField> fields) {
+        super.addSyncFields(fields);
+        addComponentSyncField(fields);
+        fields.add(TileSyncField.ofChemicalStack(gasTank::getStack, gasTank::setStackUnchecked, GasStack::readFromPacket));
+        fields.add(TileSyncField.ofInt(() -> processTicks, val -> processTicks = val));
+    }
+
     @Override
     public int getRedstoneLevel() {
         return MekanismUtils.redstoneLevelFromContents(gasTank.getStored(), gasTank.getCapacity());
@@ -81,6 +81,7 @@ import mekanism.common.item.ItemConfigurator;
 import mekanism.common.lib.frequency.IFrequencyHandler;
 import mekanism.common.lib.frequency.TileComponentFrequency;
 import mekanism.common.lib.security.ISecurityTile;
+import mekanism.common.network.tile.TileSyncField;
 import mekanism.common.tile.component.ITileComponent;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentSecurity;
@@ -702,6 +703,23 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
     }
 
+    /**
+     * Adds a sync field for the data our components add to the update tag, for use by tiles that declare sync fields.
+     */
+    protected void addComponentSyncField(List<TileSyncField> fields) {
+        fields.add(TileSyncField.ofTag(() -> {
+            CompoundNBT componentTag = new CompoundNBT();
+            for (ITileComponent component : components) {
+                component.addToUpdateTag(componentTag);
+            }
+            return componentTag;
+        }, componentTag -> {
+            for (ITileComponent component : components) {
+                component.readFromUpdateTag(componentTag);
+            }
+        }));
+    }
+
     public void onNeighborChange(Block block, BlockPos neighborPos) {
         if (!isRemote() && supportsRedstone()) {
             updatePower();
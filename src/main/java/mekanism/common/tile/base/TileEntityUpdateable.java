@@ -1,15 +1,20 @@
 package mekanism.common.tile.base;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.common.Mekanism;
-import mekanism.common.network.PacketUpdateTile;
+import mekanism.common.network.tile.TileFieldSync;
+import mekanism.common.network.tile.TileSyncField;
+import mekanism.common.network.tile.TileUpdateQueue;
 import mekanism.common.tile.interfaces.ITileWrapper;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.NetworkManager;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.network.PacketDirection;
 import net.minecraft.network.play.server.SUpdateTileEntityPacket;
 import net.minecraft.tileentity.TileEntity;
@@ -23,6 +28,10 @@ import net.minecraft.world.World;
  */
 public abstract class TileEntityUpdateable extends TileEntity implements ITileWrapper {
 
+    @Nullable
+    private TileFieldSync fieldSync;
+    private boolean fieldSyncInitialized;
+
     public TileEntityUpdateable(TileEntityType<?> type) {
         super(type);
     }
@@ -106,6 +115,37 @@ public abstract class TileEntityUpdateable extends TileEntity implements ITileWr
         handleUpdateTag(getBlockState(), tag);
     }
 
+    /**
+     * Declares the fields that update packets for this tile consist of. If a tile declares any fields, update packets only contain the declared fields that changed
+     * since a player last received them instead of the full {@link #getReducedUpdateTag()}, so the fields must cover everything in the reduced update tag that can
+     * change while a player is tracking the tile.
+     */
+    protected void addSyncFields(List<TileSyncField> fields) {
+    }
+
+    /**
+     * @return The sync fields of this tile, or {@code null} if it doesn't declare any.
+     */
+    @Nullable
+    public TileFieldSync getFieldSync() {
+        if (!fieldSyncInitialized) {
+            fieldSyncInitialized = true;
+            List<TileSyncField> fields = new ArrayList<>();
+            addSyncFields(fields);
+            fieldSync = TileFieldSync.create(fields);
+        }
+        return fieldSync;
+    }
+
+    public void handleFieldUpdate(PacketBuffer buffer) {
+        TileFieldSync fieldSync = getFieldSync();
+        if (fieldSync == null) {
+            Mekanism.logger.warn("Received field update for tile at {} that doesn't declare any sync fields.", getPos());
+        } else {
+            fieldSync.read(buffer);
+        }
+    }
+
     public void sendUpdatePacket() {
         sendUpdatePacket(this);
     }
@@ -118,8 +158,9 @@ public abstract class TileEntityUpdateable extends TileEntity implements ITileWr
         } else {
             //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
             // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
-            // does not need to and should not be redrawn
-            Mekanism.packetHandler.sendToAllTracking(new PacketUpdateTile(this), tracking);
+            // does not need to and should not be redrawn. Updates are queued so that multiple updates in the same
+            // tick only get sent once and get batched with the other updates in the same chunk
+            TileUpdateQueue.queue(this, tracking);
         }
     }
 
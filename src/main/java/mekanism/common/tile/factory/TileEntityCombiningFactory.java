@@ -47,7 +47,7 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getMainInput().testType(stack));
+        return containsRecipe(stack, recipe -> recipe.getMainInput().testType(stack));
     }
 
     @Override
@@ -67,7 +67,7 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
         }
         ItemStack extra = extraSlot.getStack();
         ItemStack output = outputSlot.getStack();
-        CombinerRecipe foundRecipe = findFirstRecipe(recipe -> {
+        CombinerRecipe foundRecipe = findFirstRecipe(process, fallbackInput, recipe -> {
             if (recipe.getMainInput().testType(fallbackInput)) {
                 if (extra.isEmpty() || recipe.getExtraInput().testType(extra)) {
                     return ItemHandlerHelper.canItemStacksStack(recipe.getOutput(fallbackInput, extra), output);
@@ -109,7 +109,7 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
         if (extra.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, extra));
+        return findFirstRecipe(cacheIndex, stack, recipe -> recipe.test(stack, extra));
     }
 
     @Override
@@ -31,6 +31,7 @@ import mekanism.common.inventory.container.sync.SyncableFloatingLong;
 import mekanism.common.inventory.container.sync.SyncableInt;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.lib.transmitter.TransmissionType;
+import mekanism.common.recipe.lookup.LastRecipeMatchCache;
 import mekanism.common.tier.FactoryTier;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.component.TileComponentConfig;
@@ -57,6 +58,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     private static final int BASE_TICKS_REQUIRED = 200;
 
     private final CachedRecipe<RECIPE>[] cachedRecipes;
+    private final LastRecipeMatchCache<RECIPE> lastRecipeMatches;
     private final boolean[] activeStates;
     protected ProcessInfo[] processInfoSlots;
     /**
@@ -116,6 +118,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
 
         progress = new int[tier.processes];
         cachedRecipes = new CachedRecipe[tier.processes];
+        lastRecipeMatches = new LastRecipeMatchCache<>(tier.processes);
         activeStates = new boolean[cachedRecipes.length];
         addCapabilityResolver(BasicCapabilityResolver.constant(Capabilities.CONFIG_CARD_CAPABILITY, this));
         addCapabilityResolver(BasicCapabilityResolver.constant(Capabilities.SPECIAL_CONFIG_DATA_CAPABILITY, this));
@@ -239,6 +242,12 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         return cachedRecipes[cacheIndex];
     }
 
+    @Nonnull
+    @Override
+    public LastRecipeMatchCache<RECIPE> getLastRecipeMatches() {
+        return lastRecipeMatches;
+    }
+
     protected void updateCachedRecipe(@Nonnull CachedRecipe<RECIPE> newCache, int cacheIndex) {
         //TODO: Sanitize that cacheIndex is in bounds?
         cachedRecipes[cacheIndex] = newCache;
@@ -24,7 +24,7 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getInput().testType(stack));
+        return containsRecipe(stack, recipe -> recipe.getInput().testType(stack));
     }
 
     @Override
@@ -40,7 +40,7 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
         }
         //If there is no cached item input or it doesn't match our fallback then it is an out of date cache, so we ignore the fact that we have a cache
         ItemStack output = outputSlot.getStack();
-        ItemStackToItemStackRecipe foundRecipe = findFirstRecipe(
+        ItemStackToItemStackRecipe foundRecipe = findFirstRecipe(process, fallbackInput,
               recipe -> recipe.getInput().testType(fallbackInput) && ItemHandlerHelper.canItemStacksStack(recipe.getOutput(fallbackInput), output));
         if (foundRecipe == null) {
             //We could not find any valid recipe for the given item that matches the items in the current output slots
@@ -81,7 +81,7 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(cacheIndex, stack, recipe -> recipe.test(stack));
     }
 
     @Override
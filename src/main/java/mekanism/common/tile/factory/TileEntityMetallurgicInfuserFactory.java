@@ -71,7 +71,7 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getItemInput().testType(stack));
+        return containsRecipe(stack, recipe -> recipe.getItemInput().testType(stack));
     }
 
     @Override
@@ -92,7 +92,7 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
         long stored = infusionTank.getStored();
         InfuseType type = infusionTank.getType();
         ItemStack output = outputSlot.getStack();
-        MetallurgicInfuserRecipe foundRecipe = findFirstRecipe(recipe -> {
+        MetallurgicInfuserRecipe foundRecipe = findFirstRecipe(process, fallbackInput, recipe -> {
             //Check the infusion type before the ItemStack type as it a quicker easier compare check
             if (stored == 0 || recipe.getInfusionInput().testType(type)) {
                 return recipe.getItemInput().testType(fallbackInput) && ItemHandlerHelper.canItemStacksStack(recipe.getOutput(infusionTank.getStack(), fallbackInput), output);
@@ -143,7 +143,7 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
         if (infusionStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(infusionStack, stack));
+        return findFirstRecipe(cacheIndex, stack, recipe -> recipe.test(infusionStack, stack));
     }
 
     @Override
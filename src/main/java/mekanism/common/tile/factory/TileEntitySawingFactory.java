@@ -58,7 +58,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getInput().testType(stack));
+        return containsRecipe(stack, recipe -> recipe.getInput().testType(stack));
     }
 
     @Override
@@ -74,7 +74,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
         //If there is no cached item input or it doesn't match our fallback then it is an out of date cache, so we ignore the fact that we have a cache
         ItemStack output = outputSlot.getStack();
         ItemStack extra = secondaryOutputSlot == null ? ItemStack.EMPTY : secondaryOutputSlot.getStack();
-        SawmillRecipe foundRecipe = findFirstRecipe(recipe -> {
+        SawmillRecipe foundRecipe = findFirstRecipe(process, fallbackInput, recipe -> {
             if (recipe.getInput().testType(fallbackInput)) {
                 ChanceOutput chanceOutput = recipe.getOutput(fallbackInput);
                 if (ItemHandlerHelper.canItemStacksStack(chanceOutput.getMainOutput(), output)) {
@@ -119,7 +119,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(cacheIndex, stack, recipe -> recipe.test(stack));
     }
 
     @Override
@@ -7,6 +7,7 @@ import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.ICachedRecipeHolder;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.LastRecipeMatchCache;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
 
@@ -35,6 +36,44 @@ public interface ITileCachedRecipeHolder<RECIPE extends MekanismRecipe> extends
         return getRecipeType().findFirst(getTileWorld(), matchCriteria);
     }
 
+    /**
+     * Checks if any recipe matches the given criteria, only checking the recipes whose indexed input may accept the given input.
+     *
+     * @see MekanismRecipeType#contains(World, Object, Predicate)
+     */
+    default boolean containsRecipe(@Nonnull Object input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), input, matchCriteria);
+    }
+
+    /**
+     * Finds the first recipe that matches the given criteria, only checking the recipes whose indexed input may accept the given input.
+     *
+     * @see MekanismRecipeType#findFirst(World, Object, Predicate)
+     */
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull Object input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria);
+    }
+
+    /**
+     * Finds the first recipe for the given process that matches the given criteria, only checking the recipes whose indexed input may accept the given input. The last
+     * recipe the process matched for the same type of input is checked first.
+     *
+     * @see MekanismRecipeType#findFirst(World, Object, Predicate, LastRecipeMatchCache, int)
+     */
+    @Nullable
+    default RECIPE findFirstRecipe(int cacheIndex, @Nonnull Object input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria, getLastRecipeMatches(), cacheIndex);
+    }
+
+    /**
+     * @return Cache of the last recipes each process of this holder matched, or {@code null} if this holder doesn't keep track of them.
+     */
+    @Nullable
+    default LastRecipeMatchCache<RECIPE> getLastRecipeMatches() {
+        return null;
+    }
+
     @Override
     default boolean invalidateCache() {
         return CommonWorldTickHandler.flushTagAndRecipeCaches;
@@ -68,7 +68,7 @@ public class TileEntityCombiner extends TileEntityProgressMachine<CombinerRecipe
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
         //TODO: Should we limit ACTUAL insertion to be based on the other slot's contents?
-        builder.addSlot(mainInputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getMainInput().testType(item)), this, 64, 17));
+        builder.addSlot(mainInputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getMainInput().testType(item)), this, 64, 17));
         builder.addSlot(extraInputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getExtraInput().testType(item)), this, 64, 53));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 39, 35));
@@ -103,7 +103,7 @@ public class TileEntityCombiner extends TileEntityProgressMachine<CombinerRecipe
         if (extraStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, extraStack));
+        return findFirstRecipe(cacheIndex, stack, recipe -> recipe.test(stack, extraStack));
     }
 
     @Nullable
@@ -2,17 +2,20 @@ package mekanism.common.tile.machine;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
-import java.util.BitSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import mekanism.api.Action;
 import mekanism.api.NBTConstants;
 import mekanism.api.RelativeSide;
@@ -33,6 +36,9 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.filter.BaseFilter;
 import mekanism.common.content.filter.IFilter;
 import mekanism.common.content.miner.MinerFilter;
+import mekanism.common.content.miner.MinerOreIndex;
+import mekanism.common.content.miner.MinerOreIndex.OreSection;
+import mekanism.common.content.miner.MinerSearchService;
 import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.miner.ThreadMinerSearch.State;
 import mekanism.common.integration.energy.EnergyCompatUtils;
@@ -76,7 +82,6 @@ import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.vector.Vector3i;
-import net.minecraft.world.Region;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
@@ -90,8 +95,9 @@ import net.minecraftforge.items.ItemHandlerHelper;
 public class TileEntityDigitalMiner extends TileEntityMekanism implements ISustainedData, IChunkLoader, IAdvancedBoundingBlock, ITileFilterHolder<MinerFilter<?>>,
       IHasSortableFilters {
 
-    public Map<ChunkPos, BitSet> oresToMine = new Object2ObjectOpenHashMap<>();
-    public Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
+    public MinerOreIndex oreIndex = new MinerOreIndex();
+    //Sections of our area that have had blocks change in them since they were searched
+    private final LongSet dirtySections = new LongOpenHashSet();
     private HashList<MinerFilter<?>> filters = new HashList<>();
     public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
 
@@ -120,6 +126,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     private int delayTicks;
 
     private boolean initCalc = false;
+    private boolean loadedOreIndex;
+    private boolean ignoreBlockChanges;
+    //Set while writing the update tag so that we don't serialize the ore index just to throw it away
+    private boolean writingUpdateTag;
 
     private int numPowering;
 
@@ -190,17 +200,35 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         closeInvalidScreens();
         if (!initCalc) {
             if (searcher.state == State.FINISHED) {
-                boolean prevRunning = running;
-                reset();
-                start();
-                running = prevRunning;
+                if (loadedOreIndex && oreIndex.getConfigHash() == getConfigHash()) {
+                    //We saved what we found the last time we searched with the same configuration, so just continue from where we left off
+                    MinerSearchService.track(this);
+                    updateCachedToMine();
+                } else {
+                    boolean prevRunning = running;
+                    reset();
+                    start();
+                    running = prevRunning;
+                }
             }
+            loadedOreIndex = false;
             initCalc = true;
         }
 
         energySlot.fillContainerOrConvert();
 
-        if (MekanismUtils.canFunction(this) && running && searcher.state == State.FINISHED && !oresToMine.isEmpty()) {
+        if (searcher.state == State.FINISHED && !dirtySections.isEmpty()) {
+            //Search one of the sections that had blocks change in it again, so that we pick up any new blocks to mine
+            LongIterator dirtyIterator = dirtySections.iterator();
+            long sectionKey = dirtyIterator.nextLong();
+            dirtyIterator.remove();
+            //Note: If the section isn't loaded we just skip it, as any blocks we already know about get checked again when we go to mine them
+            if (searcher.rescanSection(world, oreIndex, sectionKey)) {
+                updateCachedToMine();
+            }
+        }
+
+        if (MekanismUtils.canFunction(this) && running && searcher.state == State.FINISHED && !oreIndex.isEmpty()) {
             FloatingLong energyPerTick = energyContainer.getEnergyPerTick();
             if (energyContainer.extract(energyPerTick, Action.SIMULATE, AutomationType.INTERNAL).equals(energyPerTick)) {
                 setActive(true);
@@ -210,58 +238,34 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
                 energyContainer.extract(energyPerTick, Action.EXECUTE, AutomationType.INTERNAL);
                 if (delay == 0) {
                     boolean did = false;
-                    for (Iterator<ChunkPos> it = oresToMine.keySet().iterator(); it.hasNext(); ) {
-                        ChunkPos chunk = it.next();
-                        BitSet set = oresToMine.get(chunk);
-                        int next = 0;
-                        while (!did) {
-                            int index = set.nextSetBit(next);
-                            BlockPos pos = getPosFromIndex(index);
-                            if (index == -1) {
-                                it.remove();
-                                break;
-                            }
+                    for (ObjectIterator<OreSection> it = oreIndex.iterator(); !did && it.hasNext(); ) {
+                        OreSection section = it.next();
+                        for (int index = section.nextSetBit(0); index != -1; index = section.nextSetBit(index + 1)) {
+                            BlockPos pos = section.getPos(index);
                             if (!world.isBlockPresent(pos) || world.isAirBlock(pos)) {
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                    break;
-                                }
-                                next = index + 1;
+                                section.clear(index);
                                 continue;
                             }
-                            boolean hasFilter = false;
                             BlockState state = world.getBlockState(pos);
-                            for (MinerFilter<?> filter : filters) {
-                                if (filter.canFilter(state)) {
-                                    hasFilter = true;
-                                    break;
-                                }
-                            }
-
-                            if (inverse == hasFilter || !canMine(pos)) {
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                    break;
-                                }
-                                next = index + 1;
+                            MinerFilter<?> filter = getMatchingFilter(state, section.getFilterIndex(index));
+                            if (inverse == (filter != null) || !canMine(pos)) {
+                                section.clear(index);
                                 continue;
                             }
 
                             List<ItemStack> drops = MinerUtils.getDrops((ServerWorld) world, pos, getSilkTouch(), this.pos);
-                            if (canInsert(drops) && setReplace(pos, index)) {
+                            if (canInsert(drops) && setReplace(pos, filter)) {
                                 did = true;
                                 add(drops);
-                                set.clear(index);
-                                if (set.cardinality() == 0) {
-                                    it.remove();
-                                }
+                                section.clear(index);
                                 world.playEvent(WorldEvents.BREAK_BLOCK_EFFECTS, pos, Block.getStateId(state));
                                 missingStack = ItemStack.EMPTY;
                             }
                             break;
                         }
+                        if (section.isEmpty()) {
+                            it.remove();
+                        }
                     }
                     delay = getDelay();
                     //Update the cached to mine value now that we have actually performed a mine
@@ -412,15 +416,16 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     /**
      * @return false if unsuccessful
      */
-    private boolean setReplace(BlockPos pos, int index) {
+    private boolean setReplace(BlockPos pos, @Nullable MinerFilter<?> filter) {
         if (world == null) {
             return false;
         }
-        MinerFilter<?> filter = replaceMap.get(index);
         ItemStack stack = getReplace(filter);
         if (stack.isEmpty()) {
             if (filter == null || filter.replaceStack.isEmpty() || !filter.requireStack) {
+                ignoreBlockChanges = true;
                 world.removeBlock(pos, false);
+                ignoreBlockChanges = false;
                 return true;
             }
             missingStack = filter.replaceStack;
@@ -432,10 +437,31 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             //If the spot is not a valid position for the block, then we return that we were unsuccessful
             return false;
         }
+        ignoreBlockChanges = true;
         world.setBlockState(pos, newState);
+        ignoreBlockChanges = false;
         return true;
     }
 
+    /**
+     * Gets the filter that matches the given state, checking the filter that matched when the block was found first.
+     */
+    @Nullable
+    private MinerFilter<?> getMatchingFilter(BlockState state, int filterIndex) {
+        if (filterIndex != MinerOreIndex.NO_FILTER && filterIndex < filters.size()) {
+            MinerFilter<?> filter = filters.get(filterIndex);
+            if (filter.canFilter(state)) {
+                return filter;
+            }
+        }
+        for (MinerFilter<?> filter : filters) {
+            if (filter.canFilter(state)) {
+                return filter;
+            }
+        }
+        return null;
+    }
+
     private boolean canMine(BlockPos pos) {
         if (world == null) {
             return false;
@@ -573,9 +599,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             return;
         }
         if (searcher.state == State.IDLE) {
-            BlockPos startingPos = getStartingPos();
-            searcher.setChunkCache(new Region(getWorld(), startingPos, startingPos.add(getDiameter(), getMaxY() - getMinY() + 1, getDiameter())));
             searcher.start();
+            MinerSearchService.track(this);
         }
         running = true;
         markDirty(false);
@@ -583,7 +608,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
             reset();
             return;
         } else if (searcher.state == State.FINISHED) {
@@ -593,11 +617,14 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     }
 
     public void reset() {
+        //Make sure any search that is still queued or running gets stopped
+        searcher.cancel();
         searcher = new ThreadMinerSearch(this);
+        MinerSearchService.untrack(this);
         running = false;
         cachedToMine = 0;
-        oresToMine.clear();
-        replaceMap.clear();
+        oreIndex = new MinerOreIndex();
+        dirtySections.clear();
         missingStack = ItemStack.EMPTY;
         setActive(false);
         markDirty(false);
@@ -613,7 +640,39 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     }
 
     private void updateCachedToMine() {
-        cachedToMine = oresToMine.values().stream().mapToInt(BitSet::cardinality).sum();
+        cachedToMine = oreIndex.size();
+    }
+
+    /**
+     * @return Hash of the parts of the miner's configuration that affect what blocks it finds when searching.
+     */
+    public int getConfigHash() {
+        int hash = getPos().hashCode();
+        hash = 31 * hash + radius;
+        hash = 31 * hash + minY;
+        hash = 31 * hash + maxY;
+        hash = 31 * hash + Boolean.hashCode(inverse);
+        for (MinerFilter<?> filter : filters) {
+            //Note: We use the serialized filter as not all filters have a hash code that stays the same after being reloaded
+            hash = 31 * hash + filter.write(new CompoundNBT()).hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Called when a block changes in the world this miner is in, marks the section the block is in as needing to be searched again if it is in our area.
+     */
+    public void onBlockChanged(BlockPos changedPos) {
+        if (ignoreBlockChanges || (searcher.state != State.SEARCHING && searcher.state != State.FINISHED)) {
+            return;
+        }
+        int diameter = getDiameter();
+        int x = changedPos.getX() - (pos.getX() - radius);
+        int z = changedPos.getZ() - (pos.getZ() - radius);
+        int y = changedPos.getY();
+        if (x >= 0 && x < diameter && z >= 0 && z < diameter && y >= getMinY() && y <= getMaxY()) {
+            dirtySections.add(MinerOreIndex.getSectionKey(changedPos.getX(), y, changedPos.getZ()));
+        }
     }
 
     @Override
@@ -623,6 +682,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         delay = nbtTags.getInt(NBTConstants.DELAY);
         numPowering = nbtTags.getInt(NBTConstants.NUM_POWERING);
         NBTUtils.setEnumIfPresent(nbtTags, NBTConstants.STATE, State::byIndexStatic, s -> searcher.state = s);
+        if (nbtTags.contains(NBTConstants.ORE_INDEX, NBT.TAG_COMPOUND)) {
+            oreIndex.read(nbtTags.getCompound(NBTConstants.ORE_INDEX));
+            loadedOreIndex = true;
+        }
         setConfigurationData(nbtTags);
     }
 
@@ -637,6 +700,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         nbtTags.putInt(NBTConstants.DELAY, delay);
         nbtTags.putInt(NBTConstants.NUM_POWERING, numPowering);
         nbtTags.putInt(NBTConstants.STATE, searcher.state.ordinal());
+        if (searcher.state == State.FINISHED && !writingUpdateTag) {
+            //Save what we found so that we don't have to search again when we get loaded
+            nbtTags.put(NBTConstants.ORE_INDEX, oreIndex.write());
+        }
         return getConfigurationData(nbtTags);
     }
 
@@ -652,10 +719,16 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         return new BlockPos(getPos().getX() - radius, getMinY(), getPos().getZ() - radius);
     }
 
-    private BlockPos getPosFromIndex(int index) {
-        int diameter = getDiameter();
-        BlockPos start = getStartingPos();
-        return start.add(index % diameter, index / diameter / diameter, (index / diameter) % diameter);
+    @Override
+    public void remove() {
+        super.remove();
+        MinerSearchService.untrack(this);
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        MinerSearchService.untrack(this);
     }
 
     @Override
@@ -948,7 +1021,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     @Nonnull
     @Override
     public CompoundNBT getReducedUpdateTag() {
+        //The client has no use for what blocks we have found so don't write them
+        writingUpdateTag = true;
         CompoundNBT updateTag = super.getReducedUpdateTag();
+        writingUpdateTag = false;
         updateTag.putInt(NBTConstants.RADIUS, getRadius());
         updateTag.putInt(NBTConstants.MIN, getMinY());
         updateTag.putInt(NBTConstants.MAX, getMaxY());
@@ -136,7 +136,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityRecipeMachine<Ele
     @Override
     protected IFluidTankHolder getInitialFluidTanks() {
         FluidTankHelper builder = FluidTankHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addTank(fluidTank = BasicFluidTank.input(24_000, fluid -> containsRecipe(recipe -> recipe.getInput().testType(fluid)), this));
+        builder.addTank(fluidTank = BasicFluidTank.input(24_000, fluid -> containsRecipe(fluid, recipe -> recipe.getInput().testType(fluid)), this));
         return builder.build();
     }
 
@@ -230,7 +230,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityRecipeMachine<Ele
         if (fluid.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(fluid));
+        return findFirstRecipe(cacheIndex, fluid, recipe -> recipe.test(fluid));
     }
 
     @Nullable
@@ -1,14 +1,17 @@
 package mekanism.common.tile.prefab;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.providers.IBlockProvider;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.CachedRecipe;
+import mekanism.common.recipe.lookup.LastRecipeMatchCache;
 import mekanism.common.tile.interfaces.ITileCachedRecipeHolder;
 
 public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe> extends TileEntityConfigurableMachine implements ITileCachedRecipeHolder<RECIPE> {
 
     protected CachedRecipe<RECIPE> cachedRecipe = null;
+    private final LastRecipeMatchCache<RECIPE> lastRecipeMatches = new LastRecipeMatchCache<>(1);
 
     protected TileEntityRecipeMachine(IBlockProvider blockProvider) {
         super(blockProvider);
@@ -20,6 +23,12 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe> ext
         return cachedRecipe;
     }
 
+    @Nonnull
+    @Override
+    public LastRecipeMatchCache<RECIPE> getLastRecipeMatches() {
+        return lastRecipeMatches;
+    }
+
     @Override
     public boolean renderUpdate() {
         return true;
@@ -1,6 +1,6 @@
 package mekanism.common.util;
 
-import java.util.Set;
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.lib.distribution.FloatingLongSplitInfo;
@@ -28,26 +28,33 @@ public class EmitUtils {
      * @return The amount that actually got sent.
      */
     private static <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE sendToAcceptors(
-          Set<TARGET> availableTargets, int totalTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
+          Collection<TARGET> availableTargets, int totalTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
         if (availableTargets.isEmpty() || totalTargets == 0) {
             return splitInfo.getTotalSent();
         }
 
         //Simulate addition, sending when the requested amount is less than the amountPer
         // splitInfo gets adjusted to account for how much is actually sent
-        availableTargets.forEach(target -> target.sendPossible(toSend, splitInfo));
+        // Note: We use plain loops instead of forEach so that we don't have to allocate a capturing lambda each time we distribute
+        for (TARGET target : availableTargets) {
+            target.sendPossible(toSend, splitInfo);
+        }
 
         //Only run this if we changed the amountPer from when we first/last ran things
         while (splitInfo.amountPerChanged) {
             splitInfo.amountPerChanged = false;
             //splitInfo gets adjusted to account for how much is actually sent,
             // and if amountPer got changed again and we need to rerun this
-            availableTargets.forEach(target -> target.shiftNeeded(splitInfo));
+            for (TARGET target : availableTargets) {
+                target.shiftNeeded(splitInfo);
+            }
         }
 
         //Evenly distribute the remaining amount we have to give between all targets and handlers
         // splitInfo gets adjusted to account for how much is actually sent
-        availableTargets.forEach(target -> target.sendRemainingSplit(splitInfo));
+        for (TARGET target : availableTargets) {
+            target.sendRemainingSplit(splitInfo);
+        }
         return splitInfo.getTotalSent();
     }
 
@@ -62,7 +69,7 @@ public class EmitUtils {
      *
      * @return The amount that actually got sent.
      */
-    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(Set<TARGET> availableTargets, int totalTargets, int amountToSplit,
+    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(Collection<TARGET> availableTargets, int totalTargets, int amountToSplit,
           EXTRA toSend) {
         return sendToAcceptors(availableTargets, totalTargets, new IntegerSplitInfo(amountToSplit, totalTargets), toSend);
     }
@@ -78,7 +85,7 @@ public class EmitUtils {
      *
      * @return The amount that actually got sent.
      */
-    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Long, EXTRA>> long sendToAcceptors(Set<TARGET> availableTargets, int totalTargets, long amountToSplit,
+    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Long, EXTRA>> long sendToAcceptors(Collection<TARGET> availableTargets, int totalTargets, long amountToSplit,
           EXTRA toSend) {
         return sendToAcceptors(availableTargets, totalTargets, new LongSplitInfo(amountToSplit, totalTargets), toSend);
     }
@@ -90,11 +97,29 @@ public class EmitUtils {
      *
      * @return The amount that actually got sent
      */
-    public static <HANDLER, TARGET extends Target<HANDLER, FloatingLong, FloatingLong>> FloatingLong sendToAcceptors(Set<TARGET> availableTargets, int totalTargets,
+    public static <HANDLER, TARGET extends Target<HANDLER, FloatingLong, FloatingLong>> FloatingLong sendToAcceptors(Collection<TARGET> availableTargets, int totalTargets,
           FloatingLong amountToSplit) {
         return sendToAcceptors(availableTargets, totalTargets, new FloatingLongSplitInfo(amountToSplit, totalTargets), amountToSplit);
     }
 
+    /**
+     * @param <HANDLER>        The handler of our target.
+     * @param <TYPE>           The type of the number
+     * @param <EXTRA>          Any extra information we may need
+     * @param <TARGET>         The emitter target
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param totalTargets     The total number of targets. Note: this number is bigger than availableTargets.size if any targets have more than one acceptor.
+     * @param splitInfo        The split info to use, this must already be set up to split the amount to send between the total number of targets. This allows callers
+     *                         that send something every tick to reuse it, and to work out the split ahead of time.
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     *
+     * @return The amount that actually got sent.
+     */
+    public static <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE sendToPlannedAcceptors(
+          Collection<TARGET> availableTargets, int totalTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
+        return sendToAcceptors(availableTargets, totalTargets, splitInfo, toSend);
+    }
+
     /**
      * Simple helper to loop over each side of the block and complete an action for each tile found
      *
@@ -65,7 +65,7 @@ public final class TransporterUtils {
             float[] pos = TransporterUtils.getStackPosition(transporter, stack, 0);
             blockPos = blockPos.add(pos[0], pos[1], pos[2]);
         }
-        TransporterManager.remove(transporter.getTileWorld(), stack);
+        TransporterManager.remove(stack);
         Block.spawnAsEntity(transporter.getTileWorld(), blockPos, stack.itemStack);
     }
 
@@ -0,0 +1,71 @@
+package mekanism.api.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the implementation of FloatingLongAccumulator")
+class FloatingLongAccumulatorTest {
+
+    @Test
+    @DisplayName("Test the accumulator is modified in place")
+    void testInPlace() {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator();
+        FloatingLong view = accumulator.get();
+        accumulator.add(FloatingLong.createConst(509_876, (short) 5_555)).add(FloatingLong.createConst(13_479, (short) 6_789));
+        Assertions.assertSame(view, accumulator.get());
+        Assertions.assertEquals(FloatingLong.createConst(523_356.2344), view);
+        accumulator.subtract(FloatingLong.createConst(523_356));
+        Assertions.assertEquals(FloatingLong.createConst(0.2344), view);
+    }
+
+    @Test
+    @DisplayName("Test the accumulator clamps instead of overflowing or becoming negative")
+    void testClamping() {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(FloatingLong.MAX_VALUE);
+        accumulator.add(FloatingLong.ONE);
+        Assertions.assertEquals(FloatingLong.MAX_VALUE, accumulator.get());
+        accumulator.set(5).subtract(FloatingLong.createConst(7));
+        Assertions.assertTrue(accumulator.isZero());
+    }
+
+    @Test
+    @DisplayName("Test min and max on the accumulator")
+    void testMinMax() {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(FloatingLong.createConst(10));
+        accumulator.min(FloatingLong.createConst(12)).max(FloatingLong.createConst(3));
+        Assertions.assertEquals(FloatingLong.createConst(10), accumulator.get());
+        accumulator.min(FloatingLong.createConst(4.5));
+        Assertions.assertEquals(FloatingLong.createConst(4.5), accumulator.get());
+    }
+
+    @Test
+    @DisplayName("Test snapshots don't change with the accumulator and are only recreated when the value changes")
+    void testSnapshot() {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(FloatingLong.createConst(10));
+        FloatingLong snapshot = accumulator.snapshot();
+        Assertions.assertEquals(FloatingLong.createConst(10), snapshot);
+        Assertions.assertSame(snapshot, accumulator.snapshot());
+        accumulator.add(FloatingLong.createConst(5));
+        Assertions.assertEquals(FloatingLong.createConst(10), snapshot);
+        FloatingLong changed = accumulator.snapshot();
+        Assertions.assertEquals(FloatingLong.createConst(15), changed);
+        //Changing the value and then setting it back doesn't need a new snapshot
+        accumulator.subtract(FloatingLong.createConst(5)).add(FloatingLong.createConst(5));
+        Assertions.assertSame(changed, accumulator.snapshot());
+        //Snapshots are constants, so modifying them returns a new object rather than changing them
+        Assertions.assertNotSame(changed, changed.plusEqual(FloatingLong.ONE));
+        Assertions.assertEquals(FloatingLong.createConst(15), accumulator.get());
+    }
+
+    @Test
+    @DisplayName("Test comparing to unsigned longs")
+    void testCompareToLong() {
+        Assertions.assertEquals(0, FloatingLong.createConst(42).compareTo(42L));
+        Assertions.assertTrue(FloatingLong.createConst(42, (short) 1).compareTo(42L) > 0);
+        Assertions.assertTrue(FloatingLong.createConst(41, (short) 9_999).compareTo(42L) < 0);
+        //Values past Long.MAX_VALUE are compared as unsigned
+        Assertions.assertTrue(FloatingLong.MAX_VALUE.compareTo(Long.MAX_VALUE) > 0);
+        Assertions.assertTrue(FloatingLong.createConst(Long.MAX_VALUE).compareTo(-1L) < 0);
+    }
+}
@@ -0,0 +1,175 @@
+package mekanism.api.math;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the 128 bit multiplication and division of FloatingLong against BigDecimal")
+class FloatingLongWideMathTest {
+
+    private static final BigInteger UNSIGNED_LONG_RANGE = BigInteger.ONE.shiftLeft(64);
+    private static final BigDecimal MAX_VALUE = toBigDecimal(FloatingLong.MAX_VALUE);
+    //Values that are interesting for the 128 bit math, the whole number portion of their units either fits in 64 bits or needs the high bits, and some of them
+    // are close to the max value
+    private static final FloatingLong[] EDGE_CASES = {
+          FloatingLong.createConst(0, (short) 1),
+          FloatingLong.createConst(0, (short) 5_000),
+          FloatingLong.createConst(1),
+          FloatingLong.createConst(1, (short) 1),
+          FloatingLong.createConst(3),
+          FloatingLong.createConst(1_844_674_407_370_955L, (short) 1_615),
+          FloatingLong.createConst(1_844_674_407_370_956L),
+          FloatingLong.createConst(1L << 32, (short) 5_000),
+          FloatingLong.createConst(Long.MAX_VALUE, (short) 9_999),
+          FloatingLong.createConst(Long.MIN_VALUE),
+          FloatingLong.createConst(-2, (short) 1),
+          FloatingLong.MAX_VALUE
+    };
+
+    private static BigInteger toUnsigned(long value) {
+        BigInteger unsigned = BigInteger.valueOf(value);
+        return value < 0 ? unsigned.add(UNSIGNED_LONG_RANGE) : unsigned;
+    }
+
+    private static BigDecimal toBigDecimal(FloatingLong value) {
+        return new BigDecimal(toUnsigned(value.getValue())).add(BigDecimal.valueOf(value.getDecimal(), 4));
+    }
+
+    /**
+     * Converts the result of an operation back to a {@link FloatingLong} rounding it to four decimal places, and clamping it at the max value.
+     */
+    private static FloatingLong fromBigDecimal(BigDecimal value, RoundingMode roundingMode) {
+        value = value.setScale(4, roundingMode);
+        if (value.compareTo(MAX_VALUE) >= 0) {
+            return FloatingLong.MAX_VALUE;
+        }
+        BigInteger[] parts = value.unscaledValue().divideAndRemainder(BigInteger.valueOf(10_000));
+        //Note: longValue gives the lower 64 bits, which is the unsigned representation of the whole number portion
+        return FloatingLong.create(parts[0].longValue(), parts[1].shortValueExact());
+    }
+
+    private static void assertMultiply(FloatingLong a, FloatingLong b) {
+        //Multiplication truncates anything past our precision
+        FloatingLong expected = fromBigDecimal(toBigDecimal(a).multiply(toBigDecimal(b)), RoundingMode.DOWN);
+        Assertions.assertEquals(expected, a.copy().timesEqual(b), () -> a + " * " + b);
+    }
+
+    private static void assertDivide(FloatingLong a, FloatingLong b) {
+        FloatingLong expected = fromBigDecimal(toBigDecimal(a).divide(toBigDecimal(b), 4, RoundingMode.HALF_EVEN), RoundingMode.UNNECESSARY);
+        Assertions.assertEquals(expected, a.copy().divideEquals(b), () -> a + " / " + b);
+    }
+
+    private static FloatingLong random(Random random) {
+        //Spread the values across all magnitudes rather than having almost all of them be huge
+        long value = random.nextLong() >>> random.nextInt(64);
+        return FloatingLong.create(value, (short) random.nextInt(10_000));
+    }
+
+    @Test
+    @DisplayName("Test the high bits of unsigned long multiplication")
+    void testMultiplyHighUnsigned() {
+        long[] values = {0, 1, 2, 10_000, Integer.MAX_VALUE, 0xFFFFFFFFL, 1L << 32, Long.MAX_VALUE, Long.MIN_VALUE, -2, -1};
+        for (long a : values) {
+            for (long b : values) {
+                long expected = toUnsigned(a).multiply(toUnsigned(b)).shiftRight(64).longValue();
+                Assertions.assertEquals(expected, FloatingLong.multiplyHighUnsigned(a, b), () -> Long.toUnsignedString(a) + " * " + Long.toUnsignedString(b));
+            }
+        }
+        Random random = new Random(0);
+        for (int i = 0; i < 10_000; i++) {
+            long a = random.nextLong();
+            long b = random.nextLong();
+            Assertions.assertEquals(toUnsigned(a).multiply(toUnsigned(b)).shiftRight(64).longValue(), FloatingLong.multiplyHighUnsigned(a, b));
+        }
+    }
+
+    @Test
+    @DisplayName("Test multiplying edge cases")
+    void testMultiplyEdgeCases() {
+        for (FloatingLong a : EDGE_CASES) {
+            for (FloatingLong b : EDGE_CASES) {
+                assertMultiply(a, b);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test multiplying random values")
+    void testMultiplyRandom() {
+        Random random = new Random(0);
+        for (int i = 0; i < 10_000; i++) {
+            assertMultiply(random(random), random(random));
+        }
+    }
+
+    @Test
+    @DisplayName("Test multiplication truncates past the precision of the decimal")
+    void testMultiplyTruncates() {
+        Assertions.assertEquals(FloatingLong.ZERO, FloatingLong.create(0, (short) 1).timesEqual(FloatingLong.create(0, (short) 9_999)));
+        //1.99970001 truncates to 1.9997
+        Assertions.assertEquals(FloatingLong.create(1, (short) 9_997), FloatingLong.create(1, (short) 9_999).timesEqual(FloatingLong.create(0, (short) 9_999)));
+    }
+
+    @Test
+    @DisplayName("Test multiplication clamps when only the decimals make it overflow")
+    void testMultiplyClamps() {
+        //The whole numbers multiply to exactly the max whole number, but the decimal pushes it past the max value
+        Assertions.assertEquals(FloatingLong.MAX_VALUE, FloatingLong.create(-1).timesEqual(FloatingLong.create(1, (short) 1)));
+        //The product of the units needs more than 64 bits, but still fits
+        Assertions.assertEquals(FloatingLong.create(Long.MIN_VALUE, (short) 0), FloatingLong.create(1L << 62).timesEqual(FloatingLong.create(2)));
+        //Just over the max value after combining the whole number and decimal
+        Assertions.assertEquals(FloatingLong.MAX_VALUE, FloatingLong.create(1L << 32, (short) 5_000).timesEqual(FloatingLong.create(1L << 32)));
+    }
+
+    @Test
+    @DisplayName("Test dividing edge cases")
+    void testDivideEdgeCases() {
+        for (FloatingLong a : EDGE_CASES) {
+            for (FloatingLong b : EDGE_CASES) {
+                assertDivide(a, b);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test dividing random values")
+    void testDivideRandom() {
+        Random random = new Random(0);
+        for (int i = 0; i < 10_000; i++) {
+            FloatingLong b = random(random);
+            if (!b.isZero()) {
+                assertDivide(random(random), b);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test division rounds half even")
+    void testDivideRoundsHalfEven() {
+        //0.00005 rounds down to the even 0.0000
+        Assertions.assertEquals(FloatingLong.ZERO, FloatingLong.create(0, (short) 1).divideEquals(FloatingLong.create(2)));
+        //0.00015 rounds up to the even 0.0002
+        Assertions.assertEquals(FloatingLong.create(0, (short) 2), FloatingLong.create(0, (short) 3).divideEquals(FloatingLong.create(2)));
+        Assertions.assertEquals(FloatingLong.create(0, (short) 6_667), FloatingLong.create(2).divideEquals(FloatingLong.create(3)));
+        //Ties that need the high bits of the numerator
+        Assertions.assertEquals(FloatingLong.create(1L << 62, (short) 0), FloatingLong.create(Long.MIN_VALUE, (short) 1).divideEquals(FloatingLong.create(2)));
+        Assertions.assertEquals(FloatingLong.create(1L << 62, (short) 2), FloatingLong.create(Long.MIN_VALUE, (short) 3).divideEquals(FloatingLong.create(2)));
+    }
+
+    @Test
+    @DisplayName("Test division clamps when the quotient is too large")
+    void testDivideClamps() {
+        Assertions.assertEquals(FloatingLong.MAX_VALUE, FloatingLong.create(1L << 61).divideEquals(FloatingLong.create(0, (short) 1)));
+        Assertions.assertEquals(FloatingLong.MAX_VALUE, FloatingLong.MAX_VALUE.copy().divideEquals(FloatingLong.create(0, (short) 9_999)));
+    }
+
+    @Test
+    @DisplayName("Test division by zero throws")
+    void testDivideByZero() {
+        Assertions.assertThrows(ArithmeticException.class, () -> FloatingLong.create(1).divideEquals(FloatingLong.ZERO));
+    }
+}
@@ -0,0 +1,87 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import mekanism.common.content.miner.MinerOreIndex.OreSection;
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test Digital Miner ore index")
+class MinerOreIndexTest {
+
+    @Test
+    @DisplayName("Test positions are grouped by section and can be converted back")
+    void testPositions() {
+        MinerOreIndex index = new MinerOreIndex();
+        index.add(0, 0, 0, 0);
+        index.add(15, 15, 15, 1);
+        index.add(-1, 20, -17, MinerOreIndex.NO_FILTER);
+        index.add(-1, 20, -17, MinerOreIndex.NO_FILTER);
+        Assertions.assertEquals(3, index.size());
+        OreSection section = index.getSection(MinerOreIndex.getSectionKey(5, 5, 5));
+        Assertions.assertNotNull(section);
+        Assertions.assertEquals(2, section.size());
+        int first = section.nextSetBit(0);
+        Assertions.assertEquals(new BlockPos(0, 0, 0), section.getPos(first));
+        Assertions.assertEquals(0, section.getFilterIndex(first));
+        int second = section.nextSetBit(first + 1);
+        Assertions.assertEquals(new BlockPos(15, 15, 15), section.getPos(second));
+        Assertions.assertEquals(1, section.getFilterIndex(second));
+        Assertions.assertEquals(-1, section.nextSetBit(second + 1));
+        OreSection negative = index.getSection(MinerOreIndex.getSectionKey(-1, 20, -17));
+        Assertions.assertNotNull(negative);
+        int bit = negative.nextSetBit(0);
+        Assertions.assertEquals(new BlockPos(-1, 20, -17), negative.getPos(bit));
+        Assertions.assertEquals(MinerOreIndex.NO_FILTER, negative.getFilterIndex(bit));
+    }
+
+    @Test
+    @DisplayName("Test clearing blocks and removing empty sections")
+    void testClear() {
+        MinerOreIndex index = new MinerOreIndex();
+        index.add(1, 2, 3, 0);
+        index.add(40, 2, 3, 300);
+        OreSection section = index.getSection(MinerOreIndex.getSectionKey(40, 2, 3));
+        Assertions.assertNotNull(section);
+        int bit = section.nextSetBit(0);
+        //Filters that don't fit get stored as having no filter
+        Assertions.assertEquals(MinerOreIndex.NO_FILTER, section.getFilterIndex(bit));
+        section.clear(bit);
+        section.clear(bit);
+        Assertions.assertTrue(section.isEmpty());
+        for (ObjectIterator<OreSection> it = index.iterator(); it.hasNext(); ) {
+            if (it.next().isEmpty()) {
+                it.remove();
+            }
+        }
+        Assertions.assertNull(index.getSection(MinerOreIndex.getSectionKey(40, 2, 3)));
+        Assertions.assertEquals(1, index.size());
+        index.clear();
+        Assertions.assertTrue(index.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test index is the same after being saved and loaded")
+    void testSerialization() {
+        MinerOreIndex index = new MinerOreIndex();
+        index.setConfigHash(12345);
+        for (int i = 0; i < 200; i++) {
+            index.add(i * 7 % 50 - 25, i % 64, i * 13 % 50 - 25, i % 5 - 1);
+        }
+        MinerOreIndex loaded = new MinerOreIndex();
+        loaded.read(index.write());
+        Assertions.assertEquals(12345, loaded.getConfigHash());
+        Assertions.assertEquals(index.size(), loaded.size());
+        for (ObjectIterator<OreSection> it = index.iterator(); it.hasNext(); ) {
+            OreSection section = it.next();
+            OreSection loadedSection = loaded.getSection(section.getKey());
+            Assertions.assertNotNull(loadedSection);
+            for (int bit = section.nextSetBit(0); bit != -1; bit = section.nextSetBit(bit + 1)) {
+                Assertions.assertEquals(bit, loadedSection.nextSetBit(bit));
+                Assertions.assertEquals(section.getFilterIndex(bit), loadedSection.getFilterIndex(bit));
+            }
+            Assertions.assertEquals(section.size(), loadedSection.size());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package mekanism.common.content.network.distribution;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.api.Action;
+import mekanism.api.energy.IStrictEnergyHandler;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.util.EmitUtils;
+import net.minecraft.util.Direction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test distributing energy to EnergyAcceptorTargets via EmitUtils")
+class EnergyAcceptorTargetTest {
+
+    /**
+     * Splits the amount the way {@link FloatingLong#divide(long)} used to, using {@link BigDecimal BigDecimals} rounded half even to four decimal places.
+     */
+    private static FloatingLong bigDecimalSplit(FloatingLong amount, int targets) {
+        BigDecimal split = BigDecimal.valueOf(amount.getValue()).add(BigDecimal.valueOf(amount.getDecimal(), 4))
+              .divide(BigDecimal.valueOf(targets), 4, RoundingMode.HALF_EVEN);
+        return FloatingLong.create(split.longValue(), (short) split.remainder(BigDecimal.ONE).movePointRight(4).intValueExact());
+    }
+
+    private static List<EnergyAcceptorTarget> getTargets(EnergyHandler... handlers) {
+        List<EnergyAcceptorTarget> targets = new ArrayList<>();
+        for (EnergyHandler handler : handlers) {
+            EnergyAcceptorTarget target = new EnergyAcceptorTarget();
+            target.addHandler(Direction.NORTH, handler);
+            targets.add(target);
+        }
+        return targets;
+    }
+
+    @Test
+    @DisplayName("Test uneven splits give each target the same amount as the BigDecimal division")
+    void testUnevenSplit() {
+        FloatingLong[] amounts = {FloatingLong.createConst(10), FloatingLong.createConst(20), FloatingLong.create(100, (short) 1), FloatingLong.create(7, (short) 9_999),
+                                  FloatingLong.create(1_000_003, (short) 5)};
+        for (FloatingLong amount : amounts) {
+            for (int count = 2; count <= 7; count++) {
+                EnergyHandler[] handlers = new EnergyHandler[count];
+                for (int i = 0; i < count; i++) {
+                    handlers[i] = new EnergyHandler(FloatingLong.MAX_VALUE);
+                }
+                EmitUtils.sendToAcceptors(getTargets(handlers), count, amount);
+                FloatingLong expected = bigDecimalSplit(amount, count);
+                for (EnergyHandler handler : handlers) {
+                    Assertions.assertEquals(expected, handler.received, () -> amount + " split " + handlers.length + " ways");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test the split is recalculated the same as the BigDecimal division after a target accepts less than its share")
+    void testRecalculatedSplit() {
+        FloatingLong amount = FloatingLong.create(100, (short) 1);
+        FloatingLong limit = FloatingLong.createConst(10);
+        EnergyHandler limited = new EnergyHandler(limit);
+        EnergyHandler first = new EnergyHandler(FloatingLong.MAX_VALUE);
+        EnergyHandler second = new EnergyHandler(FloatingLong.MAX_VALUE);
+        FloatingLong sent = EmitUtils.sendToAcceptors(getTargets(first, limited, second), 3, amount).copy();
+        //90.0001 split two ways is exactly halfway between 45.0000 and 45.0001 so rounds to the even one
+        FloatingLong expected = bigDecimalSplit(amount.subtract(limit), 2);
+        Assertions.assertEquals(FloatingLong.createConst(45), expected);
+        Assertions.assertEquals(limit, limited.received);
+        Assertions.assertEquals(expected, first.received);
+        Assertions.assertEquals(expected, second.received);
+        Assertions.assertEquals(limit.add(expected).add(expected), sent);
+    }
+
+    @Test
+    @DisplayName("Test the amount accepted is not copied when a handler has no remainder")
+    void testZeroRemainder() {
+        FloatingLong amount = FloatingLong.create(12, (short) 3_456);
+        EnergyAcceptorTarget target = new EnergyAcceptorTarget();
+        Assertions.assertSame(amount, target.simulate(new EnergyHandler(FloatingLong.MAX_VALUE), amount));
+        Assertions.assertSame(amount, target.simulate(new EnergyHandler(amount), amount));
+        FloatingLong limit = FloatingLong.create(5, (short) 1);
+        Assertions.assertEquals(limit, target.simulate(new EnergyHandler(limit), amount));
+    }
+
+    /**
+     * Single container handler that accepts up to the given amount of energy and keeps track of how much it has received.
+     */
+    private static class EnergyHandler implements IStrictEnergyHandler {
+
+        private final FloatingLong capacity;
+        private FloatingLong received = FloatingLong.ZERO;
+
+        private EnergyHandler(FloatingLong capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public int getEnergyContainerCount() {
+            return 1;
+        }
+
+        @Override
+        public FloatingLong getEnergy(int container) {
+            return received;
+        }
+
+        @Override
+        public void setEnergy(int container, FloatingLong energy) {
+            received = energy.copy();
+        }
+
+        @Override
+        public FloatingLong getMaxEnergy(int container) {
+            return capacity;
+        }
+
+        @Override
+        public FloatingLong getNeededEnergy(int container) {
+            return capacity.subtract(received);
+        }
+
+        @Override
+        public FloatingLong insertEnergy(int container, FloatingLong amount, Action action) {
+            FloatingLong toAccept = amount.min(getNeededEnergy(container));
+            if (action.execute()) {
+                //Note: The amount we are given may be changed after we return, so add it rather than keeping a reference to it
+                received = received.add(toAccept);
+            }
+            return toAccept.equals(amount) ? FloatingLong.ZERO : amount.subtract(toAccept);
+        }
+
+        @Override
+        public FloatingLong extractEnergy(int container, FloatingLong amount, Action action) {
+            return FloatingLong.ZERO;
+        }
+    }
+}
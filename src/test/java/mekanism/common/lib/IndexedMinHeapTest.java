@@ -0,0 +1,85 @@
+package mekanism.common.lib;
+
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test IndexedMinHeap implementation")
+class IndexedMinHeapTest {
+
+    @Test
+    @DisplayName("Test elements are polled in key order")
+    void testPollOrder() {
+        IndexedMinHeap heap = new IndexedMinHeap(5);
+        heap.insertOrUpdate(0, 4);
+        heap.insertOrUpdate(1, 2);
+        heap.insertOrUpdate(2, 5);
+        heap.insertOrUpdate(3, 1);
+        heap.insertOrUpdate(4, 3);
+        Assertions.assertEquals(5, heap.size());
+        Assertions.assertEquals(3, heap.poll());
+        Assertions.assertEquals(1, heap.poll());
+        Assertions.assertEquals(4, heap.poll());
+        Assertions.assertEquals(0, heap.poll());
+        Assertions.assertEquals(2, heap.poll());
+        Assertions.assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test decreasing and increasing keys in place")
+    void testUpdateKey() {
+        IndexedMinHeap heap = new IndexedMinHeap(4);
+        heap.insertOrUpdate(0, 10);
+        heap.insertOrUpdate(1, 20);
+        heap.insertOrUpdate(2, 30);
+        heap.insertOrUpdate(2, 5);
+        Assertions.assertEquals(3, heap.size());
+        Assertions.assertEquals(2, heap.peek());
+        heap.insertOrUpdate(2, 25);
+        Assertions.assertEquals(0, heap.poll());
+        Assertions.assertEquals(1, heap.poll());
+        Assertions.assertEquals(2, heap.poll());
+    }
+
+    @Test
+    @DisplayName("Test contains and re-adding polled elements")
+    void testContains() {
+        IndexedMinHeap heap = new IndexedMinHeap(3);
+        Assertions.assertFalse(heap.contains(1));
+        heap.insertOrUpdate(1, 1);
+        Assertions.assertTrue(heap.contains(1));
+        Assertions.assertEquals(1, heap.poll());
+        Assertions.assertFalse(heap.contains(1));
+        heap.insertOrUpdate(1, 2);
+        heap.insertOrUpdate(2, 3);
+        heap.clear();
+        Assertions.assertTrue(heap.isEmpty());
+        Assertions.assertFalse(heap.contains(1));
+        Assertions.assertFalse(heap.contains(2));
+    }
+
+    @Test
+    @DisplayName("Test random updates are polled in sorted order")
+    void testRandomUpdates() {
+        int size = 500;
+        Random random = new Random(42);
+        IndexedMinHeap heap = new IndexedMinHeap(size);
+        double[] expected = new double[size];
+        for (int i = 0; i < 5 * size; i++) {
+            int id = random.nextInt(size);
+            double key = random.nextDouble();
+            heap.insertOrUpdate(id, key);
+            expected[id] = key;
+        }
+        double last = Double.NEGATIVE_INFINITY;
+        while (!heap.isEmpty()) {
+            int id = heap.peek();
+            double key = heap.getKey(id);
+            Assertions.assertEquals(expected[id], key);
+            Assertions.assertTrue(key >= last);
+            Assertions.assertEquals(id, heap.poll());
+            last = key;
+        }
+    }
+}
@@ -76,4 +76,20 @@ class DistributionTest {
             Assertions.fail(String.format("expected: <%s> to be greater or equal to: <%s>", toSend, sent));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test reusing targets after clearing them gives the same result as new targets")
+    void testReusedTargets() {
+        int toSend = 9;
+        Direction side = Direction.NORTH;
+        Set<Target<Integer, Integer, Integer>> availableAcceptors = getTargets(0, 3, 0);
+        int sent = EmitUtils.sendToAcceptors(availableAcceptors, availableAcceptors.size(), toSend, toSend);
+        int index = 0;
+        for (Target<Integer, Integer, Integer> target : availableAcceptors) {
+            target.clear();
+            Assertions.assertTrue(target.getHandlers().isEmpty());
+            target.addHandler(side, index++);
+        }
+        Assertions.assertEquals(sent, EmitUtils.sendToAcceptors(availableAcceptors, availableAcceptors.size(), toSend, toSend));
+    }
+}
@@ -0,0 +1,114 @@
+package mekanism.common.lib.radiation;
+
+import java.util.Random;
+import mekanism.api.Coord4D;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.World;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test approximating the radiation of a chunk's sources as a single source")
+class RadiationChunkTest {
+
+    //Note: We create our own key rather than using the overworld's so that we don't have to bootstrap the registries
+    private static final RegistryKey<World> DIMENSION = RegistryKey.func_240903_a_(RegistryKey.func_240904_a_(new ResourceLocation("test")),
+          new ResourceLocation("test"));
+    //Max range when using the default chunk check radius
+    private static final int MAX_RANGE = 5 * 16;
+    private static final double MAX_ERROR = 0.05;
+
+    private static Coord4D pos(int x, int y, int z) {
+        return new Coord4D(x, y, z, DIMENSION);
+    }
+
+    private static RadiationChunk chunk(RadiationSource... sources) {
+        RadiationChunk chunk = new RadiationChunk(0, 0);
+        for (RadiationSource source : sources) {
+            chunk.addSource(source);
+        }
+        return chunk;
+    }
+
+    /**
+     * Sums the radiation of each source individually, the same as if the chunk was never approximated.
+     */
+    private static double exactLevel(RadiationChunk chunk, Coord4D coord) {
+        double level = 0;
+        for (RadiationSource source : chunk.getSources()) {
+            Coord4D pos = source.getPos();
+            double dx = pos.getX() - coord.getX();
+            double dy = pos.getY() - coord.getY();
+            double dz = pos.getZ() - coord.getZ();
+            double distanceSq = dx * dx + dy * dy + dz * dz;
+            if (distanceSq <= MAX_RANGE * MAX_RANGE) {
+                level += source.getMagnitude() / Math.max(1, distanceSq);
+            }
+        }
+        return level;
+    }
+
+    private static void assertWithinError(double expected, double actual) {
+        Assertions.assertEquals(expected, actual, expected * MAX_ERROR);
+    }
+
+    @Test
+    @DisplayName("Test a cluster of sources is approximated from a few chunks away within the max range")
+    void testApproximatedCluster() {
+        Random random = new Random(42);
+        RadiationChunk chunk = new RadiationChunk(0, 0);
+        for (int i = 0; i < 20; i++) {
+            chunk.addSource(new RadiationSource(pos(4 + random.nextInt(5), 60 + random.nextInt(5), 4 + random.nextInt(5)), 1 + 10 * random.nextDouble()));
+        }
+        for (Coord4D coord : new Coord4D[]{pos(70, 64, 6), pos(6, 40, -50), pos(-40, 70, 40), pos(50, 64, 50)}) {
+            Assertions.assertTrue(chunk.isApproximated(coord, MAX_RANGE));
+            assertWithinError(exactLevel(chunk, coord), chunk.getRadiationLevel(coord, MAX_RANGE));
+        }
+    }
+
+    @Test
+    @DisplayName("Test the worst case of two sources in line with the position stays within the error")
+    void testApproximatedWorstCase() {
+        //Two equal sources eight blocks apart, with their center 32 blocks away, is the furthest the sources can spread out at that distance
+        RadiationChunk chunk = chunk(new RadiationSource(pos(0, 64, 0), 5), new RadiationSource(pos(8, 64, 0), 5));
+        Coord4D coord = pos(36, 64, 0);
+        Assertions.assertTrue(chunk.isApproximated(coord, MAX_RANGE));
+        assertWithinError(exactLevel(chunk, coord), chunk.getRadiationLevel(coord, MAX_RANGE));
+    }
+
+    @Test
+    @DisplayName("Test a single source is always approximated and exact")
+    void testSingleSource() {
+        RadiationChunk chunk = chunk(new RadiationSource(pos(8, 64, 8), 10));
+        Coord4D coord = pos(10, 64, 8);
+        Assertions.assertTrue(chunk.isApproximated(coord, MAX_RANGE));
+        Assertions.assertEquals(10 / 4D, chunk.getRadiationLevel(coord, MAX_RANGE), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Test sources that are spread out compared to their distance are summed individually")
+    void testNearbySources() {
+        RadiationChunk chunk = chunk(new RadiationSource(pos(0, 64, 0), 5), new RadiationSource(pos(15, 64, 15), 5), new RadiationSource(pos(8, 70, 3), 2));
+        Coord4D coord = pos(20, 64, 20);
+        Assertions.assertFalse(chunk.isApproximated(coord, MAX_RANGE));
+        Assertions.assertEquals(exactLevel(chunk, coord), chunk.getRadiationLevel(coord, MAX_RANGE), 1e-6);
+    }
+
+    @Test
+    @DisplayName("Test sources that are only partially in range are summed individually")
+    void testStraddlingMaxRange() {
+        RadiationChunk chunk = chunk(new RadiationSource(pos(0, 64, 0), 5), new RadiationSource(pos(4, 64, 0), 5));
+        //The first source is out of range, and the second is in range
+        Coord4D coord = pos(83, 64, 0);
+        Assertions.assertFalse(chunk.isApproximated(coord, MAX_RANGE));
+        Assertions.assertEquals(5 / (79D * 79), chunk.getRadiationLevel(coord, MAX_RANGE), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Test sources that are all out of range don't affect the level")
+    void testOutOfRange() {
+        RadiationChunk chunk = chunk(new RadiationSource(pos(0, 64, 0), 5), new RadiationSource(pos(4, 64, 0), 5));
+        Assertions.assertEquals(0, chunk.getRadiationLevel(pos(100, 64, 0), MAX_RANGE));
+    }
+}
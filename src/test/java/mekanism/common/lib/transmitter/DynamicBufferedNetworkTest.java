@@ -0,0 +1,128 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import javax.annotation.Nonnull;
+import mekanism.common.content.network.transmitter.BufferedTransmitter;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.StringTextComponent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the dormancy of buffered networks that are unable to send anything")
+class DynamicBufferedNetworkTest {
+
+    /**
+     * Updates the network for the given number of ticks and gets how many ticks were skipped between each attempt to emit.
+     */
+    private static IntList getSkippedTicks(TestNetwork<?> network, int ticks) {
+        IntList skipped = new IntArrayList();
+        int lastAttempt = -1;
+        for (int tick = 0; tick < ticks; tick++) {
+            int attempts = network.attempts;
+            network.planUpdate();
+            network.onUpdate();
+            if (network.attempts > attempts) {
+                if (lastAttempt != -1) {
+                    skipped.add(tick - lastAttempt - 1);
+                }
+                lastAttempt = tick;
+            }
+        }
+        return skipped;
+    }
+
+    private static IntList ticks(int... ticks) {
+        return IntArrayList.wrap(ticks);
+    }
+
+    @Test
+    @DisplayName("Test a network that can't send anything skips the full backoff worth of ticks")
+    void testBackoff() {
+        TestNetwork<?> network = new TestNetwork<>();
+        Assertions.assertEquals(ticks(2, 4, 8, 10, 10), getSkippedTicks(network, 40));
+    }
+
+    @Test
+    @DisplayName("Test a network that sends something doesn't skip any ticks")
+    void testNotDormant() {
+        TestNetwork<?> network = new TestNetwork<>();
+        network.canSend = true;
+        Assertions.assertEquals(ticks(0, 0, 0, 0), getSkippedTicks(network, 5));
+    }
+
+    @Test
+    @DisplayName("Test waking a dormant network makes it try again next tick and resets the backoff")
+    void testWake() {
+        TestNetwork<?> network = new TestNetwork<>();
+        getSkippedTicks(network, 20);
+        network.wake();
+        int attempts = network.attempts;
+        //Tries on the first tick and then backs off again from the start
+        Assertions.assertEquals(ticks(2, 4), getSkippedTicks(network, 9));
+        Assertions.assertEquals(attempts + 3, network.attempts);
+    }
+
+    @Test
+    @DisplayName("Test sending something after being dormant resets the backoff")
+    void testResetAfterSending() {
+        TestNetwork<?> network = new TestNetwork<>();
+        Assertions.assertEquals(ticks(2, 4), getSkippedTicks(network, 9));
+        //Stays dormant for another eight ticks before trying and succeeding
+        network.canSend = true;
+        int attempts = network.attempts;
+        getSkippedTicks(network, 9);
+        Assertions.assertEquals(attempts + 1, network.attempts);
+        network.canSend = false;
+        Assertions.assertEquals(ticks(2), getSkippedTicks(network, 4));
+    }
+
+    /**
+     * Network without any transmitters that emits whenever it isn't dormant and keeps track of how many times it did.
+     */
+    private static class TestNetwork<TRANSMITTER extends BufferedTransmitter<Object, TestNetwork<TRANSMITTER>, Object, TRANSMITTER>>
+          extends DynamicBufferedNetwork<Object, TestNetwork<TRANSMITTER>, Object, TRANSMITTER> {
+
+        private final Object buffer = new Object();
+        private boolean canSend;
+        private int attempts;
+
+        @Override
+        public void onUpdate() {
+            super.onUpdate();
+            if (!isDormant()) {
+                attempts++;
+                updateDormancy(canSend);
+            }
+        }
+
+        @Override
+        protected float computeContentScale() {
+            return 0;
+        }
+
+        @Override
+        protected void forceScaleUpdate() {
+        }
+
+        @Nonnull
+        @Override
+        public Object getBuffer() {
+            return buffer;
+        }
+
+        @Override
+        public void absorbBuffer(TRANSMITTER transmitter) {
+        }
+
+        @Override
+        public void clampBuffer() {
+        }
+
+        @Override
+        public ITextComponent getTextComponent() {
+            return new StringTextComponent("Test Network");
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package mekanism.common.recipe.lookup;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.inputs.InputIngredient;
+import net.minecraft.item.crafting.IRecipeSerializer;
+import net.minecraft.item.crafting.IRecipeType;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.ResourceLocation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test looking up recipes through an InputRecipeIndex and its caches")
+class InputRecipeIndexTest {
+
+    private static TestIndex getIndex(TestRecipe... recipes) {
+        TestIndex index = new TestIndex();
+        index.build(Arrays.asList(recipes));
+        return index;
+    }
+
+    @Test
+    @DisplayName("Test the last match is remembered and returned while it still matches")
+    void testHit() {
+        TestRecipe stone = TestRecipe.simple("stone");
+        TestRecipe dirt = TestRecipe.simple("dirt");
+        TestIndex index = getIndex(stone, dirt);
+        LastRecipeMatchCache<TestRecipe> cache = new LastRecipeMatchCache<>(1);
+        Criteria criteria = new Criteria("stone");
+        Assertions.assertSame(stone, index.findFirst("stone", criteria, cache, 0));
+        Assertions.assertSame(stone, cache.get(index, 0, "stone", criteria));
+        Assertions.assertSame(stone, index.findFirst("stone", criteria, cache, 0));
+        //The cached recipe is not returned if it no longer matches
+        criteria.disabled.add(stone);
+        Assertions.assertNull(cache.get(index, 0, "stone", criteria));
+        Assertions.assertNull(index.findFirst("stone", criteria, cache, 0));
+    }
+
+    @Test
+    @DisplayName("Test the last match is not used for a different type of input or process")
+    void testMiss() {
+        TestRecipe stone = TestRecipe.simple("stone");
+        TestRecipe dirt = TestRecipe.simple("dirt");
+        TestIndex index = getIndex(stone, dirt);
+        LastRecipeMatchCache<TestRecipe> cache = new LastRecipeMatchCache<>(2);
+        Assertions.assertSame(stone, index.findFirst("stone", new Criteria("stone"), cache, 0));
+        Assertions.assertNull(cache.get(index, 1, "stone", new Criteria("stone")));
+        Assertions.assertNull(cache.get(index, 2, "stone", new Criteria("stone")));
+        Assertions.assertSame(dirt, index.findFirst("dirt", new Criteria("dirt"), cache, 0));
+        Assertions.assertNull(cache.get(index, 0, "stone", new Criteria("stone")));
+        Assertions.assertSame(dirt, cache.get(index, 0, "dirt", new Criteria("dirt")));
+    }
+
+    @Test
+    @DisplayName("Test the cache gives the same recipe as checking all recipes in order when an earlier recipe starts matching")
+    void testOrder() {
+        TestRecipe first = TestRecipe.simple("stone");
+        TestRecipe second = TestRecipe.simple("stone");
+        TestIndex index = getIndex(first, second);
+        LastRecipeMatchCache<TestRecipe> cache = new LastRecipeMatchCache<>(1);
+        Criteria criteria = new Criteria("stone");
+        criteria.disabled.add(first);
+        Assertions.assertSame(second, index.findFirst("stone", criteria, cache, 0));
+        //The match isn't the first recipe for stone so it isn't remembered
+        Assertions.assertNull(cache.get(index, 0, "stone", criteria));
+        criteria.disabled.clear();
+        Assertions.assertSame(first, index.findFirst("stone", criteria, cache, 0));
+    }
+
+    @Test
+    @DisplayName("Test the cache gives the same recipe as checking all recipes in order when an earlier complex recipe starts matching")
+    void testComplexOrder() {
+        TestRecipe complex = TestRecipe.complex("st");
+        TestRecipe stone = TestRecipe.simple("stone");
+        TestIndex index = getIndex(complex, stone);
+        LastRecipeMatchCache<TestRecipe> cache = new LastRecipeMatchCache<>(1);
+        Criteria criteria = new Criteria("stone");
+        criteria.disabled.add(complex);
+        Assertions.assertSame(stone, index.findFirst("stone", criteria, cache, 0));
+        Assertions.assertNull(cache.get(index, 0, "stone", criteria));
+        criteria.disabled.clear();
+        Assertions.assertSame(complex, index.findFirst("stone", criteria, cache, 0));
+        Assertions.assertSame(complex, cache.get(index, 0, "stone", criteria));
+    }
+
+    @Test
+    @DisplayName("Test the last matches are forgotten when the recipes get reloaded")
+    void testReload() {
+        TestRecipe stone = TestRecipe.simple("stone");
+        TestIndex index = getIndex(stone);
+        LastRecipeMatchCache<TestRecipe> cache = new LastRecipeMatchCache<>(1);
+        Assertions.assertSame(stone, index.findFirst("stone", new Criteria("stone"), cache, 0));
+        //Reloading builds a new index with the new recipes
+        TestRecipe reloaded = TestRecipe.simple("stone");
+        TestIndex reloadedIndex = getIndex(reloaded);
+        Assertions.assertNull(cache.get(reloadedIndex, 0, "stone", new Criteria("stone")));
+        Assertions.assertSame(reloaded, reloadedIndex.findFirst("stone", new Criteria("stone"), cache, 0));
+        Assertions.assertSame(reloaded, cache.get(reloadedIndex, 0, "stone", new Criteria("stone")));
+    }
+
+    @Test
+    @DisplayName("Test inputs that no recipe accepts are remembered so that the recipes don't get checked again")
+    void testNoRecipeInputs() {
+        TestIndex index = getIndex(TestRecipe.simple("stone"), TestRecipe.complex("st"));
+        Criteria criteria = new Criteria("gravel");
+        Assertions.assertNull(index.findFirst("gravel", criteria));
+        Assertions.assertEquals(1, criteria.tested);
+        Assertions.assertNull(index.findFirst("gravel", criteria));
+        Assertions.assertEquals(1, criteria.tested);
+        //Inputs that a complex recipe may accept aren't remembered
+        Criteria stick = new Criteria("stick");
+        stick.disabled.add(index.complex);
+        Assertions.assertNull(index.findFirst("stick", stick));
+        Assertions.assertNull(index.findFirst("stick", stick));
+        Assertions.assertEquals(2, stick.tested);
+    }
+
+    @Test
+    @DisplayName("Test the cache of inputs without recipes forgets the oldest inputs when full")
+    void testNoRecipeInputCacheBound() {
+        NoRecipeInputCache cache = new NoRecipeInputCache();
+        for (int i = 0; i < NoRecipeInputCache.MAX_SIZE; i++) {
+            cache.add(i);
+        }
+        Assertions.assertTrue(cache.contains(0));
+        //Adding an input that is already present doesn't remove anything
+        cache.add(0);
+        Assertions.assertTrue(cache.contains(0));
+        cache.add(NoRecipeInputCache.MAX_SIZE);
+        Assertions.assertFalse(cache.contains(0));
+        Assertions.assertTrue(cache.contains(1));
+        Assertions.assertTrue(cache.contains(NoRecipeInputCache.MAX_SIZE));
+    }
+
+    /**
+     * Matches recipes whose ingredient accepts the input, unless they have been disabled, and counts how many recipes it tested.
+     */
+    private static class Criteria implements Predicate<TestRecipe> {
+
+        private final Set<TestRecipe> disabled = new ObjectOpenHashSet<>();
+        private final String input;
+        private int tested;
+
+        private Criteria(String input) {
+            this.input = input;
+        }
+
+        @Override
+        public boolean test(TestRecipe recipe) {
+            tested++;
+            return !disabled.contains(recipe) && recipe.ingredient.test(input);
+        }
+    }
+
+    /**
+     * Index of recipes by the exact string their ingredient accepts. Complex ingredients accept any string starting with their prefix and can't be indexed.
+     */
+    private static class TestIndex extends InputRecipeIndex<TestRecipe, String, TestIngredient> {
+
+        @Nullable
+        private TestRecipe complex;
+
+        private TestIndex() {
+            super(recipe -> recipe.ingredient);
+        }
+
+        @Override
+        public void build(List<TestRecipe> recipes) {
+            super.build(recipes);
+            for (TestRecipe recipe : recipes) {
+                if (recipe.ingredient.complex) {
+                    complex = recipe;
+                }
+            }
+        }
+
+        @Nullable
+        @Override
+        protected String getKey(@Nonnull Object input) {
+            return input instanceof String ? (String) input : null;
+        }
+
+        @Override
+        protected boolean addKeys(TestIngredient ingredient, Set<String> keys) {
+            if (ingredient.complex) {
+                return false;
+            }
+            keys.add(ingredient.type);
+            return true;
+        }
+
+        @Nullable
+        @Override
+        protected Object getNoRecipeKey(@Nonnull Object input) {
+            return input;
+        }
+
+        @Override
+        protected boolean testType(TestIngredient ingredient, @Nonnull Object input) {
+            return ingredient.testType((String) input);
+        }
+    }
+
+    private static class TestIngredient implements InputIngredient<String> {
+
+        private final String type;
+        private final boolean complex;
+
+        private TestIngredient(String type, boolean complex) {
+            this.type = type;
+            this.complex = complex;
+        }
+
+        @Override
+        public boolean test(String input) {
+            return testType(input);
+        }
+
+        @Override
+        public boolean testType(@Nonnull String input) {
+            return complex ? input.startsWith(type) : input.equals(type);
+        }
+
+        @Override
+        public String getMatchingInstance(String input) {
+            return testType(input) ? input : "";
+        }
+
+        @Nonnull
+        @Override
+        public List<String> getRepresentations() {
+            return Collections.singletonList(type);
+        }
+
+        @Override
+        public void write(PacketBuffer buffer) {
+        }
+
+        @Nonnull
+        @Override
+        public JsonElement serialize() {
+            return new JsonPrimitive(type);
+        }
+    }
+
+    private static class TestRecipe extends MekanismRecipe {
+
+        private static int nextId;
+
+        private final TestIngredient ingredient;
+
+        private TestRecipe(TestIngredient ingredient) {
+            super(new ResourceLocation("mekanism", "test_" + nextId++));
+            this.ingredient = ingredient;
+        }
+
+        private static TestRecipe simple(String type) {
+            return new TestRecipe(new TestIngredient(type, false));
+        }
+
+        private static TestRecipe complex(String prefix) {
+            return new TestRecipe(new TestIngredient(prefix, true));
+        }
+
+        @Override
+        public void write(PacketBuffer buffer) {
+        }
+
+        @Nonnull
+        @Override
+        public IRecipeSerializer<?> getSerializer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Nonnull
+        @Override
+        public IRecipeType<?> getType() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}